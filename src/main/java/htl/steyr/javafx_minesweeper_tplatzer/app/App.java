@@ -29,7 +29,7 @@ public class App extends Application
     public void start(Stage stage)
     {
         // Load user data and start the MenuController with the loaded username and default settings.
-        new MenuController(UserDataManager.loadUserData().getUsername(), "retro", false).start(stage);
+        MenuController.show(stage, UserDataManager.loadUserData().getUsername(), "retro", false);
     }
 
     /**
@@ -1,14 +1,25 @@
 package htl.steyr.javafx_minesweeper_tplatzer.app;
 
+import htl.steyr.javafx_minesweeper_tplatzer.solver.Simulation;
+
+import java.util.Arrays;
+
 /**
  * A simple launcher class to start the Minesweeper application.
  * <p>
  * This class exists to avoid potential JavaFX runtime issues that can occur
  * when directly launching the application from the `App` class.
- * It delegates the launch process to the `App` class.
+ * It delegates the launch process to the `App` class, or to the headless
+ * {@link Simulation} if the first argument is {@link #SIMULATE_FLAG}.
  */
 public class Launcher
 {
+    /**
+     * The command-line flag that runs the headless simulation instead of the game.
+     */
+    public static final String SIMULATE_FLAG = "--simulate";
+
+
     /**
      * Default constructor for the Launcher class.
      * <p>
@@ -22,12 +33,18 @@ public class Launcher
      * The entry point of the application.
      * <p>
      * This method delegates execution to the {@link App#main(String[])} method,
-     * serving as the launcher for the application.
+     * serving as the launcher for the application. With {@link #SIMULATE_FLAG} as the first argument,
+     * the remaining arguments are passed to {@link Simulation#main(String[])} instead and no window is opened.
      *
      * @param args The command-line arguments passed to the program.
      */
     public static void main(String[] args)
     {
+        if (args.length > 0 && args[0].equals(SIMULATE_FLAG))
+        {
+            Simulation.main(Arrays.copyOfRange(args, 1, args.length)); // Plays games headlessly and prints the statistics.
+            return;
+        }
         App.main(args); // Delegates to the main method of the App class.
     }
 }
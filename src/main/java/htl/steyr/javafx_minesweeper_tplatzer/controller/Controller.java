@@ -1,14 +1,31 @@
 package htl.steyr.javafx_minesweeper_tplatzer.controller;
 
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
+import htl.steyr.javafx_minesweeper_tplatzer.model.UserData;
+import htl.steyr.javafx_minesweeper_tplatzer.model.UserDataManager;
 import htl.steyr.javafx_minesweeper_tplatzer.service.MusicPlayer;
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Insets;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
 import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
 import javafx.scene.text.Text;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * The base controller class that provides common functionality for other controllers in the Minesweeper application.
@@ -27,6 +44,11 @@ public class Controller
      */
     private final MusicPlayer soundEffectPlayer = new MusicPlayer();
 
+    /**
+     * The decoded window icons, keyed by style.
+     */
+    private static final Map<String, Image> stageIcons = new HashMap<>();
+
 
     /**
      * Default constructor for the Controller class.
@@ -41,6 +63,7 @@ public class Controller
      * Initializes the given {@link Stage} with a specific style.
      * <p>
      * This method sets the application icon for the stage based on the provided visual style.
+     * Icons are cached, so showing a screen again does not decode the icon again.
      *
      * @param stage The {@link Stage} to be initialized.
      * @param style The visual style of the game (e.g., "retro", "modern"), used to locate the icon resource.
@@ -48,9 +71,13 @@ public class Controller
      */
     protected void initializeStage(Stage stage, String style)
     {
-        // Sets the application icon for the stage using the provided style.
-        stage.getIcons().add(new Image(Objects.requireNonNull(
-                getClass().getResource("/" + style + "/img/icon.png")).toExternalForm()));
+        // Sets the application icon for the stage using the provided style, decoding it only once per style.
+        Image icon = stageIcons.computeIfAbsent(style, key -> new Image(Objects.requireNonNull(
+                getClass().getResource("/" + key + "/img/icon.png")).toExternalForm()));
+        if (!stage.getIcons().equals(List.of(icon)))
+        {
+            stage.getIcons().setAll(icon); // Replaces the icon of the previous style instead of adding another one.
+        }
     }
 
     /**
@@ -92,12 +119,13 @@ public class Controller
      * <p>
      * This method adjusts the window's width and height dynamically based on the selected
      * game mode (e.g., "beginner", "advanced", "pro") and applies specific offsets for the
-     * given style (e.g., "retro" or modern).
+     * given style (e.g., "retro" or modern). Custom game modes are sized to fit their game field,
+     * but never larger than the screen.
      *
      * @param stage    The {@link Stage} whose scene will be switched.
      * @param newScene The {@link Scene} to be displayed in the specified stage.
      * @param gameMode The game mode that determines the dimensions of the window.
-     *                 Must be one of "beginner", "advanced", or "pro".
+     *                 Must be "beginner", "advanced", "pro" or a custom mode (see {@link Difficulty}).
      * @param title    The title to be set for the stage window.
      * @param style    The style applied to the UI, affecting the window's height offset.
      *                 Accepts "retro" for retro styles or other values for modern styles.
@@ -126,13 +154,111 @@ public class Controller
                 windowWidth = 30 * buttonSize + 50;
                 yield height; // Height for pro mode.
             }
-            default -> throw new IllegalArgumentException("Invalid game mode: " + gameMode); // Handles invalid game modes.
+            default -> {
+                Difficulty difficulty = Difficulty.of(gameMode); // Throws for invalid game modes.
+                Rectangle2D screen = Screen.getPrimary().getVisualBounds();
+
+                // Fits the window to the game field, but never beyond the screen.
+                windowWidth = (int) Math.min(difficulty.getColumns() * buttonSize + 50, screen.getWidth());
+                yield (int) Math.min(difficulty.getRows() * buttonSize + ((style.equals("retro")) ? 210 : 230), screen.getHeight());
+            }
         };
 
         // Call the overloaded switchScene method with the calculated dimensions.
         switchScene(stage, newScene, title, windowHeight, windowWidth);
     }
 
+    /**
+     * Shows a dialog that lets the player choose the rows, columns and mines of a custom game.
+     * <p>
+     * The dialog is pre-filled with the custom game the player chose last. When the player confirms,
+     * the chosen configuration is remembered in the {@link UserData} and returned as the name of the
+     * custom {@link Difficulty}.
+     *
+     * @param style The visual style used for the dialog (e.g., "retro", "modern").
+     * @return The name of the chosen custom game mode, or an empty {@link Optional} if the dialog was cancelled.
+     */
+    protected Optional<String> showCustomDifficultyDialog(String style)
+    {
+        UserData userData = UserDataManager.loadUserData();
+        Difficulty initial = (userData.getLastCustomDifficulty() != null)
+                ? Difficulty.of(userData.getLastCustomDifficulty()) // Starts from the last custom game.
+                : Difficulty.custom(30, 50, 300); // Otherwise suggests a larger field than "pro".
+
+        Spinner<Integer> rowsSpinner = createCustomValueSpinner(Difficulty.MIN_SIZE, Difficulty.MAX_SIZE, initial.getRows());
+        Spinner<Integer> columnsSpinner = createCustomValueSpinner(Difficulty.MIN_SIZE, Difficulty.MAX_SIZE, initial.getColumns());
+        Spinner<Integer> minesSpinner = createCustomValueSpinner(1, Difficulty.getMaxMines(Difficulty.MAX_SIZE, Difficulty.MAX_SIZE), initial.getMines());
+
+        // Arranges the labels and spinners in a grid.
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(10));
+        grid.addRow(0, new Label("Rows"), rowsSpinner);
+        grid.addRow(1, new Label("Columns"), columnsSpinner);
+        grid.addRow(2, new Label("Mines"), minesSpinner);
+
+        Dialog<String> dialog = new Dialog<>();
+        dialog.setTitle("Custom Game");
+        dialog.setHeaderText("Up to " + Difficulty.MAX_SIZE + " x " + Difficulty.MAX_SIZE + " cells, leaving at least "
+                + Difficulty.SAFE_CELLS + " cells free of mines.");
+        dialog.getDialogPane().setContent(grid);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        dialog.getDialogPane().getStylesheets().add(
+                Objects.requireNonNull(getClass().getResource("/" + style + "/style/style.css")).toExternalForm());
+
+        // Only allows confirming a valid configuration.
+        Node okButton = dialog.getDialogPane().lookupButton(ButtonType.OK);
+        okButton.disableProperty().bind(Bindings.createBooleanBinding(
+                () -> !Difficulty.isValidCustom(rowsSpinner.getValue(), columnsSpinner.getValue(), minesSpinner.getValue()),
+                rowsSpinner.valueProperty(), columnsSpinner.valueProperty(), minesSpinner.valueProperty()));
+
+        dialog.setResultConverter(buttonType -> (buttonType == ButtonType.OK)
+                ? Difficulty.custom(rowsSpinner.getValue(), columnsSpinner.getValue(), minesSpinner.getValue()).getName()
+                : null);
+
+        Optional<String> result = dialog.showAndWait();
+        result.ifPresent(difficulty ->
+        {
+            userData.setLastCustomDifficulty(difficulty); // Remembers the choice for the next dialog and the menu.
+            UserDataManager.saveUserData(userData);
+        });
+
+        return result;
+    }
+
+    /**
+     * Creates an editable {@link Spinner} for one value of the custom game dialog.
+     * <p>
+     * Typed values are committed when the spinner loses focus, not only when Enter is pressed.
+     *
+     * @param min          The smallest allowed value.
+     * @param max          The largest allowed value.
+     * @param initialValue The value shown initially.
+     * @return The configured {@link Spinner}.
+     */
+    private Spinner<Integer> createCustomValueSpinner(int min, int max, int initialValue)
+    {
+        Spinner<Integer> spinner = new Spinner<>(min, max, initialValue);
+        spinner.setEditable(true); // Allows typing large values directly.
+        spinner.focusedProperty().addListener((observable, wasFocused, isFocused) ->
+        {
+            if (!isFocused)
+            {
+                try
+                {
+                    // Commits the typed text; the value factory clamps it to the allowed range.
+                    spinner.getValueFactory().setValue(spinner.getValueFactory().getConverter().fromString(spinner.getEditor().getText()));
+                } catch (NumberFormatException e)
+                {
+                    spinner.getEditor().setText(String.valueOf(spinner.getValue())); // Restores the last valid value.
+                }
+            }
+        });
+
+        return spinner;
+    }
+
     /**
      * Creates and initializes a {@link Text} element with the specified ID and message.
      * <p>
@@ -205,8 +331,8 @@ public class Controller
     private void centerStage(Stage stage)
     {
         // Gets the screen's width and height.
-        double screenWidth = javafx.stage.Screen.getPrimary().getVisualBounds().getWidth();
-        double screenHeight = javafx.stage.Screen.getPrimary().getVisualBounds().getHeight();
+        double screenWidth = Screen.getPrimary().getVisualBounds().getWidth();
+        double screenHeight = Screen.getPrimary().getVisualBounds().getHeight();
 
         // Gets the stage's width and height.
         double stageWidth = stage.getWidth();
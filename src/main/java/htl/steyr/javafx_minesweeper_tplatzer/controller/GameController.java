@@ -1,20 +1,39 @@
 package htl.steyr.javafx_minesweeper_tplatzer.controller;
 
-import htl.steyr.javafx_minesweeper_tplatzer.model.Cell;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.ChangeSet;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
 import htl.steyr.javafx_minesweeper_tplatzer.model.UserData;
 import htl.steyr.javafx_minesweeper_tplatzer.model.UserDataManager;
+import htl.steyr.javafx_minesweeper_tplatzer.service.BoardPool;
 import htl.steyr.javafx_minesweeper_tplatzer.service.LeaderboardClient;
 import htl.steyr.javafx_minesweeper_tplatzer.service.MusicPlayer;
+import htl.steyr.javafx_minesweeper_tplatzer.solver.Deductions;
+import htl.steyr.javafx_minesweeper_tplatzer.solver.NoGuessGenerator;
+import htl.steyr.javafx_minesweeper_tplatzer.solver.ProbabilityEngine;
+import htl.steyr.javafx_minesweeper_tplatzer.solver.Solver;
+import htl.steyr.javafx_minesweeper_tplatzer.view.BoardView;
+import htl.steyr.javafx_minesweeper_tplatzer.view.CssBenchmark;
+import htl.steyr.javafx_minesweeper_tplatzer.view.DirtyCellQueue;
+import htl.steyr.javafx_minesweeper_tplatzer.view.LatencyMonitor;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.concurrent.Task;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * The {@code GameController} class manages the Minesweeper gameplay, including UI, game logic,
@@ -35,6 +54,42 @@ public class GameController extends Controller
      */
     private static final int maxHBoxHeight = 700;
 
+    /**
+     * The number of cells above which the mines are placed on the {@link #generationExecutor} instead of the
+     * JavaFX Application Thread. Smaller boards are generated within a frame.
+     */
+    private static final int backgroundGenerationThreshold = 1 << 19;
+
+    /**
+     * The number of cells above which the heatmap is not shown. The {@link ProbabilityEngine} runs on the JavaFX
+     * Application Thread after every move, and on larger fields with a long frontier a single computation can take
+     * longer than a frame.
+     */
+    private static final int heatmapCellLimit = 10_000;
+
+    /**
+     * Places the mines of large boards in the background, one board at a time. Its thread is a daemon,
+     * so it never keeps the application alive.
+     */
+    private static final ExecutorService generationExecutor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "board-generation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Keeps boards with their mines already placed for the recently played game modes, so a new game starts without
+     * generating one. Shared by all games; its producer thread is a daemon.
+     */
+    private static final BoardPool boardPool = new BoardPool(BoardPool.DEFAULT_CAPACITY);
+
+    /**
+     * The game mode of the last game that could use the {@link #boardPool}, or {@code null} before the first one.
+     * Only accessed on the JavaFX Application Thread.
+     */
+    private static Difficulty lastPlayedDifficulty;
+
     /**
      * The {@link Scene} object representing the current game scene.
      */
@@ -50,6 +105,11 @@ public class GameController extends Controller
      */
     private MenuBar gameMenuBar;
 
+    /**
+     * The menus and menu items that are disabled when the game ends, collected while the menu bar is built.
+     */
+    private List<MenuItem> endGameDisabledItems;
+
     /**
      * Container for displaying game information such as the timer and remaining flags.
      */
@@ -65,6 +125,11 @@ public class GameController extends Controller
      */
     private Label remainingFlagCounterLabel;
 
+    /**
+     * Observable number of flags the player can still place, shown by the remaining flags label.
+     */
+    private final IntegerProperty remainingFlags = new SimpleIntegerProperty();
+
     /**
      * Button to restart the game.
      */
@@ -91,9 +156,64 @@ public class GameController extends Controller
     private Timeline timer;
 
     /**
-     * The {@link GridPane} that represents the game field.
+     * The {@link BoardView} that displays the game field.
+     */
+    private BoardView boardView;
+
+    /**
+     * Collects the cells changed by the player's input and refreshes them in the {@link #boardView} once per pulse.
+     */
+    private DirtyCellQueue dirtyCells;
+
+    /**
+     * The number of changed cells reported by the board since the last flush of {@link #dirtyCells}.
+     */
+    private int batchedChanges;
+
+    /**
+     * The debug overlay showing how many cells and node mutations the last batch of input caused.
+     */
+    private Label mutationCounterLabel;
+
+    /**
+     * The debug overlay showing the input-to-frame latency of clicks on cells.
+     */
+    private Label latencyLabel;
+
+    /**
+     * The debug overlay showing how the last board was generated.
      */
-    private GridPane gameField;
+    private Label generationStatsLabel;
+
+    /**
+     * Measures the input-to-frame latency of clicks on cells while the latency overlay is shown.
+     */
+    private LatencyMonitor latencyMonitor;
+
+    /**
+     * Deduces the safe cells and mines of the current board for hints, or {@code null} before the first hint.
+     */
+    private Solver solver;
+
+    /**
+     * Computes the mine probabilities of the current board for the heatmap, or {@code null} before it was shown.
+     */
+    private ProbabilityEngine probabilityEngine;
+
+    /**
+     * Flag indicating whether the unrevealed cells are tinted by their mine probability.
+     */
+    private boolean heatmapShown;
+
+    /**
+     * Flag indicating whether new boards are generated so that they can be solved without guessing.
+     */
+    private boolean noGuess;
+
+    /**
+     * The search for a board solvable without guessing that runs or ran last, or {@code null} before the first one.
+     */
+    private NoGuessGenerator noGuessGenerator;
 
     /**
      * The primary {@link Stage} of the application.
@@ -101,7 +221,8 @@ public class GameController extends Controller
     private Stage stage;
 
     /**
-     * The current difficulty level of the game (e.g., "beginner", "advanced", "pro").
+     * The current difficulty level of the game (e.g., "beginner", "advanced", "pro" or a custom mode
+     * such as "custom-30x50-300", see {@link Difficulty}).
      */
     private String difficulty;
 
@@ -126,15 +247,54 @@ public class GameController extends Controller
     private int columns;
 
     /**
-     * List of {@link Cell} objects representing all cells on the game board.
+     * The seed from which the mine positions of the current game are generated.
+     * <p>
+     * Playing the same difficulty with the same seed and the same first click yields the same board.
      */
-    private List<Cell> cells;
+    private long seed;
+
+    /**
+     * Indicates whether the seed was chosen by the caller, e.g. to replay a board. Such games never take a board
+     * from the {@link #boardPool}, which brings a seed of its own.
+     */
+    private boolean fixedSeed;
+
+    /**
+     * The headless {@link Board} holding the state of the current game.
+     */
+    private Board board;
+
+    /**
+     * The number of cells revealed by the most recent reveal or chord, including the whole cascade.
+     */
+    private int lastCascadeSize;
 
     /**
      * Flag indicating whether the first click has been made.
      */
     private boolean firstClick;
 
+    /**
+     * Flag indicating whether the mines are currently placed in the background. Clicks on cells are ignored meanwhile.
+     */
+    private boolean generating;
+
+    /**
+     * The task allocating the board of a large field in the background, or {@code null} if no field is built.
+     */
+    private Task<Board> fieldBuild;
+
+    /**
+     * The node at the position of the game field in the window: the board view's node, or a placeholder while the
+     * board is built.
+     */
+    private Region fieldNode;
+
+    /**
+     * The progress bar shown in the timer box while the mines are placed in the background.
+     */
+    private ProgressBar generationProgressBar;
+
     /**
      * Flag indicating whether the game is muted.
      */
@@ -158,11 +318,30 @@ public class GameController extends Controller
      * @param muted      {@code true} if the game should be muted, {@code false} otherwise.
      */
     public GameController(String username, String difficulty, String style, boolean muted)
+    {
+        this(username, difficulty, style, muted, new SplittableRandom().nextLong()); // Uses a random board.
+        setFixedSeed(false); // Any seed will do, so a pooled board may be used.
+    }
+
+    /**
+     * Constructs a new {@code GameController} that plays the board generated from the specified seed.
+     * <p>
+     * This allows a board to be replayed, for example for seeded challenges or benchmarks.
+     *
+     * @param username   The username of the player.
+     * @param difficulty The difficulty level of the game (e.g., "beginner", "advanced", "pro").
+     * @param style      The visual style/theme of the game (e.g., "retro", "modern").
+     * @param muted      {@code true} if the game should be muted, {@code false} otherwise.
+     * @param seed       The seed from which the mine positions are generated.
+     */
+    public GameController(String username, String difficulty, String style, boolean muted, long seed)
     {
         setUsername(username); // Sets the player's username.
         setDifficulty(difficulty); // Sets the game's difficulty level.
         setStyle(style); // Sets the visual style of the game.
         setMuted(muted); // Sets whether the game is muted.
+        setSeed(seed); // Sets the seed of the board.
+        setFixedSeed(true); // Plays exactly this board.
     }
 
     /**
@@ -214,26 +393,75 @@ public class GameController extends Controller
         getRoot().setMaxSize(GameController.getMaxHBoxWidth(), GameController.getMaxHBoxHeight()); // Sets the maximum size of the window.
         getRoot().prefWidthProperty().bind(getStage().widthProperty()); // Binds the root's preferred width to the stage width.
         getRoot().prefHeightProperty().bind(getStage().heightProperty()); // Binds the root's preferred height to the stage height.
-        getRoot().getChildren().addAll(getGameMenuBar(), getGameInfoBox(), getGameField()); // Adds the game info box and game field to the root container.
+        getRoot().getChildren().addAll(getGameMenuBar(), getGameInfoBox(), getFieldNode(), getMutationCounterLabel(), getLatencyLabel(), getGenerationStatsLabel()); // Adds the game info box, game field and debug overlays to the root container.
         getRoot().getStyleClass().add("root-container"); // Applies a CSS class to the root container.
         getRoot().getStylesheets().addAll(
                 Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/style.css")).toExternalForm(),
                 Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/gameStyle.css")).toExternalForm()); // Adds external stylesheets for the game.
 
         setGameScene(new Scene(getRoot())); // Creates a new scene with the configured root container.
+        setLatencyMonitor(new LatencyMonitor(getGameScene())); // Measures clicks once the latency overlay is enabled.
+        getLatencyMonitor().setOnSample(this::updateLatencyLabel);
         switchScene(getStage(), getGameScene(), getDifficulty(), "Bomb-Disposal-Simulator", getStyle()); // Switches to the game scene with the specified title.
     }
 
     /**
-     * Restarts the game by creating a new {@code GameController} instance and starting a new game session.
+     * Restarts the game in the current window, reusing the scene, the menu bar and, where possible, the cell nodes.
      * <p>
-     * This method stops the background music and initializes a fresh game using the current
-     * player's username, selected difficulty, style, and mute settings.
+     * This method stops the timer and the background music and starts a new game with a new random board using the
+     * current player's username, selected difficulty, style, and mute settings. If the field size and mine count have
+     * not changed, a ready board from the {@link #boardPool} or else the reset existing {@link Board} is shown by the
+     * {@link BoardView}, which updates its nodes in place. Otherwise,
+     * or while a board is still generated in the background, a new board and view replace the old ones in the window.
      */
     private void restartGame()
     {
         stopBackgroundMusic(); // Stops the currently playing background music.
-        new GameController(getUsername(), getDifficulty(), getStyle(), isMuted()).start(getStage()); // Starts a new game instance with the same settings.
+        stopTimer(); // Stops the timer of the previous game.
+        if (getNoGuessGenerator() != null)
+        {
+            getNoGuessGenerator().cancel(); // Frees the cores if a search is still running.
+        }
+        if (getDirtyCells() != null)
+        {
+            getDirtyCells().clear(); // Drops updates of the previous game that were not drawn yet.
+        }
+
+        Difficulty difficulty = Difficulty.of(getDifficulty());
+        boolean sameField = difficulty.getRows() == getRows() && difficulty.getColumns() == getColumns()
+                && difficulty.getMines() == getTotalMines();
+        setSeed(new SplittableRandom().nextLong()); // Uses a new random board.
+        setFixedSeed(false); // A replayed board is only played once.
+        boolean generating = isGenerating();
+        showGenerationProgress(false); // Shows the timer again if a generation was interrupted.
+
+        if (sameField && !generating)
+        {
+            Board pooled = takePooledBoard();
+            if (pooled != null)
+            {
+                setBoard(pooled); // Starts right away with a board generated in the background.
+            } else
+            {
+                getBoard().reset(); // Clears all cells and removes the bombs.
+            }
+            getBoardView().reset(getBoard()); // Shows the empty board with the existing nodes.
+            updateHeatmap(); // Removes the tints of the previous game.
+            updateRemainingFlagsCounter();
+        } else
+        {
+            initializeGameField(); // Creates the board and view for the new size; a running generation is discarded.
+            switchScene(getStage(), getGameScene(), getDifficulty(), "Bomb-Disposal-Simulator", getStyle()); // Resizes the window for the new field.
+        }
+
+        setElapsedTime(0); // Resets the timer to 0.
+        getTimerLabel().setText(formatTime(getElapsedTime()));
+        setFirstClick(true); // Starts the timer again on the first click.
+        setBatchedChanges(0);
+        updateRestartGameButton("neutral");
+
+        if (!isMuted())
+            playBackgroundMusic("background-music", getStyle()); // Plays background music if sound is enabled.
     }
 
     /**
@@ -246,20 +474,17 @@ public class GameController extends Controller
      */
     public void endGame(boolean won)
     {
+        getDirtyCells().flush(); // Shows the final move before the end-of-game markers are drawn.
         stopTimer(); // Stops the game timer.
         stopBackgroundMusic(); // Stops the background music.
 
-        for (int i = 0; i <= 6; i++)
+        for (MenuItem item : getEndGameDisabledItems())
         {
-            getGameMenuBar().getMenus().getFirst().getItems().get(i).setDisable(true); // Disables the first six items in the "Game" menu to prevent further interactions.
+            item.setDisable(true); // Prevents further interactions, see initializeGameMenuBar.
         }
-        getGameMenuBar().getMenus().get(1).getItems().getFirst().setDisable(true); // Disables the first item in the "Sound" menu to prevent toggling sound effects.
 
         getRestartGameButton().setDisable(true); // Disables the restart button to prevent further interactions.
-        for (Cell cell : getCells())
-        {
-            cell.getButton().setDisable(true); // Disables all cells on the game board.
-        }
+        getBoardView().disableCells(); // Disables all cells on the game board.
 
         showIncorrectFlags(); // Highlights any incorrectly flagged cells.
 
@@ -287,7 +512,7 @@ public class GameController extends Controller
         LeaderboardClient client = new LeaderboardClient(); // Creates a leaderboard client.
         try
         {
-            client.submitBestTime(getUsername(), getElapsedTime(), getDifficulty()); // Submits the player's best time to the leaderboard.
+            client.submitBestTime(getUsername(), getElapsedTime(), getDifficulty()); // Submits the player's best time to the leaderboard, custom modes included.
         } catch (Exception e)
         {
             System.err.println(e.getMessage()); // Logs any errors that occur during submission.
@@ -322,21 +547,21 @@ public class GameController extends Controller
         updateRestartGameButton("lose"); // Updates the restart button to display a losing emoji.
 
         // Collects all bomb cells that are not flagged.
-        List<Cell> bombCells = new ArrayList<>();
-        for (Cell cell : getCells())
+        List<Integer> bombCells = new ArrayList<>();
+        for (int index = 0; index < getBoard().getIndexLimit(); index++) // Sentinels are never mines or flagged.
         {
-            if (cell.isBomb() && !cell.isFlagged())
+            if (getBoard().isMine(index) && !getBoard().isFlagged(index))
             {
-                bombCells.add(cell);
+                bombCells.add(index);
             }
         }
 
         if (isMuted())
         {
             // If the game is muted, silently reveal unflagged bombs and transition back to the menu.
-            for (Cell bombCell : bombCells)
+            for (int bombCell : bombCells)
             {
-                bombCell.silentBombReveal(false);
+                getBoardView().showBomb(bombCell);
             }
             new Timeline(new KeyFrame(Duration.seconds(3), event -> switchToMenu())).play();
         } else
@@ -346,12 +571,12 @@ public class GameController extends Controller
             playSoundEffect(bombExplosionSound, getStyle());
 
             Timeline revealBombsTimeLine = new Timeline();
-            for (Cell bombCell : bombCells)
+            for (int bombCell : bombCells)
             {
                 revealBombsTimeLine.getKeyFrames().add(
                         new KeyFrame(
                                 Duration.seconds(MusicPlayer.getSoundEffectDuration(bombExplosionSound, getStyle()) - 0.5),
-                                event -> bombCell.silentBombReveal(false)
+                                event -> getBoardView().showBomb(bombCell)
                         )
                 );
             }
@@ -376,17 +601,16 @@ public class GameController extends Controller
      * Highlights incorrectly flagged cells on the game board.
      * <p>
      * This method iterates through all cells and identifies those that are flagged
-     * but do not contain a bomb. These cells are marked with a "false-flag" icon
-     * and their button styles are updated to indicate they have been revealed.
+     * but do not contain a bomb. The {@link BoardView} marks these cells with a "false-flag" icon
+     * and shows them as revealed.
      */
     private void showIncorrectFlags()
     {
-        for (Cell cell : getCells())
+        for (int index = 0; index < getBoard().getIndexLimit(); index++) // Sentinels are never mines or flagged.
         {
-            if (cell.isFlagged() && !cell.isBomb())
+            if (getBoard().isFlagged(index) && !getBoard().isMine(index))
             {
-                cell.setIconForButton("false-flag"); // Sets an icon to indicate the flag was incorrect.
-                cell.getButton().getStyleClass().add("cell-button-revealed"); // Updates the button style to show it as revealed.
+                getBoardView().showFalseFlag(index); // Indicates that the flag was incorrect.
             }
         }
     }
@@ -401,68 +625,360 @@ public class GameController extends Controller
     {
         UserData userData = UserDataManager.loadUserData(); // Loads the player's user data.
 
-        // Compares and updates the best time based on the current difficulty level.
-        switch (getDifficulty())
+        // Compares and updates the best time for the current difficulty level, including custom modes.
+        if (getElapsedTime() < userData.getBestTime(getDifficulty()))
         {
-            case "beginner" ->
+            userData.setBestTime(getDifficulty(), getElapsedTime()); // Updates the best time.
+        }
+
+        UserDataManager.saveUserData(userData); // Saves the updated user data.
+    }
+
+    /**
+     * Switches from the game scene to the main menu.
+     * <p>
+     * This method stops the background music and shows the main menu of the current style,
+     * which is built once and reused (see {@link MenuController#show(Stage, String, String, boolean)}).
+     * It transfers relevant user data such as username, style, and mute state to the menu.
+     */
+    private void switchToMenu()
+    {
+        stopBackgroundMusic(); // Stops the currently playing background music.
+        MenuController.show(getStage(), getUsername(), getStyle(), isMuted()); // Shows the menu with the current stage and user settings.
+    }
+
+    /**
+     * Checks whether the player has won the game by revealing all non-bomb cells.
+     * <p>
+     * This method asks the {@link Board} whether all cells that do not contain bombs have been revealed.
+     * The board keeps a live count of unrevealed safe cells, so the check takes constant time.
+     * If this condition is met, the game is ended with a win state.
+     */
+    public void checkWinCondition()
+    {
+        if (getBoard().isWon())
+        {
+            endGame(true); // Ends the game with a win state if the condition is met.
+        }
+    }
+
+    /**
+     * Handles a click on a cell of the {@link BoardView}.
+     * <p>
+     * The first click starts the game timer. A left-click reveals the cell, a right-click toggles its flag state
+     * and a middle-click reveals the neighbours of a satisfied number. Both renderers call this method directly
+     * from their mouse handlers, so it also starts the measurement of the {@link LatencyMonitor}.
+     *
+     * @param index  The board index of the clicked cell.
+     * @param button The mouse button that was clicked.
+     */
+    public void handleCellClick(int index, MouseButton button)
+    {
+        if (isGenerating())
+        {
+            return; // The board is not ready yet.
+        }
+
+        getLatencyMonitor().inputReceived(); // Timestamps the click if the latency overlay is enabled.
+        if (isFirstClick()) // Starts the game timer on the first click.
+        {
+            startTimer();
+            setFirstClick(false);
+        }
+
+        switch (button) // Handles left, right and middle mouse clicks.
+        {
+            case MouseButton.PRIMARY -> revealCell(index);   // Left-click reveals the cell.
+            case MouseButton.SECONDARY -> toggleFlag(index); // Right-click toggles the flag state.
+            case MouseButton.MIDDLE -> chordCell(index);     // Middle-click reveals the neighbours of a satisfied number.
+        }
+        getLatencyMonitor().modelUpdated(); // The board is updated and the changed cells are marked.
+    }
+
+    /**
+     * Shows the nervous face on the restart button while the player holds a mouse button on a cell.
+     *
+     * @param event The mouse press on a cell.
+     */
+    public void cellPressed(MouseEvent event)
+    {
+        if (event.isPrimaryButtonDown() || event.isSecondaryButtonDown())
+        {
+            updateRestartGameButton("nervous"); // Updates the restart button to "nervous" on mouse press.
+        }
+    }
+
+    /**
+     * Restores the neutral face on the restart button once the player releases the mouse button.
+     *
+     * @param event The mouse release on a cell.
+     */
+    public void cellReleased(MouseEvent event)
+    {
+        if (!event.isPrimaryButtonDown() || !event.isSecondaryButtonDown())
+        {
+            updateRestartGameButton("neutral"); // Resets the restart button to "neutral" on mouse release.
+        }
+    }
+
+    /**
+     * Reveals the specified cell on the board and updates the affected cells.
+     * <p>
+     * If a bomb is revealed, the game is lost; otherwise the win condition is checked. The first reveal of a game
+     * places the mines first, see {@link #generateBoard(int)}. The first reveal then moves the mines out of the clicked
+     * cell and its neighbours, which also covers boards from the {@link #boardPool} that already have their mines.
+     *
+     * @param index The board index of the cell the player clicked.
+     */
+    public void revealCell(int index)
+    {
+        if (!getBoard().isMinesPlaced())
+        {
+            generateBoard(index); // Places the mines from the seed, then reveals the cell.
+            return;
+        }
+        if (getBoard().isUntouched())
+        {
+            getBoard().clearSafeArea(index, getSeed()); // Keeps the first click and its neighbours safe, see Board#generate.
+        }
+
+        ChangeSet changes = getBoard().reveal(index); // Reveals the cell and any cascade.
+        setLastCascadeSize(changes.size()); // Records how many cells the click revealed.
+        applyCascade(changes); // Updates the buttons of all changed cells, rippling out from the clicked cell.
+
+        if (changes.isExploded())
+        {
+            endGame(false); // Ends the game if a bomb was revealed.
+        } else if (!changes.isEmpty())
+        {
+            checkWinCondition(); // Checks if the player has won the game.
+        }
+        updateHeatmap(); // The revealed numbers change the probabilities.
+    }
+
+    /**
+     * Places the mines so that the first clicked cell and its neighbours are free of bombs, then reveals the cell.
+     * <p>
+     * The board is generated with {@link Board#generate(long, int, java.util.function.DoubleConsumer)}: the bombs are
+     * placed from the game's {@link #getSeed() seed} alone and then moved out of the clicked cell and its neighbours,
+     * the same steps a board from the {@link #boardPool} takes before and on its first reveal. Either way, the seed and
+     * the first click reproduce the board, also in the {@link htl.steyr.javafx_minesweeper_tplatzer.solver.Simulation}.
+     * Boards with up to {@link #backgroundGenerationThreshold} cells are generated right away. Larger boards are
+     * generated on a background thread while a progress bar replaces the paused timer and clicks on cells are ignored;
+     * the cell is revealed once the board is ready, unless the player has left the game in the meantime.
+     * <p>
+     * In the "No Guessing" mode, a {@link NoGuessGenerator} first searches on all cores for a seed whose board can be
+     * solved from the clicked cell by logic alone, always in the background. If none is found within its time limit,
+     * the regular board of the game's seed is used. The search statistics are shown in the generation overlay.
+     *
+     * @param index The board index of the first cell to reveal.
+     */
+    private void generateBoard(int index)
+    {
+        if (!isNoGuess() && getBoard().getSize() <= backgroundGenerationThreshold)
+        {
+            getBoard().generate(getSeed(), index, null); // Places bombs reproducibly around the first click.
+            revealCell(index);
+            return;
+        }
+
+        Board board = getBoard();
+        NoGuessGenerator generator = isNoGuess() ? new NoGuessGenerator(getRows(), getColumns(), getTotalMines()) : null;
+        setNoGuessGenerator(generator);
+        long seed = getSeed();
+        Task<Void> generation = new Task<>()
+        {
+            @Override
+            protected Void call()
             {
-                if (getElapsedTime() < userData.getBeginnerBestTime())
+                if (generator != null)
                 {
-                    userData.setBeginnerBestTime(getElapsedTime()); // Updates the beginner best time.
+                    updateProgress(-1, 1); // The number of candidates needed is unknown.
+                    OptionalLong noGuessSeed = generator.generate(seed, index);
+                    if (noGuessSeed.isPresent())
+                    {
+                        // No-guess boards are searched with the first click kept free.
+                        board.placeMines(new SplittableRandom(noGuessSeed.getAsLong()), index, progress -> updateProgress(progress, 1));
+                        return null;
+                    }
                 }
+                // The regular board of the seed, also if no no-guess board was found.
+                board.generate(seed, index, progress -> updateProgress(progress, 1)); // Also moves the bombs out of the clicked area.
+                return null;
+            }
+        };
+
+        generation.setOnSucceeded(event ->
+        {
+            if (board != getBoard())
+            {
+                return; // The game was restarted with a new board in the meantime.
             }
-            case "advanced" ->
+
+            showGenerationProgress(false);
+            if (generator != null)
             {
-                if (getElapsedTime() < userData.getAdvancedBestTime())
-                {
-                    userData.setAdvancedBestTime(getElapsedTime()); // Updates the advanced best time.
-                }
+                getGenerationStatsLabel().setText(generator.summarize()); // Reports the search in the debug overlay.
             }
-            case "pro" ->
+            getTimer().play(); // The game starts once the board is ready.
+            if (getStage().getScene() == getGameScene()) // Skips the reveal if the player has left this game.
             {
-                if (getElapsedTime() < userData.getProBestTime())
-                {
-                    userData.setProBestTime(getElapsedTime()); // Updates the pro best time.
-                }
+                revealCell(index);
             }
+        });
+        generation.setOnFailed(event ->
+        {
+            if (board == getBoard())
+            {
+                showGenerationProgress(false);
+            }
+            System.err.println("Board generation failed: " + generation.getException().getMessage());
+        });
+
+        getGenerationProgressBar().progressProperty().bind(generation.progressProperty());
+        showGenerationProgress(true);
+        getTimer().pause(); // Waiting for the board does not count towards the player's time.
+        generationExecutor.execute(generation); // Places the mines without blocking the window.
+    }
+
+    /**
+     * Shows or hides the progress bar of the background board generation in place of the timer.
+     *
+     * @param generating {@code true} while the mines are placed in the background, {@code false} afterwards.
+     */
+    private void showGenerationProgress(boolean generating)
+    {
+        setGenerating(generating); // Ignores clicks on cells while the board is not ready.
+        getGenerationProgressBar().setVisible(generating);
+        getTimerLabel().setVisible(!generating);
+
+        if (!generating)
+        {
+            getGenerationProgressBar().progressProperty().unbind();
         }
+    }
 
-        UserDataManager.saveUserData(userData); // Saves the updated user data.
+    /**
+     * Cycles the flag state of the specified cell and updates the remaining flags counter.
+     *
+     * @param index The board index of the cell the player right-clicked.
+     */
+    public void toggleFlag(int index)
+    {
+        ChangeSet changes = getBoard().toggleFlag(index); // Cycles flagged, questioned and unmarked.
+        if (changes.isEmpty())
+        {
+            return; // Revealed cells cannot be flagged.
+        }
+
+        applyChanges(changes); // Updates the icon of the cell.
+        updateRemainingFlagsCounter(); // Updates the displayed count of remaining flags.
     }
 
     /**
-     * Switches from the game scene to the main menu.
-     * <p>
-     * This method stops the background music and initializes a new {@link MenuController}
-     * to display the main menu. It transfers relevant user data such as username, style,
-     * and mute state to the menu controller.
+     * Reveals the neighbours of a revealed number cell once all of its adjacent bombs are flagged.
+     *
+     * @param index The board index of the cell the player middle-clicked.
      */
-    private void switchToMenu()
+    public void chordCell(int index)
     {
-        stopBackgroundMusic(); // Stops the currently playing background music.
-        new MenuController(getUsername(), getStyle(), isMuted()).start(getStage()); // Starts the menu controller with the current stage and user settings.
+        ChangeSet changes = getBoard().chord(index); // Reveals the unflagged neighbours.
+        setLastCascadeSize(changes.size()); // Records how many cells the chord revealed.
+        applyCascade(changes); // Updates the buttons of all changed cells, rippling out from the chorded cell.
+
+        if (changes.isExploded())
+        {
+            endGame(false); // Ends the game if a wrongly placed flag exposed a bomb.
+        } else if (!changes.isEmpty())
+        {
+            checkWinCondition(); // Checks if the player has won the game.
+        }
+        updateHeatmap(); // The revealed numbers change the probabilities.
     }
 
     /**
-     * Checks whether the player has won the game by revealing all non-bomb cells.
+     * Marks all cells listed in the given change set as dirty, so the {@link BoardView} refreshes them on the next pulse.
+     *
+     * @param changes The {@link ChangeSet} returned by a {@link Board} operation.
+     */
+    private void applyChanges(ChangeSet changes)
+    {
+        setBatchedChanges(getBatchedChanges() + changes.size()); // Counts the changes including duplicates for the debug overlay.
+        getDirtyCells().markDirty(changes); // Refreshes each cell once, right before the next frame.
+    }
+
+    /**
+     * Marks the cells revealed by a cascade as dirty, so the {@link BoardView} refreshes them progressively.
      * <p>
-     * This method iterates through all cells on the game board and determines if all cells
-     * that do not contain bombs have been revealed. If this condition is met, the game is ended
-     * with a win state.
+     * The board has already been updated completely; only drawing is spread over several pulses under the frame
+     * budget of the {@link DirtyCellQueue}. With "Reveal Instantly" selected, the budget is unlimited and the
+     * whole cascade is drawn in the next pulse.
+     *
+     * @param changes The {@link ChangeSet} returned by a reveal, in breadth-first order from the clicked cell.
      */
-    public void checkWinCondition()
+    private void applyCascade(ChangeSet changes)
     {
-        // Checks if all non-bomb cells have been revealed.
-        boolean allNotBombCellsRevealed = getCells().stream()
-                .filter(cell -> !cell.isBomb()) // Filters out bomb cells.
-                .allMatch(Cell::isRevealed); // Ensures all remaining cells are revealed.
+        setBatchedChanges(getBatchedChanges() + changes.size()); // Counts the changes including duplicates for the debug overlay.
+        getDirtyCells().markRipple(changes); // Refreshes the cells in reveal order over the next pulses.
+    }
 
-        if (allNotBombCellsRevealed)
+    /**
+     * Switches between drawing cascades progressively and in a single frame, and saves the choice.
+     *
+     * @param revealInstantly {@code true} to draw cascades in a single frame, {@code false} to let them ripple out.
+     */
+    private void changeRevealInstantly(boolean revealInstantly)
+    {
+        UserData userData = UserDataManager.loadUserData();
+        userData.setRevealInstantly(revealInstantly); // Remembers the choice for the following games.
+        UserDataManager.saveUserData(userData);
+
+        if (getDirtyCells() != null)
         {
-            endGame(true); // Ends the game with a win state if the condition is met.
+            getDirtyCells().setFrameBudgetNanos(frameBudgetFor(revealInstantly));
+        }
+    }
+
+    /**
+     * Returns the time each pulse may spend on drawing a cascade.
+     *
+     * @param revealInstantly {@code true} if cascades are drawn in a single frame.
+     * @return The frame budget in nanoseconds.
+     */
+    private static long frameBudgetFor(boolean revealInstantly)
+    {
+        return revealInstantly ? Long.MAX_VALUE : DirtyCellQueue.DEFAULT_FRAME_BUDGET_NANOS;
+    }
+
+    /**
+     * Shows the statistics of the batch that is being applied to the {@link BoardView} in the debug overlay.
+     * <p>
+     * A batch covers everything from a click until its ripple is drawn completely, so the totals of a progressively
+     * revealed cascade grow over several pulses and then stay until the next click.
+     */
+    private void updateMutationCounter()
+    {
+        getMutationCounterLabel().setText(String.format("Changed cells: %d | Refreshed cells: %d | Node mutations: %d | Pulses: %d%s",
+                getBatchedChanges(), getDirtyCells().getBatchFlushedCells(), getDirtyCells().getBatchMutations(),
+                getDirtyCells().getBatchFlushes(), getDirtyCells().isBatchOpen() ? " (rippling)" : ""));
+        if (!getDirtyCells().isBatchOpen())
+        {
+            setBatchedChanges(0); // Starts counting the next batch.
+        }
+        if (getLatencyMonitor() != null)
+        {
+            getLatencyMonitor().cellsFlushed(getDirtyCells().getLastFlushNanos()); // Reports the node update time of the click.
         }
     }
 
+    /**
+     * Shows the latest latency percentiles and the size of the last cascade in the debug overlay.
+     */
+    private void updateLatencyLabel()
+    {
+        getLatencyLabel().setText(getLatencyMonitor().summarize() + " | Cascade " + getLastCascadeSize());
+    }
+
     /**
      * Initializes and configures the main user interface elements of the game.
      * <p>
@@ -474,6 +990,60 @@ public class GameController extends Controller
         initializeGameMenuBar(); // Initializes the menu bar with game-related options.
         initializeGameInfoBox(); // Sets up the information box to display game-related statistics and controls.
         initializeGameField(); // Configures the game field where the gameplay takes place.
+        initializeMutationCounterLabel(); // Prepares the hidden debug overlay.
+        initializeLatencyLabel(); // Prepares the hidden latency overlay.
+        initializeGenerationStatsLabel(); // Prepares the hidden generation overlay.
+    }
+
+    /**
+     * Initializes the debug overlay showing the input-to-frame latency of clicks on cells.
+     * <p>
+     * The label is hidden until it is enabled in the "Debug" menu and takes no space while hidden.
+     */
+    private void initializeLatencyLabel()
+    {
+        setLatencyLabel(new Label("Input to frame: click a cell to measure"));
+        getLatencyLabel().getStyleClass().add("debug-label"); // Allows the stylesheets to style the overlay.
+        getLatencyLabel().setVisible(false); // Hidden until enabled in the "Debug" menu.
+        getLatencyLabel().managedProperty().bind(getLatencyLabel().visibleProperty()); // Takes no space while hidden.
+    }
+
+    /**
+     * Shows or hides the latency overlay and starts or stops measuring clicks accordingly.
+     *
+     * @param visible {@code true} to show the overlay, {@code false} to hide it.
+     */
+    private void showLatencyOverlay(boolean visible)
+    {
+        getLatencyLabel().setVisible(visible);
+        getLatencyMonitor().setEnabled(visible); // Listens to the pulses only while the overlay is shown.
+    }
+
+    /**
+     * Initializes the debug overlay reporting how the last board was generated, e.g. the candidates the no-guess
+     * search needed.
+     * <p>
+     * The label is hidden until it is enabled in the "Debug" menu and takes no space while hidden.
+     */
+    private void initializeGenerationStatsLabel()
+    {
+        setGenerationStatsLabel(new Label("Generation: no board generated yet"));
+        getGenerationStatsLabel().getStyleClass().add("debug-label"); // Allows the stylesheets to style the overlay.
+        getGenerationStatsLabel().setVisible(false); // Hidden until enabled in the "Debug" menu.
+        getGenerationStatsLabel().managedProperty().bind(getGenerationStatsLabel().visibleProperty()); // Takes no space while hidden.
+    }
+
+    /**
+     * Initializes the debug overlay counting the cells and node mutations caused by each batch of input.
+     * <p>
+     * The label is hidden until it is enabled in the "Debug" menu and takes no space while hidden.
+     */
+    private void initializeMutationCounterLabel()
+    {
+        setMutationCounterLabel(new Label("Changed cells: 0 | Refreshed cells: 0 | Node mutations: 0 | Pulses: 0"));
+        getMutationCounterLabel().getStyleClass().add("debug-label"); // Allows the stylesheets to style the overlay.
+        getMutationCounterLabel().setVisible(false); // Hidden until enabled in the "Debug" menu.
+        getMutationCounterLabel().managedProperty().bind(getMutationCounterLabel().visibleProperty()); // Takes no space while hidden.
     }
 
     /**
@@ -486,6 +1056,7 @@ public class GameController extends Controller
     private void initializeGameMenuBar()
     {
         setGameMenuBar(new MenuBar()); // Creates a new menu bar for the game.
+        setEndGameDisabledItems(new ArrayList<>()); // Collects the items that are locked once the game ends.
 
         // Create the "Game" menu
         Menu gameMenu = new Menu("Game");
@@ -502,6 +1073,11 @@ public class GameController extends Controller
         newGame.setOnAction(e -> restartGame()); // Sets the action to restart the game when selected.
         gameMenu.getItems().add(newGame);
 
+        // Create the "Hint" menu item, which plays a move that follows from the revealed numbers
+        MenuItem hint = new MenuItem("Hint");
+        hint.setOnAction(e -> showHint());
+        gameMenu.getItems().add(hint);
+
         // Create the "Back to Menu" menu item for returning to the main menu
         MenuItem backToMenu = new MenuItem("Back to Menu");
         backToMenu.setOnAction(e -> switchToMenu()); // Sets the action to switch to the main menu.
@@ -516,11 +1092,29 @@ public class GameController extends Controller
         gameModes.forEach((difficulty, menuItem) ->
         {
             menuItem.setToggleGroup(gameModeGroup); // Add the menu item to the toggle group.
+            menuItem.setUserData(difficulty); // Remembers the difficulty of the menu item.
             menuItem.setSelected(difficulty.equalsIgnoreCase(getDifficulty())); // Selects the current game difficulty.
             menuItem.setOnAction(e -> changeDifficulty(difficulty)); // Sets the action to change difficulty.
             gameMenu.getItems().add(menuItem);
         });
 
+        // Add the custom game mode, which asks for the field size before restarting
+        RadioMenuItem customMode = new RadioMenuItem("Custom...");
+        customMode.setToggleGroup(gameModeGroup);
+        customMode.setUserData(Difficulty.CUSTOM);
+        customMode.setSelected(Difficulty.of(getDifficulty()).isCustom()); // Selected while a custom game is running.
+        customMode.setOnAction(e -> chooseCustomDifficulty(customMode));
+        gameMenu.getItems().add(customMode);
+
+        // Add the "No Guessing" option, which only generates boards that can be solved by logic alone
+        CheckMenuItem noGuessing = new CheckMenuItem("No Guessing");
+        noGuessing.setSelected(UserDataManager.loadUserData().isNoGuess());
+        noGuessing.setOnAction(e -> changeNoGuess(noGuessing.isSelected())); // Applies from the next first click.
+        gameMenu.getItems().add(noGuessing);
+
+        // Everything up to here would change or restart the finished game, so it is disabled when the game ends
+        getEndGameDisabledItems().addAll(gameMenu.getItems());
+
         // Add another separator before other options
         SeparatorMenuItem separator2 = new SeparatorMenuItem();
         separator2.setDisable(true);
@@ -547,15 +1141,123 @@ public class GameController extends Controller
         soundEffects.setSelected(!isMuted()); // Sets the initial state based on whether sound is muted.
         soundEffects.setOnAction(e -> toggleSoundEffects(!soundEffects.isSelected())); // Toggles sound effects on or off.
         soundMenu.getItems().add(soundEffects);
+        getEndGameDisabledItems().add(soundEffects); // Sound effects cannot be toggled after the game has ended.
+
+        // Create the "View" menu for choosing how the game field is drawn
+        Menu viewMenu = new Menu("View");
+        ToggleGroup rendererGroup = new ToggleGroup();
+        String renderer = Objects.requireNonNullElse(UserDataManager.loadUserData().getBoardRenderer(), BoardView.RENDERER_AUTO);
+        Map<String, String> renderers = new LinkedHashMap<>();
+        renderers.put(BoardView.RENDERER_AUTO, "Automatic");
+        renderers.put(BoardView.RENDERER_BUTTONS, "Buttons");
+        renderers.put(BoardView.RENDERER_CANVAS, "Canvas");
+        renderers.forEach((name, text) ->
+        {
+            RadioMenuItem menuItem = new RadioMenuItem(text);
+            menuItem.setToggleGroup(rendererGroup);
+            menuItem.setSelected(name.equals(renderer)); // Selects the saved renderer.
+            menuItem.setOnAction(e -> changeBoardRenderer(name)); // Redraws the running game with the chosen renderer.
+            viewMenu.getItems().add(menuItem);
+        });
+        CheckMenuItem revealInstantly = new CheckMenuItem("Reveal Instantly");
+        revealInstantly.setSelected(UserDataManager.loadUserData().isRevealInstantly());
+        revealInstantly.setOnAction(e -> changeRevealInstantly(revealInstantly.isSelected())); // Draws cascades in a single frame while selected.
+        CheckMenuItem heatmap = new CheckMenuItem("Mine Probabilities");
+        heatmap.setSelected(isHeatmapShown());
+        heatmap.setOnAction(e -> showHeatmap(heatmap.isSelected())); // Tints the unrevealed cells while selected.
+        viewMenu.getItems().addAll(new SeparatorMenuItem(), revealInstantly, heatmap);
+        getEndGameDisabledItems().add(viewMenu); // A new view would lose the end-of-game markers.
+
+        // Create the "Debug" menu with diagnostic overlays
+        Menu debugMenu = new Menu("Debug");
+        CheckMenuItem mutationCounter = new CheckMenuItem("Mutation Counter");
+        mutationCounter.setOnAction(e -> getMutationCounterLabel().setVisible(mutationCounter.isSelected())); // Shows or hides the overlay.
+        debugMenu.getItems().add(mutationCounter);
+        CheckMenuItem latencyOverlay = new CheckMenuItem("Latency HUD");
+        latencyOverlay.setOnAction(e -> showLatencyOverlay(latencyOverlay.isSelected())); // Measures clicks while selected.
+        debugMenu.getItems().add(latencyOverlay);
+        CheckMenuItem generationStats = new CheckMenuItem("Generation Stats");
+        generationStats.setOnAction(e -> getGenerationStatsLabel().setVisible(generationStats.isSelected())); // Shows or hides the overlay.
+        debugMenu.getItems().add(generationStats);
+        MenuItem cssBenchmark = new MenuItem("CSS Benchmark");
+        cssBenchmark.setOnAction(e -> showCssBenchmark()); // Measures the CSS pass time of a fully revealed pro board.
+        debugMenu.getItems().add(cssBenchmark);
+
+        // Add the "Game", "Sound", "View" and "Debug" menus to the menu bar
+        getGameMenuBar().getMenus().addAll(gameMenu, soundMenu, viewMenu, debugMenu);
+    }
+
+    /**
+     * Plays one move the {@link Solver} can prove from the revealed numbers, as if the player had clicked it.
+     * <p>
+     * A proven safe cell is revealed if there is one, otherwise a proven mine is flagged. Before the first click any
+     * cell is safe, so the centre of the board is revealed. If nothing follows from the revealed numbers, a dialog
+     * tells the player that a guess is needed.
+     */
+    private void showHint()
+    {
+        if (isGenerating() || getBoard().isWon() || getBoard().isLost())
+        {
+            return; // The board is not ready yet or the game is over.
+        }
+
+        if (!getBoard().isMinesPlaced() || getBoard().isUntouched())
+        {
+            handleCellClick(getBoard().index(getRows() / 2, getColumns() / 2), MouseButton.PRIMARY);
+            return;
+        }
+
+        if (getSolver() == null || getSolver().getBoard() != getBoard())
+        {
+            setSolver(new Solver(getBoard())); // Boards are replaced when the field size changes.
+        }
+        Deductions deductions = getSolver().solve();
 
-        // Add the "Game" and "Sound" menus to the menu bar
-        getGameMenuBar().getMenus().addAll(gameMenu, soundMenu);
+        for (int i = 0; i < deductions.getSafeCount(); i++)
+        {
+            if (!getBoard().isFlagged(deductions.getSafe(i))) // Flagged cells cannot be revealed.
+            {
+                handleCellClick(deductions.getSafe(i), MouseButton.PRIMARY);
+                return;
+            }
+        }
+        for (int i = 0; i < deductions.getMineCount(); i++)
+        {
+            int mine = deductions.getMine(i);
+            if (!getBoard().isFlagged(mine) && !getBoard().isQuestioned(mine))
+            {
+                handleCellClick(mine, MouseButton.SECONDARY);
+                return;
+            }
+        }
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION, "Nothing more follows from the revealed numbers. The next move is a guess.");
+        alert.setTitle("Hint");
+        alert.setHeaderText("No certain move");
+        alert.getDialogPane().getStylesheets().add(
+                Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/style.css")).toExternalForm());
+        alert.initOwner(getStage());
+        alert.showAndWait();
+    }
+
+    /**
+     * Runs the {@link CssBenchmark} for the current style and shows its result in a dialog.
+     */
+    private void showCssBenchmark()
+    {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION, CssBenchmark.run(getStyle()));
+        alert.setTitle("CSS Benchmark");
+        alert.setHeaderText("CSS pass time of the button renderer");
+        alert.getDialogPane().getStylesheets().add(
+                Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/style.css")).toExternalForm());
+        alert.initOwner(getStage());
+        alert.showAndWait();
     }
 
     /**
      * Changes the game's difficulty level and restarts the game.
      * <p>
-     * This method updates the current difficulty level and triggers a game restart
+     * This method updates the current difficulty level and restarts the game in the current window
      * to apply the new difficulty setting.
      *
      * @param difficulty A {@link String} representing the desired difficulty level.
@@ -564,6 +1266,7 @@ public class GameController extends Controller
      *                       <li><code>"beginner"</code>: Sets the game to beginner difficulty.</li>
      *                       <li><code>"advanced"</code>: Sets the game to advanced difficulty.</li>
      *                       <li><code>"pro"</code>: Sets the game to pro difficulty.</li>
+     *                       <li><code>"custom-&lt;rows&gt;x&lt;columns&gt;-&lt;mines&gt;"</code>: Sets a custom game.</li>
      *                   </ul>
      */
     private void changeDifficulty(String difficulty)
@@ -572,6 +1275,115 @@ public class GameController extends Controller
         restartGame(); // Restarts the game to apply the new difficulty.
     }
 
+    /**
+     * Switches the renderer of the game field while keeping the running game.
+     * <p>
+     * The choice is saved in the user data and used for all following games. The new {@link BoardView}
+     * is created for the current {@link Board}, so the game continues where it was.
+     *
+     * @param renderer The renderer name ({@link BoardView#RENDERER_AUTO}, {@link BoardView#RENDERER_BUTTONS}
+     *                 or {@link BoardView#RENDERER_CANVAS}).
+     */
+    private void changeBoardRenderer(String renderer)
+    {
+        UserData userData = UserDataManager.loadUserData();
+        userData.setBoardRenderer(renderer); // Remembers the renderer for the following games.
+        UserDataManager.saveUserData(userData);
+
+        if (getBoard() == null)
+        {
+            return; // The board is still built; it is shown with the saved renderer.
+        }
+
+        setBoardView(BoardView.create(renderer, this, getBoard(), getStyle())); // Draws the current board with the new renderer.
+        getDirtyCells().clear(); // The new view already shows the current state.
+        getDirtyCells().setView(getBoardView());
+        replaceField(getBoardView().getNode()); // Replaces the old view in the window.
+        updateHeatmap(); // Shows the heatmap in the new view.
+    }
+
+    /**
+     * Switches between fully random boards and boards that can be solved without guessing, and saves the choice.
+     * <p>
+     * The mines are placed on the first click, so the choice also applies to a game that has not been started yet.
+     * A board from the {@link #boardPool} of such a game is cleared, so its mines are placed around the first click.
+     *
+     * @param noGuess {@code true} to generate boards solvable by logic alone, {@code false} for random boards.
+     */
+    private void changeNoGuess(boolean noGuess)
+    {
+        UserData userData = UserDataManager.loadUserData();
+        userData.setNoGuess(noGuess); // Remembers the choice for the following games.
+        UserDataManager.saveUserData(userData);
+        setNoGuess(noGuess);
+
+        if (noGuess && !isGenerating() && getBoard().isMinesPlaced() && getBoard().isUntouched())
+        {
+            getBoard().reset(); // Removes the mines of the pooled board.
+            getBoardView().reset(getBoard()); // Drops flags set before the first click.
+            updateRemainingFlagsCounter();
+        }
+    }
+
+    /**
+     * Shows or hides the heatmap tinting the unrevealed cells by their probability to contain a mine.
+     *
+     * @param heatmapShown {@code true} to show the heatmap, {@code false} to hide it.
+     */
+    private void showHeatmap(boolean heatmapShown)
+    {
+        setHeatmapShown(heatmapShown);
+        if (heatmapShown)
+        {
+            updateHeatmap();
+        } else if (getBoardView() != null)
+        {
+            getBoardView().showProbabilities(null); // Removes the tints.
+        }
+    }
+
+    /**
+     * Recomputes the mine probabilities and shows them in the heatmap, if it is shown.
+     * <p>
+     * The {@link ProbabilityEngine} only reads the revealed cells, so this is called after every reveal. Before the
+     * first click, after the game has ended and for positions too complex to evaluate, the tints are removed. Fields
+     * with more than {@link #heatmapCellLimit} cells show no heatmap, so large games do not stall on every move.
+     */
+    private void updateHeatmap()
+    {
+        if (!isHeatmapShown() || getBoard() == null || getBoard().getSize() > heatmapCellLimit)
+        {
+            return; // Views of large fields never receive probabilities, so there are no tints to remove.
+        }
+
+        if (getProbabilityEngine() == null || getProbabilityEngine().getBoard() != getBoard())
+        {
+            setProbabilityEngine(new ProbabilityEngine(getBoard())); // Boards are replaced when the field size changes.
+        }
+        getBoardView().showProbabilities(getProbabilityEngine().compute());
+    }
+
+    /**
+     * Lets the player choose the size and mine count of a custom game and restarts with it.
+     * <p>
+     * If the player cancels the dialog, the menu selection is reset to the current game mode.
+     *
+     * @param customMode The "Custom..." menu item that triggered the dialog.
+     */
+    private void chooseCustomDifficulty(RadioMenuItem customMode)
+    {
+        Optional<String> difficulty = showCustomDifficultyDialog(getStyle());
+        if (difficulty.isPresent())
+        {
+            changeDifficulty(difficulty.get()); // Restarts with the chosen custom game.
+        } else
+        {
+            // Restores the previous selection when the dialog is cancelled.
+            String current = Difficulty.of(getDifficulty()).isCustom() ? Difficulty.CUSTOM : getDifficulty();
+            customMode.getToggleGroup().getToggles().forEach(toggle -> toggle.setSelected(current.equals(toggle.getUserData())));
+        }
+    }
+
     /**
      * Toggles the sound effects in the game based on the muted state.
      * <p>
@@ -599,12 +1411,12 @@ public class GameController extends Controller
     /**
      * Displays the leaderboard window.
      * <p>
-     * This method creates a new instance of {@link LeaderboardController}, passing the current style,
-     * and starts it to show the global leaderboard in a new window.
+     * This method shows the leaderboard window of the current style, which is built on the first call
+     * and reloads its entries every time it is shown.
      */
     private void showLeaderboardWindow()
     {
-        new LeaderboardController(getStyle()).start(); // Creates and starts the leaderboard window with the current style.
+        LeaderboardController.show(getStyle()); // Shows the leaderboard window with the current style.
     }
 
     /**
@@ -660,50 +1472,47 @@ public class GameController extends Controller
     /**
      * Initializes the label displaying the remaining flags count.
      * <p>
-     * This method creates a {@link Label} to show the number of remaining flags,
-     * applies styles to it, and sets its initial value based on the total number of mines.
+     * This method creates a {@link Label} whose text and ID are bound to the observable
+     * {@link #remainingFlagsProperty() remaining flags counter}, so the label updates itself whenever
+     * the counter changes. The click handler that reveals all unflagged cells once the counter reaches
+     * zero is registered here, exactly once.
      */
     private void initializeRemainingFlagsCounterLabel()
     {
-        setRemainingFlagCounterLabel(new Label(formatCounter(getTotalMines()))); // Creates the label with the initial count of total mines.
+        setRemainingFlagCounterLabel(new Label()); // Creates the label; its text comes from the binding below.
         getRemainingFlagCounterLabel().getStyleClass().add("info-label"); // Adds a style class for consistent styling.
         getRemainingFlagCounterLabel().getStyleClass().add("flag-label"); // Adds a style class for consistent styling.
-        getRemainingFlagCounterLabel().setId("counter-red"); // Sets the label's ID to indicate it starts in the "red" state.
-    }
-
-    /**
-     * Updates the label displaying the number of remaining flags.
-     * <p>
-     * This method calculates the number of remaining flags by subtracting the count of flagged cells
-     * from the total number of mines. It updates the label's text and styling accordingly.
-     * If the remaining flags count reaches zero, a click event listener is added to reveal all unflagged cells.
-     */
-    public void updateRemainingFlagsCounter()
-    {
-        // Calculates the remaining bombs by subtracting flagged cells from the total mines.
-        int remainingBombs = getTotalMines() - (int) getCells().stream().filter(Cell::isFlagged).count();
 
-        getRemainingFlagCounterLabel().setText(formatCounter(remainingBombs)); // Updates the label with the remaining bombs count.
+        // Displays the formatted counter value.
+        getRemainingFlagCounterLabel().textProperty().bind(
+                Bindings.createStringBinding(() -> formatCounter(getRemainingFlags()), remainingFlagsProperty()));
 
-        // Changes the label's style based on the remaining bombs count.
-        if (remainingBombs == 0)
-        {
-            getRemainingFlagCounterLabel().setId("counter-teal"); // Changes the label to teal when no flags remain.
-        } else
-        {
-            getRemainingFlagCounterLabel().setId("counter-red"); // Sets the label to red otherwise.
-        }
+        // Shows the label in teal when no flags remain, and in red otherwise.
+        getRemainingFlagCounterLabel().idProperty().bind(
+                Bindings.when(remainingFlagsProperty().isEqualTo(0)).then("counter-teal").otherwise("counter-red"));
 
-        // Adds a click event listener to reveal all unflagged cells if there are no remaining bombs.
+        // Reveals all unflagged cells when the label is clicked and no flags remain.
         getRemainingFlagCounterLabel().setOnMouseClicked(event ->
         {
-            if (remainingBombs == 0)
+            if (getRemainingFlags() == 0)
             {
                 revealAllUnflaggedCellsWithSound(); // Reveals all unflagged cells with sound effects.
             }
         });
     }
 
+    /**
+     * Updates the number of remaining flags.
+     * <p>
+     * This method subtracts the board's flag count, which the {@link Board} maintains incrementally,
+     * from the total number of mines. The counter label is bound to the result and updates itself.
+     */
+    public void updateRemainingFlagsCounter()
+    {
+        int flags = getBoard() == null ? 0 : getBoard().getFlaggedCount(); // No flags are placed while the board is built.
+        setRemainingFlags(getTotalMines() - flags); // Remaining bombs are total mines minus flags.
+    }
+
     /**
      * Reveals all unflagged and unrevealed cells on the game board with sound effects.
      * <p>
@@ -713,17 +1522,18 @@ public class GameController extends Controller
      */
     private void revealAllUnflaggedCellsWithSound()
     {
+        if (isGenerating() || !getBoard().isMinesPlaced() || getBoard().isUntouched())
+        {
+            return; // There is nothing to reveal before the first cell has been opened; pooled boards already have mines.
+        }
+
         stopBackgroundMusic(); // Stops the background music before revealing cells.
 
         // Reveals all cells that are not flagged and have not been revealed yet.
-        getCells().stream()
-                .filter(cell -> !cell.isFlagged() && !cell.isRevealed())
-                .forEach(cell -> cell.reveal(true)); // Reveal each cell with animation/sound.
+        applyChanges(getBoard().revealAllUnflagged());
 
         // Ends the game based on whether any revealed cells are bombs.
-        endGame(getCells().stream()
-                .filter(Cell::isRevealed) // Filters revealed cells.
-                .noneMatch(Cell::isBomb)); // If no revealed cells are bombs, the player wins.
+        endGame(!getBoard().isLost()); // If no revealed cells are bombs, the player wins.
     }
 
     /**
@@ -774,6 +1584,7 @@ public class GameController extends Controller
      * <p>
      * This method creates a horizontal box (`HBox`) to hold the timer label,
      * aligns it at the center, and applies a style class for consistent styling.
+     * The box also holds the hidden progress bar of the background board generation.
      */
     private void initializeTimerBox()
     {
@@ -782,6 +1593,12 @@ public class GameController extends Controller
         getTimerBox().getStyleClass().add("info-box"); // Applies a CSS style class for the timer box.
 
         initializeTimerLabel(); // Initializes the label that displays the elapsed time.
+
+        setGenerationProgressBar(new ProgressBar()); // Shows the progress of large boards being generated.
+        getGenerationProgressBar().setVisible(false); // Only shown while the mines are placed in the background.
+        getGenerationProgressBar().managedProperty().bind(getGenerationProgressBar().visibleProperty()); // Takes no space while hidden.
+        getTimerLabel().managedProperty().bind(getTimerLabel().visibleProperty()); // Makes room for the progress bar.
+        getTimerBox().getChildren().add(getGenerationProgressBar());
     }
 
     /**
@@ -803,19 +1620,23 @@ public class GameController extends Controller
      * Starts the game timer.
      * <p>
      * This method initializes a {@link Timeline} that increments the elapsed game time every second
-     * and updates the timer label with the formatted time. The timer runs indefinitely until it is stopped.
+     * and updates the timer label with the formatted time. The timer runs indefinitely until it is stopped;
+     * the timeline is created once and restarted for every following game.
      */
     public void startTimer()
     {
-        // Creates a new Timeline that updates the elapsed time and timer label every second.
-        setTimer(new Timeline(new KeyFrame(Duration.seconds(1), event ->
+        if (getTimer() == null) // Restarted games reuse the timeline of the first game.
         {
-            setElapsedTime(getElapsedTime() + 1); // Increments the elapsed time by one second.
-            getTimerLabel().setText(formatTime(getElapsedTime())); // Updates the timer label with the formatted time.
-        })));
+            // Creates a new Timeline that updates the elapsed time and timer label every second.
+            setTimer(new Timeline(new KeyFrame(Duration.seconds(1), event ->
+            {
+                setElapsedTime(getElapsedTime() + 1); // Increments the elapsed time by one second.
+                getTimerLabel().setText(formatTime(getElapsedTime())); // Updates the timer label with the formatted time.
+            })));
 
-        getTimer().setCycleCount(Timeline.INDEFINITE); // Sets the timer to run indefinitely.
-        getTimer().play(); // Starts the timer.
+            getTimer().setCycleCount(Timeline.INDEFINITE); // Sets the timer to run indefinitely.
+        }
+        getTimer().playFromStart(); // Starts the timer.
     }
 
     /**
@@ -837,46 +1658,32 @@ public class GameController extends Controller
      * Initializes the game field based on the selected difficulty level.
      * <p>
      * This method determines the number of rows, columns, and total mines for the game field
-     * based on the current difficulty setting. After determining these parameters, it calls
+     * from the {@link Difficulty} matching the current difficulty setting, which covers the
+     * predefined modes as well as custom ones. After determining these parameters, it calls
      * {@code initializeField} to set up the field.
      *
      * @throws IllegalArgumentException if the difficulty level is not recognized.
      */
     private void initializeGameField()
     {
-        int rows;
-        int columns;
-
-        // Determines the field size and total mines based on the difficulty level.
-        switch (getDifficulty())
-        {
-            case "beginner":
-                rows = 8;
-                columns = 8;
-                setTotalMines(10); // Sets total mines for beginner difficulty.
-                break;
-            case "advanced":
-                rows = 16;
-                columns = 16;
-                setTotalMines(40); // Sets total mines for advanced difficulty.
-                break;
-            case "pro":
-                rows = 16;
-                columns = 30;
-                setTotalMines(99); // Sets total mines for pro difficulty.
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown Difficulty: " + getDifficulty()); // Handles invalid difficulty levels.
-        }
+        Difficulty difficulty = Difficulty.of(getDifficulty()); // Determines the field size and total mines.
+        setTotalMines(difficulty.getMines()); // Sets total mines for the difficulty.
 
-        initializeField(rows, columns); // Calls the method to set up the game field with the determined parameters.
+        initializeField(difficulty.getRows(), difficulty.getColumns()); // Calls the method to set up the game field with the determined parameters.
     }
 
     /**
      * Initializes the game field with the specified number of rows and columns.
      * <p>
-     * This method sets up the grid for the game field, creates all cells, randomly places bombs,
-     * calculates adjacent bomb counts for each cell, and adds the cells to the grid layout.
+     * This method creates the empty {@link Board} and the {@link BoardView} with the renderer saved in the user data.
+     * The bombs are placed on the first reveal (see {@link #generateBoard(int)}), so the window appears without
+     * waiting for the board and the first click never hits a bomb.
+     * <p>
+     * If the {@link #boardPool} has a ready board for the game mode, it is shown right away instead, whatever the size
+     * of the field. Otherwise, fields with more than {@link #backgroundGenerationThreshold} cells allocate their board on the
+     * {@link #generationExecutor}. Until it is ready, a progress indicator takes the place of the field, the board is
+     * {@code null} and the game counts as generating; only creating and attaching the view runs on the JavaFX
+     * Application Thread.
      *
      * @param rows    The number of rows in the game field.
      * @param columns The number of columns in the game field.
@@ -885,167 +1692,154 @@ public class GameController extends Controller
     {
         setRows(rows); // Sets the number of rows in the game field.
         setColumns(columns); // Sets the number of columns in the game field.
-        setCells(new ArrayList<>()); // Initializes the list of cells.
-        initializeGameFieldGridPane(); // Configures the grid layout for the game field.
+        int mines = getTotalMines();
+        setFieldBuild(null); // Discards a field that is still built for a previous game.
+        setNoGuess(UserDataManager.loadUserData().isNoGuess()); // Decides whether a pooled board may be used.
 
-        // Creates cells for each position in the grid.
-        for (int row = 0; row < rows; row++)
+        Board pooled = takePooledBoard();
+        if (pooled != null)
         {
-            for (int col = 0; col < columns; col++)
-            {
-                Cell cell = new Cell(getStyle(), false, this, row, col); // Creates a new cell.
-
-                // Adds mouse press and release event handlers for the cell button.
-                cell.getButton().setOnMousePressed(event ->
-                {
-                    if (event.isPrimaryButtonDown() || event.isSecondaryButtonDown())
-                    {
-                        updateRestartGameButton("nervous"); // Updates the restart button to "nervous" on mouse press.
-                    }
-                });
-
-                cell.getButton().setOnMouseReleased(event ->
-                {
-                    if (!event.isPrimaryButtonDown() || !event.isSecondaryButtonDown())
-                    {
-                        updateRestartGameButton("neutral"); // Resets the restart button to "neutral" on mouse release.
-                    }
-                });
-
-                getCells().add(cell); // Adds the cell to the list of cells.
-            }
+            showField(pooled);
+            return;
         }
 
-        // Randomly places bombs in the field.
-        Random random = new Random();
-        int bombsPlaced = 0;
-        while (bombsPlaced < getTotalMines())
+        if ((long) rows * columns <= backgroundGenerationThreshold)
         {
-            int randomRow = random.nextInt(rows);
-            int randomCol = random.nextInt(columns);
-
-            Cell cell = getCellAt(randomRow, randomCol); // Retrieves a cell at a random position.
-            if (!cell.isBomb())
-            { // Ensures the cell does not already contain a bomb.
-                cell.setBomb(true); // Places a bomb in the cell.
-                bombsPlaced++;
-            }
+            showField(new Board(rows, columns, mines)); // Creates the empty board holding the game state.
+            return;
         }
 
-        // Calculates the number of adjacent bombs for each cell.
-        for (int row = 0; row < rows; row++)
+        Task<Board> build = new Task<>()
         {
-            for (int col = 0; col < columns; col++)
+            @Override
+            protected Board call()
             {
-                Cell cell = getCellAt(row, col);
-                if (!cell.isBomb())
-                {
-                    cell.setAdjacentBombs(countAdjacentBombs(row, col)); // Sets the number of adjacent bombs for the cell.
-                }
+                return new Board(rows, columns, mines); // Allocates and prepares the cells off the JavaFX Application Thread.
             }
-        }
-
-        // Adds cells to the grid layout.
-        for (int row = 0; row < rows; row++)
+        };
+        build.setOnSucceeded(event ->
         {
-            for (int col = 0; col < columns; col++)
+            if (getFieldBuild() == build) // Skips fields of games that were restarted in the meantime.
             {
-                Cell cell = getCellAt(row, col);
-                getGameField().add(cell.getButton(), col, row); // Adds the cell's button to the grid layout.
+                setFieldBuild(null);
+                setGenerating(false);
+                showField(build.getValue());
             }
-        }
+        });
+        build.setOnFailed(event ->
+        {
+            if (getFieldBuild() == build)
+            {
+                setFieldBuild(null);
+                setGenerating(false);
+            }
+            System.err.println("Board creation failed: " + build.getException().getMessage());
+        });
 
-        updateRemainingFlagsCounter(); // Updates the flag counter after initializing the field.
+        setBoard(null); // No cell can be clicked until the new board is shown.
+        setGenerating(true); // Ignores actions on the board while it is built.
+        setFieldBuild(build);
+        replaceField(createFieldPlaceholder(build));
+        updateRemainingFlagsCounter();
+        generationExecutor.execute(build);
     }
 
     /**
-     * Initializes the {@link GridPane} layout for the game field.
+     * Shows a new, empty board in the game window.
      * <p>
-     * This method creates a new {@code GridPane}, centers its alignment, applies styles,
-     * and configures column and row constraints to ensure all cells are evenly distributed.
+     * This method creates the {@link BoardView} with the renderer saved in the user data and the
+     * {@link DirtyCellQueue} feeding it, and replaces the previous field or placeholder in the window.
+     *
+     * @param board The empty {@link Board} of the new game.
      */
-    private void initializeGameFieldGridPane()
+    private void showField(Board board)
     {
-        setGameField(new GridPane()); // Creates a new GridPane for the game field.
-        getGameField().setAlignment(Pos.CENTER); // Centers the grid within its container.
-        getGameField().getStyleClass().add("game-field"); // Applies a style class to the grid.
+        setBoard(board);
+        UserData userData = UserDataManager.loadUserData();
+        setBoardView(BoardView.create(userData.getBoardRenderer(), this, getBoard(), getStyle())); // Creates the view of the game field.
+        setDirtyCells(new DirtyCellQueue(getBoardView(), getBoard().getIndexLimit())); // Batches cell updates per pulse.
+        getDirtyCells().setFrameBudgetNanos(frameBudgetFor(userData.isRevealInstantly())); // Lets cascades ripple out unless disabled.
+        getDirtyCells().setOnFlushed(this::updateMutationCounter); // Feeds the debug overlay.
+        replaceField(getBoardView().getNode()); // Attaches the view to the window.
 
-        double gap = 0; // Sets the horizontal and vertical gaps between cells.
-        getGameField().setHgap(gap); // Sets the horizontal gap between cells.
-        getGameField().setVgap(gap); // Sets the vertical gap between cells.
+        updateRemainingFlagsCounter(); // Updates the flag counter after initializing the field.
+    }
 
-        // Configures column constraints to evenly distribute the columns.
-        for (int i = 0; i < getColumns(); i++)
+    /**
+     * Takes a board with its mines already placed from the {@link #boardPool} for the current game mode.
+     * <p>
+     * Boards of the "No Guessing" mode depend on the first click and are never pooled, and games with a
+     * {@link #isFixedSeed() fixed seed} play the board of that seed. A pooled board replaces the game's seed with the
+     * one its mines were placed from, so {@link #getSeed()} always reproduces the board in play. The pool state is
+     * shown in the generation overlay.
+     *
+     * @return A ready {@link Board}, or {@code null} if the pool has none and the board has to be generated.
+     */
+    private Board takePooledBoard()
+    {
+        if (isNoGuess() || isFixedSeed())
         {
-            ColumnConstraints colConstraints = new ColumnConstraints();
-            colConstraints.setPercentWidth(100d / getColumns()); // Ensures columns are evenly sized.
-            getGameField().getColumnConstraints().add(colConstraints); // Adds the column constraints to the grid.
+            return null;
         }
 
-        // Configures row constraints to evenly distribute the rows.
-        for (int i = 0; i < getRows(); i++)
+        Difficulty difficulty = Difficulty.of(getDifficulty());
+        lastPlayedDifficulty = difficulty; // Prepared again when the player returns to the menu.
+        BoardPool.PooledBoard pooled = boardPool.take(difficulty);
+        if (pooled != null)
+        {
+            setSeed(pooled.seed()); // The seed that placed the mines of the pooled board.
+        }
+        if (getGenerationStatsLabel() != null) // The overlay is created after the first field.
         {
-            RowConstraints rowConstraints = new RowConstraints();
-            rowConstraints.setPercentHeight(100d / getRows()); // Ensures rows are evenly sized.
-            getGameField().getRowConstraints().add(rowConstraints); // Adds the row constraints to the grid.
+            getGenerationStatsLabel().setText((pooled != null ? "Pooled board" : "Generated board") + " | " + boardPool.summarize(difficulty));
         }
+        return pooled == null ? null : pooled.board();
     }
 
     /**
-     * Counts the number of bombs adjacent to a specified cell.
-     * <p>
-     * This method checks all neighboring cells within a 3x3 grid around the given cell's
-     * position (including diagonals) and counts how many of them contain bombs.
+     * Creates the node shown in place of the game field while its board is built in the background.
      *
-     * @param row The row index of the cell to check.
-     * @param col The column index of the cell to check.
-     * @return The number of adjacent cells containing bombs.
+     * @param build The task building the board.
+     * @return A {@link StackPane} holding a progress indicator.
      */
-    private int countAdjacentBombs(int row, int col)
+    private StackPane createFieldPlaceholder(Task<Board> build)
     {
-        int count = 0;
-
-        // Iterates through the 3x3 grid around the specified cell.
-        for (int r = row - 1; r <= row + 1; r++)
-        {
-            for (int c = col - 1; c <= col + 1; c++)
-            {
-                // Checks if the neighboring cell is within bounds and contains a bomb.
-                if (isInBounds(r, c) && getCellAt(r, c).isBomb())
-                {
-                    count++; // Increments the count if a bomb is found.
-                }
-            }
-        }
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.progressProperty().bind(build.progressProperty()); // Spins until the board is ready.
 
-        return count; // Returns the total number of adjacent bombs.
+        StackPane placeholder = new StackPane(indicator);
+        placeholder.getStyleClass().add("game-field"); // Uses the same frame as the field.
+        VBox.setVgrow(placeholder, Priority.ALWAYS); // Takes the space of the field.
+        return placeholder;
     }
 
     /**
-     * Checks whether a specified cell position is within the bounds of the game field.
+     * Places a node at the position of the game field, replacing the field shown before.
+     * <p>
+     * Before the window is built, the node is only remembered and added by {@link #initializeWindow()}.
      *
-     * @param row The row index of the cell to check.
-     * @param col The column index of the cell to check.
-     * @return {@code true} if the cell is within the bounds of the game field; {@code false} otherwise.
+     * @param node The board view's node or a placeholder.
      */
-    public boolean isInBounds(int row, int col)
+    private void replaceField(Region node)
     {
-        return row >= 0 && row < getGameField().getRowCount() // Checks if the row index is within bounds.
-                && col >= 0 && col < getGameField().getColumnCount(); // Checks if the column index is within bounds.
+        int position = getRoot().getChildren().indexOf(getFieldNode());
+        if (position >= 0)
+        {
+            getRoot().getChildren().set(position, node); // Replaces the old field in the window.
+        }
+        setFieldNode(node);
     }
 
     /**
-     * Retrieves the cell at the specified row and column in the game field.
+     * Checks whether a specified cell position is within the bounds of the game field.
      *
-     * @param row The row index of the cell to retrieve.
-     * @param col The column index of the cell to retrieve.
-     * @return The {@link Cell} at the specified position.
-     * @throws IndexOutOfBoundsException if the specified row or column is out of bounds.
+     * @param row The row index of the cell to check.
+     * @param col The column index of the cell to check.
+     * @return {@code true} if the cell is within the bounds of the game field; {@code false} otherwise.
      */
-    public Cell getCellAt(int row, int col)
+    public boolean isInBounds(int row, int col)
     {
-        int columns = getGameField().getColumnCount(); // Gets the number of columns in the game field.
-        return getCells().get(row * columns + col); // Calculates the 1D index and retrieves the cell.
+        return getBoard().isInBounds(row, col); // Checks the position against the board dimensions.
     }
 
     /**
@@ -1122,6 +1916,21 @@ public class GameController extends Controller
         return "bomb-explosion-" + (Math.random() < 0.5 ? "1" : "2"); // Randomly returns "bomb-explosion-1" or "bomb-explosion-2".
     }
 
+    /**
+     * Lets the board pool refill the game mode of the last game in the background, so playing it again from the menu
+     * does not have to wait for its board.
+     * <p>
+     * Only that mode is prepared, so the pool does not spend memory and a core on modes the player may never choose;
+     * before the first game nothing is prepared.
+     */
+    public static void prepareLastPlayedBoards()
+    {
+        if (lastPlayedDifficulty != null)
+        {
+            boardPool.prepare(lastPlayedDifficulty);
+        }
+    }
+
     /**
      * Gets the maximum width for the HBox layout in the game window.
      *
@@ -1192,6 +2001,226 @@ public class GameController extends Controller
         return root;
     }
 
+    /**
+     * Gets the queue refreshing changed cells once per pulse.
+     *
+     * @return The {@link DirtyCellQueue} of the current view.
+     */
+    public DirtyCellQueue getDirtyCells()
+    {
+        return dirtyCells;
+    }
+
+    /**
+     * Sets the queue refreshing changed cells once per pulse.
+     *
+     * @param dirtyCells The {@link DirtyCellQueue} to set.
+     */
+    public void setDirtyCells(DirtyCellQueue dirtyCells)
+    {
+        this.dirtyCells = dirtyCells;
+    }
+
+    /**
+     * Gets the number of changed cells reported by the board since the last flush.
+     *
+     * @return The number of changed cells, including duplicates.
+     */
+    public int getBatchedChanges()
+    {
+        return batchedChanges;
+    }
+
+    /**
+     * Sets the number of changed cells reported by the board since the last flush.
+     *
+     * @param batchedChanges The number of changed cells.
+     */
+    public void setBatchedChanges(int batchedChanges)
+    {
+        this.batchedChanges = batchedChanges;
+    }
+
+    /**
+     * Gets the debug overlay counting cells and node mutations.
+     *
+     * @return The {@link Label} of the overlay.
+     */
+    public Label getMutationCounterLabel()
+    {
+        return mutationCounterLabel;
+    }
+
+    /**
+     * Sets the debug overlay counting cells and node mutations.
+     *
+     * @param mutationCounterLabel The {@link Label} to set.
+     */
+    public void setMutationCounterLabel(Label mutationCounterLabel)
+    {
+        this.mutationCounterLabel = mutationCounterLabel;
+    }
+
+    /**
+     * Gets the debug overlay showing the input-to-frame latency.
+     *
+     * @return The {@link Label} of the overlay.
+     */
+    public Label getLatencyLabel()
+    {
+        return latencyLabel;
+    }
+
+    /**
+     * Sets the debug overlay showing the input-to-frame latency.
+     *
+     * @param latencyLabel The {@link Label} to set.
+     */
+    public void setLatencyLabel(Label latencyLabel)
+    {
+        this.latencyLabel = latencyLabel;
+    }
+
+    /**
+     * Gets the debug overlay showing how the last board was generated.
+     *
+     * @return The {@link Label} of the overlay.
+     */
+    public Label getGenerationStatsLabel()
+    {
+        return generationStatsLabel;
+    }
+
+    /**
+     * Sets the debug overlay showing how the last board was generated.
+     *
+     * @param generationStatsLabel The {@link Label} to set.
+     */
+    public void setGenerationStatsLabel(Label generationStatsLabel)
+    {
+        this.generationStatsLabel = generationStatsLabel;
+    }
+
+    /**
+     * Gets the monitor measuring the input-to-frame latency of clicks.
+     *
+     * @return The {@link LatencyMonitor}, or {@code null} before the game window was created.
+     */
+    public LatencyMonitor getLatencyMonitor()
+    {
+        return latencyMonitor;
+    }
+
+    /**
+     * Gets the solver deducing safe cells and mines for hints.
+     *
+     * @return The {@link Solver}, or {@code null} before the first hint.
+     */
+    public Solver getSolver()
+    {
+        return solver;
+    }
+
+    /**
+     * Sets the solver deducing safe cells and mines for hints.
+     *
+     * @param solver The {@link Solver} of the current board.
+     */
+    public void setSolver(Solver solver)
+    {
+        this.solver = solver;
+    }
+
+    /**
+     * Checks whether new boards are generated so that they can be solved without guessing.
+     *
+     * @return {@code true} for boards solvable by logic alone, {@code false} for random boards.
+     */
+    public boolean isNoGuess()
+    {
+        return noGuess;
+    }
+
+    /**
+     * Sets whether new boards are generated so that they can be solved without guessing.
+     *
+     * @param noGuess {@code true} for boards solvable by logic alone, {@code false} for random boards.
+     */
+    public void setNoGuess(boolean noGuess)
+    {
+        this.noGuess = noGuess;
+    }
+
+    /**
+     * Gets the search for a board solvable without guessing that runs or ran last.
+     *
+     * @return The {@link NoGuessGenerator}, or {@code null} before the first search.
+     */
+    public NoGuessGenerator getNoGuessGenerator()
+    {
+        return noGuessGenerator;
+    }
+
+    /**
+     * Sets the search for a board solvable without guessing.
+     *
+     * @param noGuessGenerator The running {@link NoGuessGenerator}, or {@code null} for regular boards.
+     */
+    public void setNoGuessGenerator(NoGuessGenerator noGuessGenerator)
+    {
+        this.noGuessGenerator = noGuessGenerator;
+    }
+
+    /**
+     * Gets the engine computing the mine probabilities for the heatmap.
+     *
+     * @return The {@link ProbabilityEngine}, or {@code null} before the heatmap was shown.
+     */
+    public ProbabilityEngine getProbabilityEngine()
+    {
+        return probabilityEngine;
+    }
+
+    /**
+     * Sets the engine computing the mine probabilities for the heatmap.
+     *
+     * @param probabilityEngine The {@link ProbabilityEngine} of the current board.
+     */
+    public void setProbabilityEngine(ProbabilityEngine probabilityEngine)
+    {
+        this.probabilityEngine = probabilityEngine;
+    }
+
+    /**
+     * Checks whether the unrevealed cells are tinted by their mine probability.
+     *
+     * @return {@code true} if the heatmap is shown, {@code false} otherwise.
+     */
+    public boolean isHeatmapShown()
+    {
+        return heatmapShown;
+    }
+
+    /**
+     * Sets whether the unrevealed cells are tinted by their mine probability.
+     *
+     * @param heatmapShown {@code true} to show the heatmap, {@code false} to hide it.
+     */
+    public void setHeatmapShown(boolean heatmapShown)
+    {
+        this.heatmapShown = heatmapShown;
+    }
+
+    /**
+     * Sets the monitor measuring the input-to-frame latency of clicks.
+     *
+     * @param latencyMonitor The {@link LatencyMonitor} to set.
+     */
+    public void setLatencyMonitor(LatencyMonitor latencyMonitor)
+    {
+        this.latencyMonitor = latencyMonitor;
+    }
+
     /**
      * Gets the current stage of the game.
      *
@@ -1293,23 +2322,23 @@ public class GameController extends Controller
     }
 
     /**
-     * Gets the {@link GridPane} representing the game field.
+     * Gets the {@link BoardView} displaying the game field.
      *
-     * @return The game field as a {@link GridPane}.
+     * @return The current board view.
      */
-    public GridPane getGameField()
+    public BoardView getBoardView()
     {
-        return gameField;
+        return boardView;
     }
 
     /**
-     * Sets the {@link GridPane} representing the game field.
+     * Sets the {@link BoardView} displaying the game field.
      *
-     * @param gameField The game field to set.
+     * @param boardView The board view to set.
      */
-    public void setGameField(GridPane gameField)
+    public void setBoardView(BoardView boardView)
     {
-        this.gameField = gameField;
+        this.boardView = boardView;
     }
 
     /**
@@ -1413,23 +2442,113 @@ public class GameController extends Controller
     }
 
     /**
-     * Gets the list of all {@link Cell} objects in the game field.
+     * Gets the seed from which the mine positions of the current game are generated.
+     *
+     * @return The seed of the board.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Checks whether the seed was chosen by the caller, so the game plays the board of that seed.
+     *
+     * @return {@code true} if the seed is fixed, {@code false} if any seed will do.
+     */
+    public boolean isFixedSeed()
+    {
+        return fixedSeed;
+    }
+
+    /**
+     * Sets whether the seed was chosen by the caller.
+     *
+     * @param fixedSeed {@code true} if the seed is fixed, {@code false} if any seed will do.
+     */
+    public void setFixedSeed(boolean fixedSeed)
+    {
+        this.fixedSeed = fixedSeed;
+    }
+
+    /**
+     * Sets the seed from which the mine positions are generated.
+     *
+     * @param seed The seed of the board.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the {@link Board} holding the state of the current game.
+     *
+     * @return The current {@link Board}.
+     */
+    public Board getBoard()
+    {
+        return board;
+    }
+
+    /**
+     * Sets the {@link Board} holding the state of the current game.
+     *
+     * @param board The {@link Board} to set.
+     */
+    public void setBoard(Board board)
+    {
+        this.board = board;
+    }
+
+    /**
+     * Gets the observable number of flags the player can still place.
+     *
+     * @return The remaining flags property.
+     */
+    public IntegerProperty remainingFlagsProperty()
+    {
+        return remainingFlags;
+    }
+
+    /**
+     * Gets the number of flags the player can still place.
+     *
+     * @return The number of remaining flags; negative if more cells are flagged than there are mines.
+     */
+    public int getRemainingFlags()
+    {
+        return remainingFlags.get();
+    }
+
+    /**
+     * Sets the number of flags the player can still place.
+     *
+     * @param remainingFlags The number of remaining flags.
+     */
+    public void setRemainingFlags(int remainingFlags)
+    {
+        this.remainingFlags.set(remainingFlags);
+    }
+
+    /**
+     * Gets the number of cells revealed by the most recent reveal or chord.
      *
-     * @return A list of {@link Cell} objects.
+     * @return The size of the last cascade.
      */
-    public List<Cell> getCells()
+    public int getLastCascadeSize()
     {
-        return cells;
+        return lastCascadeSize;
     }
 
     /**
-     * Sets the list of all {@link Cell} objects in the game field.
+     * Sets the number of cells revealed by the most recent reveal or chord.
      *
-     * @param cells The list of {@link Cell} objects to set.
+     * @param lastCascadeSize The size of the last cascade.
      */
-    public void setCells(List<Cell> cells)
+    public void setLastCascadeSize(int lastCascadeSize)
     {
-        this.cells = cells;
+        this.lastCascadeSize = lastCascadeSize;
     }
 
     /**
@@ -1492,6 +2611,86 @@ public class GameController extends Controller
         this.firstClick = firstClick;
     }
 
+    /**
+     * Checks whether the mines are currently placed in the background.
+     *
+     * @return {@code true} while the board is generated, {@code false} otherwise.
+     */
+    public boolean isGenerating()
+    {
+        return generating;
+    }
+
+    /**
+     * Sets whether the mines are currently placed in the background.
+     *
+     * @param generating {@code true} while the board is generated, {@code false} otherwise.
+     */
+    public void setGenerating(boolean generating)
+    {
+        this.generating = generating;
+    }
+
+    /**
+     * Gets the task allocating the board of a large field in the background.
+     *
+     * @return The running {@link Task}, or {@code null} if no field is built.
+     */
+    public Task<Board> getFieldBuild()
+    {
+        return fieldBuild;
+    }
+
+    /**
+     * Sets the task allocating the board of a large field in the background.
+     *
+     * @param fieldBuild The running {@link Task}, or {@code null} to discard a running build.
+     */
+    public void setFieldBuild(Task<Board> fieldBuild)
+    {
+        this.fieldBuild = fieldBuild;
+    }
+
+    /**
+     * Gets the node at the position of the game field in the window.
+     *
+     * @return The board view's node or the placeholder shown while the board is built.
+     */
+    public Region getFieldNode()
+    {
+        return fieldNode;
+    }
+
+    /**
+     * Sets the node at the position of the game field in the window.
+     *
+     * @param fieldNode The board view's node or the placeholder shown while the board is built.
+     */
+    public void setFieldNode(Region fieldNode)
+    {
+        this.fieldNode = fieldNode;
+    }
+
+    /**
+     * Gets the progress bar shown while the mines are placed in the background.
+     *
+     * @return The progress bar of the board generation.
+     */
+    public ProgressBar getGenerationProgressBar()
+    {
+        return generationProgressBar;
+    }
+
+    /**
+     * Sets the progress bar shown while the mines are placed in the background.
+     *
+     * @param generationProgressBar The progress bar to set.
+     */
+    public void setGenerationProgressBar(ProgressBar generationProgressBar)
+    {
+        this.generationProgressBar = generationProgressBar;
+    }
+
     /**
      * Checks if the game is muted.
      *
@@ -1571,4 +2770,24 @@ public class GameController extends Controller
     {
         this.gameMenuBar = gameMenuBar;
     }
+
+    /**
+     * Retrieves the menus and menu items that are disabled when the game ends.
+     *
+     * @return The list of menus and menu items.
+     */
+    public List<MenuItem> getEndGameDisabledItems()
+    {
+        return endGameDisabledItems;
+    }
+
+    /**
+     * Sets the menus and menu items that are disabled when the game ends.
+     *
+     * @param endGameDisabledItems The list of menus and menu items.
+     */
+    public void setEndGameDisabledItems(List<MenuItem> endGameDisabledItems)
+    {
+        this.endGameDisabledItems = endGameDisabledItems;
+    }
 }
@@ -79,19 +79,38 @@ public class LeaderboardController extends Controller
         setStyle(style); // Sets the style for the leaderboard.
     }
 
+    /**
+     * Shows the leaderboard window in the specified style, reusing the window built for that style earlier.
+     * <p>
+     * The controller is taken from the {@link SceneCache}; its window is built once and only the
+     * leaderboard entries are reloaded every time it is shown.
+     *
+     * @param style The visual style used for the leaderboard (e.g., "retro", "modern").
+     */
+    public static void show(String style)
+    {
+        SceneCache.get(LeaderboardController.class, style, LeaderboardController::new).start();
+    }
+
     /**
      * Starts the leaderboard UI.
      * <p>
-     * This method initializes the necessary UI elements, configures the stage with the specified style,
-     * sets up the leaderboard window, and displays it to the user.
+     * This method initializes the necessary UI elements and sets up the leaderboard window on the first call,
+     * loads the current leaderboard entries, configures the stage with the specified style, and displays it
+     * to the user. If the window is already open, it is brought to the front.
      */
     public void start()
     {
-        initializeUserElements(); // Initializes the leaderboard UI components.
+        if (getStage().getScene() == null) // Builds the window only once.
+        {
+            initializeUserElements(); // Initializes the leaderboard UI components.
+            initializeWindow(); // Sets up the leaderboard window.
+        }
+        loadLeaderboard(); // Replaces the entries with the current leaderboard data.
 
         initializeStage(getStage(), getStyle()); // Configures the stage with the specified visual style.
-        initializeWindow(); // Sets up the leaderboard window, including loading leaderboard data.
         getStage().show(); // Displays the leaderboard window.
+        getStage().toFront(); // Brings an already open window to the front.
     }
 
     /**
@@ -107,9 +126,8 @@ public class LeaderboardController extends Controller
     /**
      * Initializes the main leaderboard window.
      * <p>
-     * This method configures the layout, styling, and size of the leaderboard window. It also fetches
-     * the leaderboard data from the server and populates the columns with player entries for different
-     * difficulty levels. If the data cannot be loaded, an error message is displayed instead.
+     * This method configures the layout, styling, and size of the leaderboard window and creates its scene.
+     * The entries are loaded by {@link #loadLeaderboard()}.
      */
     private void initializeWindow()
     {
@@ -126,6 +144,28 @@ public class LeaderboardController extends Controller
                 Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/leaderboardStyle.css")).toExternalForm()
         );
 
+        // Creates and configures the scene for the leaderboard.
+        Scene scene = new Scene(getRoot());
+        getStage().setTitle("Global Leaderboard"); // Sets the window title.
+        getStage().setResizable(false); // Disables window resizing.
+        getStage().setScene(scene); // Sets the scene for the stage.
+    }
+
+    /**
+     * Loads the leaderboard entries into the columns.
+     * <p>
+     * This method removes the entries shown before, fetches the leaderboard data from the server and populates
+     * the columns with player entries for different difficulty levels, keeping the column headers. If the data
+     * cannot be loaded, an error message is displayed instead.
+     */
+    private void loadLeaderboard()
+    {
+        getRoot().getChildren().setAll(getColumnsBox()); // Removes an error message of the previous attempt.
+        for (VBox column : List.of(getBeginnerColumn(), getAdvancedColumn(), getProColumn()))
+        {
+            column.getChildren().remove(1, column.getChildren().size()); // Keeps only the header label.
+        }
+
         try
         {
             LeaderboardClient client = new LeaderboardClient(); // Creates a client to fetch leaderboard data.
@@ -160,12 +200,6 @@ public class LeaderboardController extends Controller
             getRoot().getChildren().add(new Label("Failed to load leaderboard."));
             System.out.println(e.getMessage());
         }
-
-        // Creates and configures the scene for the leaderboard.
-        Scene scene = new Scene(getRoot());
-        getStage().setTitle("Global Leaderboard"); // Sets the window title.
-        getStage().setResizable(false); // Disables window resizing.
-        getStage().setScene(scene); // Sets the scene for the stage.
     }
 
     /**
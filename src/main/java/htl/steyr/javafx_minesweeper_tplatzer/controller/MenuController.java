@@ -1,5 +1,6 @@
 package htl.steyr.javafx_minesweeper_tplatzer.controller;
 
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
 import htl.steyr.javafx_minesweeper_tplatzer.model.UserData;
 import htl.steyr.javafx_minesweeper_tplatzer.model.UserDataManager;
 import javafx.geometry.Pos;
@@ -13,6 +14,8 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -160,6 +163,11 @@ public class MenuController extends Controller
      */
     private String username;
 
+    /**
+     * The labels showing the best time of each difficulty button, keyed by difficulty.
+     */
+    private final Map<String, Label> bestTimeLabels = new HashMap<>();
+
 
     /**
      * Constructs a new {@code MenuController} with the specified username, style, and mute settings.
@@ -178,30 +186,68 @@ public class MenuController extends Controller
         setMuted(muted);       // Sets whether sound effects are muted.
     }
 
+    /**
+     * Shows the main menu in the specified style, reusing the menu built for that style earlier.
+     * <p>
+     * The menu is taken from the {@link SceneCache} and only its dynamic parts (username, best times and
+     * mute state) are refreshed, so switching to the menu does not rebuild its scene graph or stylesheets.
+     *
+     * @param stage    The {@link Stage} where the menu will be displayed.
+     * @param username The username of the player.
+     * @param style    The visual style of the menu (e.g., "retro", "modern").
+     * @param muted    {@code true} if sound effects are muted, {@code false} otherwise.
+     */
+    public static void show(Stage stage, String username, String style, boolean muted)
+    {
+        MenuController menu = SceneCache.get(MenuController.class, style, key -> new MenuController(username, key, muted));
+        menu.setUsername(username); // Updates the settings of a cached menu.
+        menu.setMuted(muted);
+        menu.start(stage);
+    }
+
     /**
      * Starts the main menu UI.
      * <p>
-     * This method sets the {@link Stage} for the menu, initializes all UI components,
-     * plays the background music if sound effects are not muted, and displays the menu window.
+     * This method sets the {@link Stage} for the menu, initializes all UI components on the first call,
+     * refreshes the username, best times and mute state, plays the background music if sound effects
+     * are not muted, and displays the menu window.
      *
      * @param stage The {@link Stage} where the menu will be displayed.
      */
     public void start(Stage stage)
     {
         setStage(stage); // Sets the stage for the menu.
-        initializeUserElements(); // Initializes all user interface components.
+        if (getMenuScene() == null) // Builds the menu only once.
+        {
+            initializeUserElements(); // Initializes all user interface components.
+            initializeWindow(); // Sets up the menu window layout and appearance.
+        }
+        refreshUserElements(); // Shows the current username, best times and mute state.
+        GameController.prepareLastPlayedBoards(); // Generates boards for the mode played last while the player chooses.
         if (!isMuted()) playBackgroundMusic("menu-music", getStyle()); // Plays menu background music if not muted.
 
         initializeStage(getStage(), getStyle()); // Configures the stage with the selected style.
-        initializeWindow(); // Sets up the menu window layout and appearance.
+        switchScene(getStage(), getMenuScene(), "Menu", 500, 1000); // Displays the menu scene in the stage.
         getStage().show(); // Displays the menu window.
     }
 
+    /**
+     * Updates the parts of the menu that can change while it is not shown.
+     * <p>
+     * This covers the username label, the best time labels and the appearance of the "Mute SFX" button.
+     */
+    private void refreshUserElements()
+    {
+        getUsernameLabel().setText(formatUsername(getUsername())); // Shows the current username.
+        refreshBestTimes(); // Shows the best times saved in the user data.
+        updateMuteSfxButton(); // Shows the current mute state.
+    }
+
     /**
      * Initializes the layout and appearance of the main menu window.
      * <p>
      * This method configures the root container, sets the layout of all components (header, game mode selection, footer),
-     * applies stylesheets for visual styling, and prepares the scene for display.
+     * applies stylesheets for visual styling, and creates the scene. The scene is shown by {@link #start(Stage)}.
      */
     private void initializeWindow()
     {
@@ -229,9 +275,6 @@ public class MenuController extends Controller
 
         // Creates and assigns a new scene to the menu.
         setMenuScene(new Scene(getRoot()));
-
-        // Displays the menu scene in the stage.
-        switchScene(getStage(), getMenuScene(), "Menu", 500, 1000);
     }
 
     /**
@@ -319,14 +362,14 @@ public class MenuController extends Controller
      * Changes the username of the player.
      * <p>
      * This method stops the menu background music and opens the username selection menu
-     * by initializing a new {@link UsernameMenuController}.
+     * of the current style (see {@link UsernameMenuController#show(Stage, String, String, boolean)}).
      * The current username, style, and mute settings are passed to the controller.
      */
     private void changeUserName()
     {
         stopBackgroundMusic(); // Stops the background music of the menu.
         // Opens the username selection menu with the current settings.
-        new UsernameMenuController(getUsername(), getStyle(), isMuted()).start(getStage());
+        UsernameMenuController.show(getStage(), getUsername(), getStyle(), isMuted());
     }
 
     /**
@@ -385,7 +428,8 @@ public class MenuController extends Controller
      * Initializes the difficulty selection boxes in the menu.
      * <p>
      * This method sets up an {@link HBox} container to hold the buttons for selecting game difficulty levels.
-     * Each button is associated with a difficulty ("beginner", "advanced", "pro") and displays the best time for that level.
+     * Each button is associated with a difficulty ("beginner", "advanced", "pro", "custom") and displays the best time for that level.
+     * The best times are filled in by {@link #refreshBestTimes()}.
      */
     private void initializeDifficultyBoxes()
     {
@@ -395,11 +439,12 @@ public class MenuController extends Controller
         getDifficultyBox().getStyleClass().add("box"); // Applies a CSS style class to the container.
         getDifficultyBox().setId("difficulty-button-box"); // Sets an ID for the container for additional styling.
 
-        // Adds difficulty selection buttons for "beginner", "advanced", and "pro".
+        // Adds difficulty selection buttons for "beginner", "advanced", "pro" and "custom".
         getDifficultyBox().getChildren().addAll(
-                createDifficultyBox("beginner", loadBestTime("beginner")), // Beginner button with best time.
-                createDifficultyBox("advanced", loadBestTime("advanced")), // Advanced button with best time.
-                createDifficultyBox("pro", loadBestTime("pro")) // Pro button with best time.
+                createDifficultyBox("beginner"), // Beginner button with best time.
+                createDifficultyBox("advanced"), // Advanced button with best time.
+                createDifficultyBox("pro"), // Pro button with best time.
+                createDifficultyBox(Difficulty.CUSTOM) // Custom button with the best time of the last custom mode.
         );
     }
 
@@ -442,13 +487,13 @@ public class MenuController extends Controller
      *     <li>A button for selecting the specified difficulty level</li>
      *     <li>A label displaying the best time for that difficulty</li>
      * </ul>
-     * The button and label are styled and aligned appropriately.
+     * The button and label are styled and aligned appropriately. The label is registered in
+     * {@link #getBestTimeLabels()} and shows the best time once {@link #refreshBestTimes()} is called.
      *
      * @param difficulty The difficulty level (e.g., "beginner", "advanced", "pro").
-     * @param bestTime   The player's best time for the specified difficulty.
      * @return A {@link VBox} containing the button and best time label for the specified difficulty.
      */
-    private VBox createDifficultyBox(String difficulty, int bestTime)
+    private VBox createDifficultyBox(String difficulty)
     {
         // Create the container for the difficulty box.
         VBox difficultyBox = new VBox();
@@ -461,13 +506,21 @@ public class MenuController extends Controller
         difficultyButton.getStyleClass().add("button"); // Applies a CSS style class for styling.
         difficultyButton.setId(difficulty); // Sets an ID for CSS or event handling.
         difficultyButton.setFocusTraversable(false); // Prevents the button from being focused when tabbing through UI elements.
-        difficultyButton.setOnAction(event -> startGame(difficulty)); // Sets an action to start the game when clicked.
+        if (difficulty.equals(Difficulty.CUSTOM))
+        {
+            // Asks for the field size and mine count before starting a custom game.
+            difficultyButton.setOnAction(event -> showCustomDifficultyDialog(getStyle()).ifPresent(this::startGame));
+        } else
+        {
+            difficultyButton.setOnAction(event -> startGame(difficulty)); // Sets an action to start the game when clicked.
+        }
         HBox.setHgrow(difficultyButton, Priority.ALWAYS); // Allows the button to grow horizontally.
         difficultyButton.prefWidthProperty().bind(getDifficultyBox().widthProperty().divide(4).subtract(20)); // Dynamically adjusts the button width.
         difficultyButton.prefHeightProperty().bind(getDifficultyBox().heightProperty().multiply(0.3)); // Dynamically adjusts the button height.
 
         // Create and configure the label for the best time.
-        Label bestTimeLabel = new Label(formatBestTime(bestTime)); // Formats the best time as a string.
+        Label bestTimeLabel = new Label(); // The best time is set by refreshBestTimes().
+        getBestTimeLabels().put(difficulty, bestTimeLabel); // Registers the label for later refreshes.
         bestTimeLabel.getStyleClass().add("info-label"); // Applies a CSS style class for the label.
         bestTimeLabel.getStyleClass().add("time-label"); // Applies a CSS style class for the label.
 
@@ -501,16 +554,29 @@ public class MenuController extends Controller
         getMuteSfxButton().getStyleClass().add("mute-button"); // Additional styling for mute buttons.
 
         // Update the button's appearance based on the mute state.
+        updateMuteSfxButton();
+
+        // Set the action to toggle the mute state when the button is clicked.
+        getMuteSfxButton().setOnAction(event -> toggleMute());
+    }
+
+    /**
+     * Updates the appearance of the "Mute SFX" button to match the mute state.
+     * <p>
+     * The "selected" style class is added at most once, so the button can be updated every time the menu is shown.
+     */
+    private void updateMuteSfxButton()
+    {
         if (isMuted())
         {
-            getMuteSfxButton().getStyleClass().add("selected"); // Add "selected" style if muted.
+            if (!getMuteSfxButton().getStyleClass().contains("selected"))
+            {
+                getMuteSfxButton().getStyleClass().add("selected"); // Add "selected" style if muted.
+            }
         } else
         {
             getMuteSfxButton().getStyleClass().remove("selected"); // Remove "selected" style if not muted.
         }
-
-        // Set the action to toggle the mute state when the button is clicked.
-        getMuteSfxButton().setOnAction(event -> toggleMute());
     }
 
     /**
@@ -554,39 +620,38 @@ public class MenuController extends Controller
     /**
      * Displays the leaderboard window.
      * <p>
-     * This method creates a new instance of {@link LeaderboardController}, passing the current style,
-     * and starts it to show the global leaderboard in a new window.
+     * This method shows the leaderboard window of the current style, which is built on the first call
+     * and reloads its entries every time it is shown.
      */
     private void showLeaderboardWindow()
     {
-        new LeaderboardController(getStyle()).start(); // Creates and starts the leaderboard window with the current style.
+        LeaderboardController.show(getStyle()); // Shows the leaderboard window with the current style.
     }
 
     /**
      * Toggles the visual style of the menu between "retro" and "modern".
      * <p>
-     * This method switches the current style, updates the "Choose Style" button label to reflect the new style,
-     * stops the background music, and restarts the menu with the updated settings.
+     * This method stops the background music and shows the menu of the other style. Each style has its own
+     * cached menu, so this menu keeps its style and the other one is only built the first time it is shown.
      */
     private void toggleStyle()
     {
+        String newStyle;
+
         // Switches the current style between "retro" and "modern".
         if ("retro".equals(getStyle()))
         {
-            setStyle("modern"); // Changes style to "modern".
+            newStyle = "modern"; // Changes style to "modern".
         } else
         {
-            setStyle("retro"); // Changes style to "retro".
+            newStyle = "retro"; // Changes style to "retro".
         }
 
-        // Updates the "Choose Style" button label to reflect the current style.
-        getChooseStyleButton().setText(getStyle().toUpperCase());
-
         // Stops the background music for the menu.
         stopBackgroundMusic();
 
-        // Restarts the menu with the updated style, username, and mute settings.
-        new MenuController(getUsername(), getStyle(), isMuted()).start(getStage());
+        // Shows the menu with the updated style, username, and mute settings.
+        MenuController.show(getStage(), getUsername(), newStyle, isMuted());
     }
 
     /**
@@ -604,14 +669,14 @@ public class MenuController extends Controller
         if (isMuted())
         {
             stopBackgroundMusic(); // Stops the background music.
-            getMuteSfxButton().getStyleClass().add("selected"); // Adds the "selected" style to indicate mute.
         }
         // If not muted, play background music and update the button style.
         else
         {
             playBackgroundMusic("menu-music", getStyle()); // Starts playing the background music.
-            getMuteSfxButton().getStyleClass().remove("selected"); // Removes the "selected" style.
         }
+
+        updateMuteSfxButton(); // Adds or removes the "selected" style.
     }
 
     /**
@@ -637,47 +702,43 @@ public class MenuController extends Controller
     }
 
     /**
-     * Loads the best time for a specific difficulty level from the user's data.
+     * Shows the saved best times in the labels below the difficulty buttons.
      * <p>
-     * This method retrieves the player's best time for the given difficulty by accessing the saved user data.
-     * If the difficulty is invalid, it returns {@link Integer#MAX_VALUE} as a fallback.
-     *
-     * @param difficulty The difficulty level for which to retrieve the best time
-     *                   (e.g., "beginner", "advanced", "pro").
-     * @return The best time for the specified difficulty, or {@link Integer#MAX_VALUE} if the difficulty is invalid.
+     * The user data is loaded once for all labels. If no time has been recorded for a difficulty, a placeholder is shown.
+     * The custom box shows the best time of the custom game mode played most recently.
      */
-    private int loadBestTime(String difficulty)
+    private void refreshBestTimes()
     {
         // Load the saved user data.
         UserData userData = UserDataManager.loadUserData();
 
-        // Return the best time for the specified difficulty, or a fallback value for invalid difficulties.
-        return switch (difficulty)
+        for (Map.Entry<String, Label> entry : getBestTimeLabels().entrySet())
         {
-            case "beginner" -> userData.getBeginnerBestTime(); // Best time for beginner.
-            case "advanced" -> userData.getAdvancedBestTime(); // Best time for advanced.
-            case "pro" -> userData.getProBestTime(); // Best time for pro.
-            default -> Integer.MAX_VALUE; // Fallback for invalid difficulty.
-        };
+            // The custom box shows the custom mode played most recently, if any.
+            String difficulty = Difficulty.CUSTOM.equals(entry.getKey()) ? userData.getLastCustomDifficulty() : entry.getKey();
+            entry.getValue().setText(formatBestTime(difficulty == null ? Integer.MAX_VALUE : userData.getBestTime(difficulty)));
+        }
     }
 
     /**
      * Resets the player's local best times.
      * <p>
-     * This method clears all saved best times by creating a new {@link UserData} object with only the username retained.
-     * The updated data is saved, and the menu is restarted to reflect the changes.
-     * Background music is stopped before restarting the menu.
+     * This method clears the best times of all game modes, including the custom ones, in the saved {@link UserData}.
+     * The username and the settings are kept. The updated data is saved, and the best time labels are refreshed to
+     * reflect the changes.
      */
     private void resetBestTimes()
     {
-        // Save new user data with only the username retained, resetting all best times.
-        UserDataManager.saveUserData(new UserData(UserDataManager.loadUserData().getUsername()));
-
-        // Stop the background music before restarting the menu.
-        stopBackgroundMusic();
+        // Load the saved user data and mark every best time as not recorded.
+        UserData userData = UserDataManager.loadUserData();
+        userData.setBeginnerBestTime(Integer.MAX_VALUE);
+        userData.setAdvancedBestTime(Integer.MAX_VALUE);
+        userData.setProBestTime(Integer.MAX_VALUE);
+        userData.getCustomBestTimes().clear();
+        UserDataManager.saveUserData(userData);
 
-        // Restart the menu with the current settings (username, style, and mute state).
-        new MenuController(getUsername(), getStyle(), isMuted()).start(getStage());
+        // Shows the cleared best times without rebuilding the menu.
+        refreshBestTimes();
     }
 
     /**
@@ -1161,4 +1222,14 @@ public class MenuController extends Controller
     {
         this.usernameBox = usernameBox;
     }
+
+    /**
+     * Gets the labels showing the best time of each difficulty button.
+     *
+     * @return A map of the labels, keyed by difficulty.
+     */
+    public Map<String, Label> getBestTimeLabels()
+    {
+        return bestTimeLabels;
+    }
 }
@@ -0,0 +1,43 @@
+package htl.steyr.javafx_minesweeper_tplatzer.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the controllers of the menu screens, so each screen is built at most once per style.
+ * <p>
+ * Building a screen creates its whole scene graph and parses its stylesheets, which made every menu transition
+ * noticeably slow. The cached controllers keep their {@link javafx.scene.Scene} and only refresh their dynamic
+ * parts, such as the username and the best times, when they are shown again. The cache is only used on the
+ * JavaFX Application Thread.
+ */
+public class SceneCache
+{
+    /**
+     * The controllers built so far, keyed by screen and style.
+     */
+    private static final Map<String, Controller> controllers = new HashMap<>();
+
+
+    /**
+     * Prevents instantiation, as this class only has static members.
+     */
+    private SceneCache()
+    {
+    }
+
+    /**
+     * Gets the controller of a screen in the specified style, creating it on the first call.
+     *
+     * @param screen  The controller class of the screen (e.g., {@link MenuController}).
+     * @param style   The visual style of the screen (e.g., "retro", "modern").
+     * @param factory Creates the controller for the style if none is cached yet.
+     * @param <T>     The type of the controller.
+     * @return The cached controller.
+     */
+    public static <T extends Controller> T get(Class<T> screen, String style, Function<String, T> factory)
+    {
+        return screen.cast(controllers.computeIfAbsent(screen.getSimpleName() + "@" + style, key -> factory.apply(style)));
+    }
+}
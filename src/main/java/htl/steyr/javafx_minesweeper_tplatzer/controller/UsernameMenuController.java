@@ -100,25 +100,50 @@ public class UsernameMenuController extends Controller
         setMuted(muted);       // Sets whether sound effects are muted.
     }
 
+    /**
+     * Shows the username menu in the specified style, reusing the menu built for that style earlier.
+     * <p>
+     * The menu is taken from the {@link SceneCache}; only the text field and the "Save Username" button
+     * are reset to the current username.
+     *
+     * @param stage    The {@link Stage} instance used to display the username menu.
+     * @param username The username of the player.
+     * @param style    The visual style of the menu (e.g., "retro", "modern").
+     * @param muted    {@code true} if sound effects are muted, {@code false} otherwise.
+     */
+    public static void show(Stage stage, String username, String style, boolean muted)
+    {
+        UsernameMenuController menu = SceneCache.get(UsernameMenuController.class, style, key -> new UsernameMenuController(username, key, muted));
+        menu.setUsername(username); // Updates the settings of a cached menu.
+        menu.setMuted(muted);
+        menu.start(stage);
+    }
+
     /**
      * Starts the {@code UsernameMenuController} and initializes the username menu interface.
      * <p>
-     * This method sets up the stage and initializes all required UI elements for the username menu.
-     * If the sound is not muted, background music specific to the username menu is played.
-     * The stage is prepared and the window layout is initialized.
+     * This method sets up the stage and, on the first call, initializes all required UI elements for the username menu.
+     * The text field is reset to the current username. If the sound is not muted, background music specific to the
+     * username menu is played. The stage is prepared and the username menu is shown.
      *
      * @param stage The {@link Stage} instance used to display the username menu.
      */
     public void start(Stage stage)
     {
         setStage(stage); // Sets the stage for this controller.
-        initializeUserElements(); // Initializes UI elements for the username menu.
+        if (getUsernameScene() == null) // Builds the menu only once.
+        {
+            initializeUserElements(); // Initializes UI elements for the username menu.
+            initializeWindow(); // Initializes and configures the window layout.
+        }
+        getUsernameTextField().setText(getUsername()); // Discards input left from the last visit.
+        getSaveUsernameButton().setDisable(true); // Enabled again once the input is changed and valid.
 
         // Plays background music if not muted.
         if (!isMuted()) playBackgroundMusic("username-menu-music", getStyle());
 
         initializeStage(getStage(), getStyle()); // Sets up the stage with the chosen style.
-        initializeWindow(); // Initializes and configures the window layout.
+        switchScene(getStage(), getUsernameScene(), "Username Menu", 200, 600); // Switches to the username menu.
     }
 
     /**
@@ -140,7 +165,7 @@ public class UsernameMenuController extends Controller
      * <p>
      * This method sets up the root container, applies layout properties, adds user interface elements
      * such as the username text field and button box, and loads the appropriate stylesheets.
-     * Finally, it sets the scene and switches to the username menu.
+     * Finally, it creates the scene, which is shown by {@link #start(Stage)}.
      */
     private void initializeWindow()
     {
@@ -158,9 +183,8 @@ public class UsernameMenuController extends Controller
         getRoot().getStyleClass().add("root-container");
         getRoot().getStylesheets().addAll(Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/style.css")).toExternalForm(), Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/style/usernameStyle.css")).toExternalForm());
 
-        // Creates a new scene with the root container and switches to the username menu.
+        // Creates a new scene with the root container.
         setUsernameScene(new Scene(getRoot()));
-        switchScene(getStage(), getUsernameScene(), "Username Menu", 200, 600);
     }
 
     /**
@@ -263,7 +287,7 @@ public class UsernameMenuController extends Controller
      * Returns to the main menu.
      * <p>
      * This method stops the background music currently playing in the username menu
-     * and initializes a new {@code MenuController} to display the main menu.
+     * and shows the main menu of the current style with the current username.
      */
     private void returnToMenu()
     {
@@ -271,7 +295,7 @@ public class UsernameMenuController extends Controller
         stopBackgroundMusic();
 
         // Starts the main menu with the current username, style, and mute settings.
-        new MenuController(getUsername(), getStyle(), isMuted()).start(getStage());
+        MenuController.show(getStage(), getUsername(), getStyle(), isMuted());
     }
 
     /**
@@ -0,0 +1,305 @@
+package htl.steyr.javafx_minesweeper_tplatzer.model;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the adjacent mine counts of a whole {@link Board} in one bit-parallel pass.
+ * <p>
+ * The mines are first packed into a bitmap with one {@code long} word per 64 columns of a row. The eight
+ * neighbour masks of a word (left, centre and right of the rows above and below, left and right of the own
+ * row) are then summed with a bit-sliced adder, which adds 64 cells per instruction into four bit planes.
+ * Finally the four planes are unpacked into the low bits of each cell byte.
+ * <p>
+ * Rows are independent of each other, so boards with more than {@link #PARALLEL_THRESHOLD} cells are
+ * split into row ranges and processed by {@link ForkJoinPool#commonPool()}.
+ */
+public class AdjacencyCounter
+{
+    /**
+     * The number of cells above which the work is split across the common fork/join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * The smallest number of rows a fork/join task processes without splitting further.
+     */
+    private static final int MIN_ROWS_PER_TASK = 64;
+
+    /**
+     * The packed cell states, see {@link Board}.
+     */
+    private final byte[] cells;
+
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int columns;
+
+    /**
+     * The distance between vertically adjacent cells in {@link #cells}, which includes the sentinel columns.
+     */
+    private final int stride;
+
+    /**
+     * The number of {@code long} words per bitmap row.
+     */
+    private final int wordsPerRow;
+
+    /**
+     * The mine bitmap: bit {@code c % 64} of word {@code row * wordsPerRow + c / 64} is set if column {@code c}
+     * of the row contains a mine. Bits beyond the last column are always zero.
+     */
+    private final long[] mines;
+
+
+    /**
+     * Constructs a new {@code AdjacencyCounter} for the specified cells.
+     *
+     * @param cells   The packed cell states in row-major order, surrounded by sentinels.
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param stride  The distance between vertically adjacent cells.
+     */
+    private AdjacencyCounter(byte[] cells, int rows, int columns, int stride)
+    {
+        this.cells = cells;
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = stride;
+        this.wordsPerRow = (columns + 63) >>> 6;
+        this.mines = new long[rows * wordsPerRow];
+    }
+
+    /**
+     * Stores the number of adjacent mines in the low bits of every safe cell.
+     * <p>
+     * The cells must not contain adjacent counts yet; mine cells keep a count of zero. The cells are laid
+     * out like in the {@link Board}: the cell in row {@code r} and column {@code c} is stored at
+     * {@code (r + 1) * stride + c + 1}, and the sentinel border around them is left untouched.
+     *
+     * @param cells   The packed cell states in row-major order, with the {@link Board#MINE} bits set.
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param stride  The distance between vertically adjacent cells, at least {@code columns + 2}.
+     */
+    public static void countAdjacentMines(byte[] cells, int rows, int columns, int stride)
+    {
+        AdjacencyCounter counter = new AdjacencyCounter(cells, rows, columns, stride);
+
+        if (rows * columns > PARALLEL_THRESHOLD)
+        {
+            // The bitmap has to be complete before any row reads the rows above and below it.
+            ForkJoinPool.commonPool().invoke(counter.new RowTask(0, rows, true));
+            ForkJoinPool.commonPool().invoke(counter.new RowTask(0, rows, false));
+        } else
+        {
+            counter.packRows(0, rows);
+            counter.countRows(0, rows);
+        }
+    }
+
+    /**
+     * Packs the mine bits of the specified rows into the bitmap.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (exclusive).
+     */
+    private void packRows(int fromRow, int toRow)
+    {
+        for (int row = fromRow; row < toRow; row++)
+        {
+            int cell = firstCell(row);
+            int word = row * wordsPerRow;
+            for (int column = 0; column < columns; column++, cell++)
+            {
+                // MINE is bit 4, so shifting it down yields 0 or 1.
+                mines[word + (column >>> 6)] |= (long) ((cells[cell] & Board.MINE) >>> 4) << column;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first cell of a row in {@link #cells}.
+     *
+     * @param row The row.
+     * @return The index of the cell in column zero, right after the left sentinel.
+     */
+    private int firstCell(int row)
+    {
+        return (row + 1) * stride + 1;
+    }
+
+    /**
+     * Computes and stores the adjacent mine counts of the specified rows.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (exclusive).
+     */
+    private void countRows(int fromRow, int toRow)
+    {
+        long[] neighbours = new long[8]; // The neighbour masks of the current word.
+
+        for (int row = fromRow; row < toRow; row++)
+        {
+            for (int word = 0; word < wordsPerRow; word++)
+            {
+                // Bit planes of the per-column neighbour count (at most 8, so four planes suffice).
+                long bit0 = 0, bit1 = 0, bit2 = 0, bit3 = 0;
+                int count = 0;
+
+                if (row > 0)
+                {
+                    count = addRowNeighbours(neighbours, count, row - 1, word, true);
+                }
+                count = addRowNeighbours(neighbours, count, row, word, false);
+                if (row < rows - 1)
+                {
+                    count = addRowNeighbours(neighbours, count, row + 1, word, true);
+                }
+
+                for (int i = 0; i < count; i++)
+                {
+                    // Bit-sliced ripple-carry addition of one neighbour mask to all 64 counters at once.
+                    long carry0 = bit0 & neighbours[i];
+                    bit0 ^= neighbours[i];
+                    long carry1 = bit1 & carry0;
+                    bit1 ^= carry0;
+                    long carry2 = bit2 & carry1;
+                    bit2 ^= carry1;
+                    bit3 |= carry2;
+                }
+
+                storeCounts(row, word, bit0, bit1, bit2, bit3);
+            }
+        }
+    }
+
+    /**
+     * Adds the neighbour masks that one bitmap row contributes to a word.
+     *
+     * @param neighbours    The array collecting the masks.
+     * @param count         The number of masks collected so far.
+     * @param row           The row providing the neighbours.
+     * @param word          The word within the row.
+     * @param includeCentre {@code true} for the rows above and below, whose cells in the same column are neighbours.
+     * @return The new number of collected masks.
+     */
+    private int addRowNeighbours(long[] neighbours, int count, int row, int word, boolean includeCentre)
+    {
+        int base = row * wordsPerRow;
+        long centre = mines[base + word];
+        long previous = word > 0 ? mines[base + word - 1] : 0;
+        long next = word < wordsPerRow - 1 ? mines[base + word + 1] : 0;
+
+        neighbours[count++] = (centre << 1) | (previous >>> 63); // Mines in the column to the left.
+        neighbours[count++] = (centre >>> 1) | (next << 63); // Mines in the column to the right.
+        if (includeCentre)
+        {
+            neighbours[count++] = centre; // Mines in the same column.
+        }
+
+        return count;
+    }
+
+    /**
+     * Unpacks the bit planes of a word into the count bits of its safe cells.
+     *
+     * @param row  The row of the word.
+     * @param word The word within the row.
+     * @param bit0 Bit plane of the counts' value 1.
+     * @param bit1 Bit plane of the counts' value 2.
+     * @param bit2 Bit plane of the counts' value 4.
+     * @param bit3 Bit plane of the counts' value 8.
+     */
+    private void storeCounts(int row, int word, long bit0, long bit1, long bit2, long bit3)
+    {
+        long safe = ~mines[row * wordsPerRow + word];
+        int firstColumn = word << 6;
+        int lastColumn = Math.min(columns, firstColumn + 64);
+        int cell = firstCell(row) + firstColumn;
+
+        for (int column = firstColumn; column < lastColumn; column++, cell++)
+        {
+            int bit = column & 63;
+            if (((safe >>> bit) & 1) != 0)
+            {
+                int count = (int) ((bit0 >>> bit) & 1)
+                        | (int) ((bit1 >>> bit) & 1) << 1
+                        | (int) ((bit2 >>> bit) & 1) << 2
+                        | (int) ((bit3 >>> bit) & 1) << 3;
+                cells[cell] |= (byte) count;
+            }
+        }
+    }
+
+    /**
+     * A fork/join task that packs or counts a range of rows, splitting it in half while it is large.
+     */
+    private class RowTask extends RecursiveAction
+    {
+        /**
+         * Declared because fork/join tasks are serializable; row tasks never leave the pool they run in.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first row (inclusive).
+         */
+        private final int fromRow;
+
+        /**
+         * The last row (exclusive).
+         */
+        private final int toRow;
+
+        /**
+         * {@code true} to pack the mine bitmap, {@code false} to compute the counts.
+         */
+        private final boolean pack;
+
+
+        /**
+         * Constructs a new {@code RowTask} for the specified rows.
+         *
+         * @param fromRow The first row (inclusive).
+         * @param toRow   The last row (exclusive).
+         * @param pack    {@code true} to pack the mine bitmap, {@code false} to compute the counts.
+         */
+        RowTask(int fromRow, int toRow, boolean pack)
+        {
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.pack = pack;
+        }
+
+        /**
+         * Processes the rows directly if the range is small, otherwise splits it into two subtasks.
+         */
+        @Override
+        protected void compute()
+        {
+            if (toRow - fromRow <= MIN_ROWS_PER_TASK)
+            {
+                if (pack)
+                {
+                    packRows(fromRow, toRow);
+                } else
+                {
+                    countRows(fromRow, toRow);
+                }
+                return;
+            }
+
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new RowTask(fromRow, middle, pack), new RowTask(middle, toRow, pack));
+        }
+    }
+}
@@ -0,0 +1,1144 @@
+package htl.steyr.javafx_minesweeper_tplatzer.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.DoubleConsumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * The headless Minesweeper rules engine.
+ * <p>
+ * A {@code Board} stores the complete game state in a single packed {@code byte} per cell and does not
+ * depend on JavaFX, so games can be played and simulated without a scene graph. Cells are addressed by
+ * a flat index (see {@link #index(int, int)}). Every state-changing operation returns a {@link ChangeSet}
+ * listing the cells that changed, which the view layer uses to refresh only what is necessary.
+ * <p>
+ * The cells are stored in a grid that is padded with a one-cell border of sentinels, so every real cell
+ * has eight neighbours in the array. Neighbours are reached by adding one of the precomputed
+ * {@link #getNeighbourOffsets() neighbour offsets} to an index, without any bounds checks. Sentinels are
+ * stored as revealed cells without mines or flags, so the game rules skip them naturally. As a consequence,
+ * indices range from {@code 0} to {@link #getIndexLimit()} (exclusive) and are not contiguous; loops over
+ * all indices may visit sentinels, which never report a mine, flag or question mark.
+ * <p>
+ * Each cell byte is laid out as follows:
+ * <ul>
+ *     <li>Bits 0-3: the number of adjacent mines ({@link #ADJACENT_MASK}).</li>
+ *     <li>Bit 4: the cell contains a mine ({@link #MINE}).</li>
+ *     <li>Bit 5: the cell is revealed ({@link #REVEALED}).</li>
+ *     <li>Bit 6: the cell is flagged ({@link #FLAGGED}).</li>
+ *     <li>Bit 7: the cell is marked with a question mark ({@link #QUESTIONED}).</li>
+ * </ul>
+ * <p>
+ * The number of unrevealed safe cells and the number of flags are maintained incrementally, so
+ * {@link #isWon()} and {@link #getFlaggedCount()} run in constant time. When assertions are enabled
+ * ({@code -ea}, the default for tests run by Maven Surefire), every operation cross-checks these
+ * counters against a full scan of the board.
+ */
+public class Board
+{
+    /**
+     * Bit mask for the number of adjacent mines.
+     */
+    public static final int ADJACENT_MASK = 0x0F;
+
+    /**
+     * Bit marking a cell that contains a mine.
+     */
+    public static final int MINE = 0x10;
+
+    /**
+     * Bit marking a revealed cell.
+     */
+    public static final int REVEALED = 0x20;
+
+    /**
+     * Bit marking a flagged cell.
+     */
+    public static final int FLAGGED = 0x40;
+
+    /**
+     * Bit marking a cell with a question mark.
+     */
+    public static final int QUESTIONED = 0x80;
+
+    /**
+     * The number of rows on the board.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns on the board.
+     */
+    private final int columns;
+
+    /**
+     * The total number of mines on the board.
+     */
+    private final int totalMines;
+
+    /**
+     * The distance between vertically adjacent cells in {@link #cells}: the number of columns plus the two
+     * sentinel columns.
+     */
+    private final int stride;
+
+    /**
+     * The index offsets of the eight neighbours of a cell, row by row from the top left.
+     */
+    private final int[] neighbourOffsets;
+
+    /**
+     * The packed state of every cell and every sentinel, stored in row-major order.
+     */
+    private final byte[] cells;
+
+    /**
+     * The change set reused by every operation on this board.
+     */
+    private final ChangeSet changes;
+
+    /**
+     * Indicates whether the mines have been placed since the board was created or reset.
+     */
+    private boolean minesPlaced;
+
+    /**
+     * Indicates whether a mine has been revealed.
+     */
+    private boolean exploded;
+
+    /**
+     * The number of cells without a mine that have not been revealed yet. The game is won when it reaches zero.
+     */
+    private int unrevealedSafeCells;
+
+    /**
+     * The number of flagged cells.
+     */
+    private int flaggedCount;
+
+    /**
+     * Ring buffer of empty cells whose neighbours still have to be revealed during a cascade.
+     * <p>
+     * The buffer is kept between operations and only grows, so cascades do not allocate once warmed up.
+     * Its capacity is always a power of two.
+     */
+    private int[] cascadeQueue = new int[64];
+
+    /**
+     * Position of the next cell to take from {@link #cascadeQueue}.
+     */
+    private int cascadeHead;
+
+    /**
+     * Position where the next cell is added to {@link #cascadeQueue}.
+     */
+    private int cascadeTail;
+
+
+    /**
+     * Constructs a new, empty {@code Board} with the specified dimensions.
+     * <p>
+     * No mines are placed; call {@link #placeMines(RandomGenerator)} before playing, or
+     * {@link #placeMines(RandomGenerator, int, DoubleConsumer)} once the first cell to reveal is known.
+     *
+     * @param rows       The number of rows on the board.
+     * @param columns    The number of columns on the board.
+     * @param totalMines The total number of mines to place.
+     * @throws IllegalArgumentException if the dimensions are not positive or the board cannot hold the mines.
+     */
+    public Board(int rows, int columns, int totalMines)
+    {
+        if (rows <= 0 || columns <= 0 || totalMines < 0 || totalMines >= (long) rows * columns)
+        {
+            throw new IllegalArgumentException("Invalid board: " + rows + "x" + columns + " with " + totalMines + " mines");
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.totalMines = totalMines;
+        this.stride = columns + 2;
+        this.neighbourOffsets = new int[]{-stride - 1, -stride, -stride + 1, -1, 1, stride - 1, stride, stride + 1};
+        this.cells = new byte[(rows + 2) * stride];
+        this.changes = new ChangeSet(64);
+        markSentinels(); // Surrounds the board with its border of sentinels.
+        setUnrevealedSafeCells(getSize() - totalMines); // Every safe cell starts unrevealed.
+    }
+
+    /**
+     * Marks the border around the board as sentinels, which look like revealed cells without mines or flags.
+     */
+    private void markSentinels()
+    {
+        Arrays.fill(cells, 0, stride, (byte) REVEALED); // The row above the board.
+        Arrays.fill(cells, cells.length - stride, cells.length, (byte) REVEALED); // The row below the board.
+        for (int row = 1; row <= getRows(); row++)
+        {
+            cells[row * stride] = REVEALED; // The column left of the board.
+            cells[row * stride + stride - 1] = REVEALED; // The column right of the board.
+        }
+    }
+
+    /**
+     * Clears all cells, removing mines, flags and revealed state.
+     * <p>
+     * This allows a board to be reused for another game without reallocating its storage.
+     */
+    public void reset()
+    {
+        Arrays.fill(cells, (byte) 0); // Clears every cell.
+        markSentinels(); // Restores the border.
+        setMinesPlaced(false); // The next game places its own mines.
+        setExploded(false); // No mine has been revealed yet.
+        setUnrevealedSafeCells(getSize() - getTotalMines()); // Every safe cell is unrevealed again.
+        setFlaggedCount(0); // No cell is flagged.
+        getChanges().clear();
+    }
+
+    /**
+     * Randomly places {@link #getTotalMines()} mines on the empty board and calculates the adjacent mine counts.
+     * <p>
+     * Mine positions are chosen with Floyd's sampling algorithm, which needs exactly one random number per mine
+     * and no retries, even on boards that are almost full of mines. The board itself serves as the set of
+     * chosen cells, so nothing is allocated. The same generator state always yields the same board, so a seeded
+     * generator (e.g. {@code new SplittableRandom(seed)}) reproduces a game.
+     *
+     * @param random The random number generator used to choose mine positions, e.g. {@link java.util.SplittableRandom}
+     *               or {@code L64X128MixRandom}.
+     * @throws IllegalStateException if the mines have already been placed.
+     */
+    public void placeMines(RandomGenerator random)
+    {
+        placeMines(random, -1, null); // No cell has to stay safe.
+    }
+
+    /**
+     * Randomly places the mines like {@link #placeMines(RandomGenerator)}, but keeps the specified cell and its
+     * neighbours free of mines.
+     * <p>
+     * This is meant to be called on the first reveal, so the first click always opens an area. If the board has
+     * too few cells to keep all neighbours safe, only the cell itself is kept free. Flags placed before the call
+     * are kept. For the same generator state and safe cell, the same board is produced.
+     *
+     * @param random    The random number generator used to choose mine positions.
+     * @param safeIndex The index of the cell to keep free together with its neighbours, or {@code -1} for none.
+     * @param progress  Receives the progress between {@code 0} and {@code 1} while the mines are placed, or
+     *                  {@code null}. It is called on the calling thread.
+     * @throws IllegalStateException if the mines have already been placed.
+     */
+    public void placeMines(RandomGenerator random, int safeIndex, DoubleConsumer progress)
+    {
+        if (isMinesPlaced())
+        {
+            throw new IllegalStateException("The mines have already been placed");
+        }
+
+        int[] safePositions = collectSafePositions(safeIndex);
+        int freeCells = getSize() - safePositions.length;
+
+        // Chooses a uniformly random subset of totalMines of the free cells, numbered row by row without sentinels
+        // and safe cells: every step picks one of the first candidate + 1 cells, and takes the candidate itself if
+        // the pick was already chosen.
+        for (int candidate = freeCells - getTotalMines(); candidate < freeCells; candidate++)
+        {
+            int index = toIndex(skipPositions(random.nextInt(candidate + 1), safePositions));
+            if ((cells[index] & MINE) != 0)
+            {
+                index = toIndex(skipPositions(candidate, safePositions)); // The candidate cannot have been chosen yet, as all earlier picks were smaller.
+            }
+            cells[index] |= MINE;
+
+            if (progress != null && (candidate & 0xFFFF) == 0) // Reports every 65536 mines.
+            {
+                progress.accept(0.5 * (candidate - freeCells + getTotalMines()) / getTotalMines()); // Placing is the first half of the work.
+            }
+        }
+
+        if (progress != null)
+        {
+            progress.accept(0.5);
+        }
+
+        AdjacencyCounter.countAdjacentMines(cells, getRows(), getColumns(), stride); // Calculates all adjacent mine counts at once.
+        setMinesPlaced(true);
+
+        if (progress != null)
+        {
+            progress.accept(1);
+        }
+
+        assert adjacencyCountsMatchScan();
+        assert countersMatchScan();
+    }
+
+    /**
+     * Places the mines of a game from its seed and moves them out of the first clicked cell and its neighbours.
+     * <p>
+     * This is how every game generates its board: {@link #placeMines(RandomGenerator)} with a
+     * {@link SplittableRandom} of the seed, then {@link #clearSafeArea(int, long)} with the same seed. The two steps
+     * can also be taken apart, e.g. by placing the mines in advance and clearing the area on the first reveal; the
+     * result is the same, so the seed and the first click always reproduce the board.
+     *
+     * @param seed      The seed of the game.
+     * @param safeIndex The index of the first clicked cell, or {@code -1} to only place the mines.
+     * @param progress  Receives the progress of placing the mines, see
+     *                  {@link #placeMines(RandomGenerator, int, DoubleConsumer)}, or {@code null}.
+     * @throws IllegalStateException if the mines have already been placed.
+     */
+    public void generate(long seed, int safeIndex, DoubleConsumer progress)
+    {
+        placeMines(new SplittableRandom(seed), -1, progress); // Independent of the first click.
+        if (safeIndex >= 0)
+        {
+            clearSafeArea(safeIndex, seed);
+        }
+    }
+
+    /**
+     * Places the mines on the specified cells of the empty board and calculates the adjacent mine counts.
+     * <p>
+     * This sets up a known position instead of a random one, e.g. a hand-made puzzle or a solver test case.
+     *
+     * @param mineIndices The board indices of the {@link #getTotalMines()} cells to place mines on.
+     * @throws IllegalStateException    if the mines have already been placed.
+     * @throws IllegalArgumentException if the number of cells does not match, or a cell is repeated or not on the
+     *                                  board.
+     */
+    public void placeMinesAt(int... mineIndices)
+    {
+        if (isMinesPlaced())
+        {
+            throw new IllegalStateException("The mines have already been placed");
+        }
+        if (mineIndices.length != getTotalMines())
+        {
+            throw new IllegalArgumentException("Expected " + getTotalMines() + " mines but got " + mineIndices.length);
+        }
+
+        for (int i = 0; i < mineIndices.length; i++)
+        {
+            int index = mineIndices[i];
+            if (index < 0 || index >= getIndexLimit() || isSentinel(index) || (cells[index] & MINE) != 0)
+            {
+                for (int j = 0; j < i; j++)
+                {
+                    cells[mineIndices[j]] &= ~MINE; // Leaves the board empty again.
+                }
+                throw new IllegalArgumentException("Cannot place a mine on index " + index);
+            }
+            cells[index] |= MINE;
+        }
+
+        AdjacencyCounter.countAdjacentMines(cells, getRows(), getColumns(), stride);
+        setMinesPlaced(true);
+
+        assert adjacencyCountsMatchScan();
+        assert countersMatchScan();
+    }
+
+    /**
+     * Moves all mines out of the specified cell and its neighbours, so a board whose mines were placed before the
+     * first click still opens an area there.
+     * <p>
+     * The new positions are a uniformly random choice among the cells outside the area that have no mine yet. Like
+     * {@link #placeMines(RandomGenerator, int, DoubleConsumer)}, they are picked with Floyd's sampling as ranks among
+     * those free cells, one random number per moved mine and no retries, and then found in a single pass over the
+     * board, so the cost does not grow with the mine density. Only the cell itself is cleared if the board has too
+     * few cells to spare the neighbours. This is meant to be called on the first reveal of a board that was generated
+     * in advance; flags are kept.
+     *
+     * @param safeIndex The index of the cell to clear together with its neighbours.
+     * @param random    The random number generator choosing the new mine positions.
+     * @return The number of mines that were moved.
+     * @throws IllegalStateException if the mines have not been placed yet.
+     */
+    public int clearSafeArea(int safeIndex, RandomGenerator random)
+    {
+        if (!isMinesPlaced())
+        {
+            throw new IllegalStateException("The mines have not been placed yet");
+        }
+
+        int[] safePositions = collectSafePositions(safeIndex);
+        int[] changed = new int[2 * safePositions.length]; // The old and the new positions of the moved mines.
+        int moved = 0;
+        for (int safePosition : safePositions)
+        {
+            int index = toIndex(safePosition);
+            if ((cells[index] & MINE) != 0)
+            {
+                cells[index] &= ~MINE;
+                changed[moved++] = index;
+            }
+        }
+
+        if (moved == 0)
+        {
+            return 0; // Nothing to move, e.g. on the first reveal of a board generated around that cell.
+        }
+
+        // The free cells outside the area, numbered row by row. There is always one per moved mine, see collectSafePositions.
+        int freeCells = getSize() - safePositions.length - (getTotalMines() - moved);
+        int[] ranks = new int[moved];
+        for (int i = 0, candidate = freeCells - moved; candidate < freeCells; i++, candidate++)
+        {
+            int rank = random.nextInt(candidate + 1);
+            for (int j = 0; j < i; j++)
+            {
+                if (ranks[j] == rank)
+                {
+                    rank = candidate; // The candidate cannot have been chosen yet, as all earlier picks were smaller.
+                    break;
+                }
+            }
+            ranks[i] = rank;
+        }
+        Arrays.sort(ranks);
+
+        int rank = 0;
+        int next = 0;
+        int safe = 0;
+        for (int position = 0; next < ranks.length; position++)
+        {
+            if (safe < safePositions.length && safePositions[safe] == position)
+            {
+                safe++; // Skips the cleared area.
+                continue;
+            }
+
+            int index = toIndex(position);
+            if ((cells[index] & MINE) == 0 && rank++ == ranks[next])
+            {
+                cells[index] |= MINE;
+                changed[moved + next++] = index;
+            }
+        }
+
+        for (int i = 0; i < 2 * moved; i++)
+        {
+            recountAround(changed[i]); // Only after all moves, as the areas of old and new positions may overlap.
+        }
+
+        assert adjacencyCountsMatchScan();
+        assert countersMatchScan();
+        return moved;
+    }
+
+    /**
+     * Moves all mines out of the specified cell and its neighbours like {@link #clearSafeArea(int, RandomGenerator)},
+     * with the generator {@link #generate(long, int, DoubleConsumer)} uses for the seed.
+     *
+     * @param safeIndex The index of the cell to clear together with its neighbours.
+     * @param seed      The seed of the game.
+     * @return The number of mines that were moved.
+     * @throws IllegalStateException if the mines have not been placed yet.
+     */
+    public int clearSafeArea(int safeIndex, long seed)
+    {
+        return clearSafeArea(safeIndex, new SplittableRandom(seed));
+    }
+
+    /**
+     * Recomputes the adjacent mine counts of a cell and its neighbours after a mine was added or removed there.
+     *
+     * @param index The index of the cell.
+     */
+    private void recountAround(int index)
+    {
+        for (int i = 0; i <= neighbourOffsets.length; i++)
+        {
+            int cell = i == neighbourOffsets.length ? index : index + neighbourOffsets[i];
+            if (!isSentinel(cell))
+            {
+                int count = (cells[cell] & MINE) != 0 ? 0 : countAdjacentMines(cell); // Mines store no count.
+                cells[cell] = (byte) ((cells[cell] & ~ADJACENT_MASK) | count);
+            }
+        }
+    }
+
+    /**
+     * Collects the positions that {@link #placeMines(RandomGenerator, int, DoubleConsumer)} keeps free of mines.
+     *
+     * @param safeIndex The index of the clicked cell, or {@code -1} for none.
+     * @return The positions in row-major order without sentinels, sorted ascending.
+     */
+    private int[] collectSafePositions(int safeIndex)
+    {
+        if (safeIndex < 0)
+        {
+            return new int[0];
+        }
+
+        int[] positions = new int[neighbourOffsets.length + 1];
+        int count = 0;
+        for (int i = 0; i <= neighbourOffsets.length; i++)
+        {
+            // The offsets are sorted, so inserting the cell itself after the first four keeps the indices ascending.
+            int index = i < 4 ? safeIndex + neighbourOffsets[i] : i == 4 ? safeIndex : safeIndex + neighbourOffsets[i - 1];
+            if (!isSentinel(index))
+            {
+                positions[count++] = getRow(index) * getColumns() + getColumn(index);
+            }
+        }
+
+        if (getSize() - count < getTotalMines())
+        {
+            return new int[]{getRow(safeIndex) * getColumns() + getColumn(safeIndex)}; // Too small to spare the neighbours.
+        }
+
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Maps a position among the free cells to the position among all cells by skipping the safe positions.
+     *
+     * @param position      The position among the free cells.
+     * @param safePositions The safe positions, sorted ascending.
+     * @return The position among all cells, in row-major order without sentinels.
+     */
+    private static int skipPositions(int position, int[] safePositions)
+    {
+        for (int safePosition : safePositions)
+        {
+            if (position >= safePosition)
+            {
+                position++; // Every safe position at or before the result shifts it by one.
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Cross-checks the adjacent mine counts computed by the {@link AdjacencyCounter} against a direct count.
+     * <p>
+     * Only called from {@code assert} statements, so the scan costs nothing unless assertions are enabled.
+     *
+     * @return {@code true} if all counts match.
+     * @throws AssertionError if a count is wrong.
+     */
+    private boolean adjacencyCountsMatchScan()
+    {
+        for (int index = 0; index < cells.length; index++)
+        {
+            if (isSentinel(index))
+            {
+                continue; // Sentinels have no count.
+            }
+
+            int expected = (cells[index] & MINE) != 0 ? 0 : countAdjacentMines(index);
+            if ((cells[index] & ADJACENT_MASK) != expected)
+            {
+                throw new AssertionError("Cell " + index + " has " + (cells[index] & ADJACENT_MASK) + " adjacent mines but should have " + expected);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Counts the mines in the 3x3 neighbourhood around the specified cell.
+     *
+     * @param index The index of the cell.
+     * @return The number of adjacent mines.
+     */
+    private int countAdjacentMines(int index)
+    {
+        int count = 0;
+        for (int offset : neighbourOffsets)
+        {
+            if ((cells[index + offset] & MINE) != 0) // Sentinels never contain mines.
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Converts the position of a cell in row-major order without sentinels into its index.
+     *
+     * @param position The position, between {@code 0} and {@link #getSize()} (exclusive).
+     * @return The index of the cell.
+     */
+    private int toIndex(int position)
+    {
+        return index(position / getColumns(), position % getColumns());
+    }
+
+    /**
+     * Checks whether an index belongs to the sentinel border instead of a cell.
+     *
+     * @param index An index between {@code 0} and {@link #getIndexLimit()} (exclusive).
+     * @return {@code true} for sentinels, {@code false} for cells.
+     */
+    public boolean isSentinel(int index)
+    {
+        int column = index % stride;
+        return index < stride || index >= cells.length - stride || column == 0 || column == stride - 1;
+    }
+
+    /**
+     * Reveals the specified cell.
+     * <p>
+     * Flagged and already revealed cells are ignored. A question mark is removed when the cell is revealed.
+     * Revealing a mine marks the board as exploded; revealing a cell without adjacent mines also reveals
+     * all of its neighbours, cascading through connected empty areas. The size of the returned change set
+     * is the size of the cascade, and its entries are ordered by distance from the clicked cell.
+     *
+     * @param index The index of the cell to reveal.
+     * @return The cells that changed.
+     */
+    public ChangeSet reveal(int index)
+    {
+        getChanges().clear();
+        revealCell(index);
+
+        assert countersMatchScan();
+        return getChanges();
+    }
+
+    /**
+     * Reveals a single cell and, if it has no adjacent mines, floods through the connected empty area.
+     *
+     * @param index The index of the cell to reveal.
+     */
+    private void revealCell(int index)
+    {
+        int state = cells[index] & 0xFF;
+        if ((state & (REVEALED | FLAGGED)) != 0) // Skips revealed and flagged cells.
+        {
+            return;
+        }
+
+        cells[index] = (byte) ((state & ~QUESTIONED) | REVEALED); // Reveals the cell and clears a question mark.
+        getChanges().add(index);
+
+        if ((state & MINE) != 0) // A revealed mine ends the game.
+        {
+            setExploded(true);
+            getChanges().setExploded(true);
+            return;
+        }
+
+        unrevealedSafeCells--; // One safe cell fewer left to reveal.
+        if ((state & ADJACENT_MASK) == 0) // Empty cells reveal their neighbours.
+        {
+            enqueueCascade(index);
+            floodFill();
+        }
+    }
+
+    /**
+     * Reveals the cascade started by the empty cells in the cascade queue.
+     * <p>
+     * This is a breadth-first search over an {@code int} ring buffer instead of a recursion, so it neither
+     * overflows the stack on huge boards nor allocates per step. Every cell is marked revealed before it is
+     * queued, so each cell is visited at most once. Neighbours of an empty cell can never be mines.
+     * Neighbours are reached through the precomputed offsets; sentinels look revealed and are skipped
+     * like any other revealed cell, so no bounds checks are needed.
+     */
+    private void floodFill()
+    {
+        while (cascadeHead != cascadeTail)
+        {
+            int index = cascadeQueue[cascadeHead];
+            cascadeHead = (cascadeHead + 1) & (cascadeQueue.length - 1); // Advances the head around the ring.
+
+            for (int offset : neighbourOffsets)
+            {
+                int neighbour = index + offset;
+                int state = cells[neighbour] & 0xFF;
+                if ((state & (REVEALED | FLAGGED)) != 0) // Skips revealed cells, sentinels and flagged cells.
+                {
+                    continue;
+                }
+
+                cells[neighbour] = (byte) ((state & ~QUESTIONED) | REVEALED);
+                getChanges().add(neighbour);
+                unrevealedSafeCells--;
+
+                if ((state & ADJACENT_MASK) == 0) // Empty neighbours continue the cascade.
+                {
+                    enqueueCascade(neighbour);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an empty cell to the cascade queue, doubling the ring buffer if it is full.
+     *
+     * @param index The index of the empty cell.
+     */
+    private void enqueueCascade(int index)
+    {
+        int mask = cascadeQueue.length - 1;
+        if (((cascadeTail + 1) & mask) == cascadeHead) // The ring is full.
+        {
+            int[] grown = new int[cascadeQueue.length * 2];
+            int size = 0;
+            for (int i = cascadeHead; i != cascadeTail; i = (i + 1) & mask)
+            {
+                grown[size++] = cascadeQueue[i]; // Copies the pending cells in queue order.
+            }
+
+            cascadeQueue = grown;
+            cascadeHead = 0;
+            cascadeTail = size;
+            mask = grown.length - 1;
+        }
+
+        cascadeQueue[cascadeTail] = index;
+        cascadeTail = (cascadeTail + 1) & mask;
+    }
+
+    /**
+     * Cycles the marker of an unrevealed cell from unmarked to flagged, from flagged to questioned,
+     * and from questioned back to unmarked.
+     *
+     * @param index The index of the cell to mark.
+     * @return The cells that changed; empty if the cell is already revealed.
+     */
+    public ChangeSet toggleFlag(int index)
+    {
+        getChanges().clear();
+
+        int state = cells[index] & 0xFF;
+        if ((state & REVEALED) != 0) // Revealed cells cannot be marked.
+        {
+            return getChanges();
+        }
+
+        if ((state & FLAGGED) != 0) // Flagged cells become questioned.
+        {
+            state = (state & ~FLAGGED) | QUESTIONED;
+            flaggedCount--;
+        } else if ((state & QUESTIONED) != 0) // Questioned cells become unmarked.
+        {
+            state &= ~QUESTIONED;
+        } else // Unmarked cells become flagged.
+        {
+            state |= FLAGGED;
+            flaggedCount++;
+        }
+
+        cells[index] = (byte) state;
+        getChanges().add(index);
+
+        assert countersMatchScan();
+        return getChanges();
+    }
+
+    /**
+     * Reveals all unflagged neighbours of a revealed number cell once the matching number of
+     * neighbours has been flagged ("chording").
+     *
+     * @param index The index of the revealed number cell.
+     * @return The cells that changed; empty if the chord is not applicable.
+     */
+    public ChangeSet chord(int index)
+    {
+        getChanges().clear();
+
+        int state = cells[index] & 0xFF;
+        int adjacentMines = state & ADJACENT_MASK;
+        if ((state & REVEALED) == 0 || (state & MINE) != 0 || adjacentMines == 0)
+        {
+            return getChanges();
+        }
+
+        int flaggedNeighbours = 0;
+
+        // Counts the flagged neighbours; sentinels are never flagged.
+        for (int offset : neighbourOffsets)
+        {
+            if ((cells[index + offset] & FLAGGED) != 0)
+            {
+                flaggedNeighbours++;
+            }
+        }
+
+        if (flaggedNeighbours == adjacentMines) // Only chords when every adjacent mine is accounted for.
+        {
+            for (int offset : neighbourOffsets)
+            {
+                revealCell(index + offset); // Skips revealed cells, sentinels and flagged cells by itself.
+            }
+        }
+
+        assert countersMatchScan();
+        return getChanges();
+    }
+
+    /**
+     * Reveals every cell that is neither flagged nor already revealed, including mines.
+     * <p>
+     * Used when the player claims that all mines are flagged.
+     *
+     * @return The cells that changed; exploded if any unflagged mine was revealed.
+     */
+    public ChangeSet revealAllUnflagged()
+    {
+        getChanges().clear();
+
+        for (int index = 0; index < cells.length; index++)
+        {
+            int state = cells[index] & 0xFF;
+            if ((state & (REVEALED | FLAGGED)) == 0) // Also skips sentinels, which look revealed.
+            {
+                cells[index] = (byte) ((state & ~QUESTIONED) | REVEALED);
+                getChanges().add(index);
+
+                if ((state & MINE) != 0)
+                {
+                    setExploded(true);
+                    getChanges().setExploded(true);
+                } else
+                {
+                    unrevealedSafeCells--;
+                }
+            }
+        }
+
+        assert countersMatchScan();
+        return getChanges();
+    }
+
+    /**
+     * Checks whether every cell without a mine has been revealed and no mine has exploded.
+     * <p>
+     * Runs in constant time using the incrementally maintained count of unrevealed safe cells.
+     *
+     * @return {@code true} if the game is won, {@code false} otherwise.
+     */
+    public boolean isWon()
+    {
+        return !isExploded() && getUnrevealedSafeCells() == 0;
+    }
+
+    /**
+     * Cross-checks the incrementally maintained counters against a full scan of the board.
+     * <p>
+     * Only called from {@code assert} statements, so the scan costs nothing unless assertions are enabled.
+     *
+     * @return {@code true} if all counters match.
+     * @throws AssertionError if a counter has drifted from the board state.
+     */
+    private boolean countersMatchScan()
+    {
+        int unrevealedSafe = 0;
+        int flagged = 0;
+        for (byte cell : cells)
+        {
+            if ((cell & (MINE | REVEALED)) == 0) // Sentinels look revealed and are not counted.
+            {
+                unrevealedSafe++;
+            }
+            if ((cell & FLAGGED) != 0)
+            {
+                flagged++;
+            }
+        }
+
+        if (unrevealedSafe != getUnrevealedSafeCells())
+        {
+            throw new AssertionError("Unrevealed safe cell counter is " + getUnrevealedSafeCells() + " but the board has " + unrevealedSafe);
+        }
+        if (flagged != getFlaggedCount())
+        {
+            throw new AssertionError("Flag counter is " + getFlaggedCount() + " but the board has " + flagged);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether a mine has been revealed.
+     *
+     * @return {@code true} if the game is lost, {@code false} otherwise.
+     */
+    public boolean isLost()
+    {
+        return isExploded();
+    }
+
+    /**
+     * Gets the number of flagged cells on the board.
+     *
+     * @return The number of flagged cells.
+     */
+    public int getFlaggedCount()
+    {
+        return flaggedCount;
+    }
+
+    /**
+     * Sets the number of flagged cells on the board.
+     *
+     * @param flaggedCount The number of flagged cells.
+     */
+    private void setFlaggedCount(int flaggedCount)
+    {
+        this.flaggedCount = flaggedCount;
+    }
+
+    /**
+     * Converts a row and column into a flat cell index.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The flat index of the cell within the padded grid.
+     */
+    public int index(int row, int column)
+    {
+        return (row + 1) * stride + column + 1;
+    }
+
+    /**
+     * Returns the row of the cell with the specified index.
+     *
+     * @param index The flat index of the cell.
+     * @return The row of the cell.
+     */
+    public int getRow(int index)
+    {
+        return index / stride - 1;
+    }
+
+    /**
+     * Returns the column of the cell with the specified index.
+     *
+     * @param index The flat index of the cell.
+     * @return The column of the cell.
+     */
+    public int getColumn(int index)
+    {
+        return index % stride - 1;
+    }
+
+    /**
+     * Gets the index offsets of the eight neighbours of a cell.
+     * <p>
+     * Adding an offset to the index of a cell yields the index of a neighbour, or of a sentinel at the border.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The neighbour offsets, row by row from the top left.
+     */
+    public int[] getNeighbourOffsets()
+    {
+        return neighbourOffsets;
+    }
+
+    /**
+     * Checks whether a position lies on the board.
+     *
+     * @param row    The row of the position.
+     * @param column The column of the position.
+     * @return {@code true} if the position is within the board, {@code false} otherwise.
+     */
+    public boolean isInBounds(int row, int column)
+    {
+        return row >= 0 && row < getRows() && column >= 0 && column < getColumns();
+    }
+
+    /**
+     * Checks whether the specified cell contains a mine.
+     *
+     * @param index The index of the cell.
+     * @return {@code true} if the cell contains a mine, {@code false} otherwise.
+     */
+    public boolean isMine(int index)
+    {
+        return (cells[index] & MINE) != 0;
+    }
+
+    /**
+     * Checks whether the specified cell is revealed.
+     *
+     * @param index The index of the cell.
+     * @return {@code true} if the cell is revealed, {@code false} otherwise.
+     */
+    public boolean isRevealed(int index)
+    {
+        return (cells[index] & REVEALED) != 0;
+    }
+
+    /**
+     * Checks whether the specified cell is flagged.
+     *
+     * @param index The index of the cell.
+     * @return {@code true} if the cell is flagged, {@code false} otherwise.
+     */
+    public boolean isFlagged(int index)
+    {
+        return (cells[index] & FLAGGED) != 0;
+    }
+
+    /**
+     * Checks whether the specified cell is marked with a question mark.
+     *
+     * @param index The index of the cell.
+     * @return {@code true} if the cell is questioned, {@code false} otherwise.
+     */
+    public boolean isQuestioned(int index)
+    {
+        return (cells[index] & QUESTIONED) != 0;
+    }
+
+    /**
+     * Returns the number of mines adjacent to the specified cell.
+     *
+     * @param index The index of the cell.
+     * @return The number of adjacent mines (0-8).
+     */
+    public int getAdjacentMines(int index)
+    {
+        return cells[index] & ADJACENT_MASK;
+    }
+
+    /**
+     * Returns the packed state byte of the specified cell, see the class documentation for its layout.
+     *
+     * @param index The index of the cell.
+     * @return The packed cell state as an unsigned value.
+     */
+    public int getState(int index)
+    {
+        return cells[index] & 0xFF;
+    }
+
+    /**
+     * Gets the number of cells on the board, not counting sentinels.
+     *
+     * @return The number of cells.
+     */
+    public int getSize()
+    {
+        return getRows() * getColumns();
+    }
+
+    /**
+     * Gets the exclusive upper bound of all indices, including the sentinel border.
+     * <p>
+     * Arrays indexed like the board must have this length.
+     *
+     * @return The number of cells plus the number of sentinels.
+     */
+    public int getIndexLimit()
+    {
+        return cells.length;
+    }
+
+    /**
+     * Gets the number of rows on the board.
+     *
+     * @return The number of rows.
+     */
+    public int getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns on the board.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Gets the total number of mines on the board.
+     *
+     * @return The total number of mines.
+     */
+    public int getTotalMines()
+    {
+        return totalMines;
+    }
+
+    /**
+     * Gets the change set reused by the operations of this board.
+     *
+     * @return The {@link ChangeSet} of this board.
+     */
+    public ChangeSet getChanges()
+    {
+        return changes;
+    }
+
+    /**
+     * Gets the number of cells without a mine that still have to be revealed.
+     *
+     * @return The number of unrevealed safe cells.
+     */
+    public int getUnrevealedSafeCells()
+    {
+        return unrevealedSafeCells;
+    }
+
+    /**
+     * Sets the number of cells without a mine that still have to be revealed.
+     *
+     * @param unrevealedSafeCells The number of unrevealed safe cells.
+     */
+    private void setUnrevealedSafeCells(int unrevealedSafeCells)
+    {
+        this.unrevealedSafeCells = unrevealedSafeCells;
+    }
+
+    /**
+     * Checks whether the mines have been placed since the board was created or reset.
+     *
+     * @return {@code true} if the mines have been placed, {@code false} otherwise.
+     */
+    public boolean isMinesPlaced()
+    {
+        return minesPlaced;
+    }
+
+    /**
+     * Sets whether the mines have been placed.
+     *
+     * @param minesPlaced {@code true} if the mines have been placed, {@code false} otherwise.
+     */
+    private void setMinesPlaced(boolean minesPlaced)
+    {
+        this.minesPlaced = minesPlaced;
+    }
+
+    /**
+     * Checks whether no cell has been revealed since the board was created or reset, i.e. whether the first click
+     * is still to come.
+     *
+     * @return {@code true} if nothing has been revealed yet, {@code false} otherwise.
+     */
+    public boolean isUntouched()
+    {
+        return !isExploded() && getUnrevealedSafeCells() == getSize() - getTotalMines();
+    }
+
+    /**
+     * Checks whether a mine has been revealed.
+     *
+     * @return {@code true} if a mine has been revealed, {@code false} otherwise.
+     */
+    public boolean isExploded()
+    {
+        return exploded;
+    }
+
+    /**
+     * Sets whether a mine has been revealed.
+     *
+     * @param exploded {@code true} if a mine has been revealed, {@code false} otherwise.
+     */
+    private void setExploded(boolean exploded)
+    {
+        this.exploded = exploded;
+    }
+}
@@ -1,56 +1,55 @@
 package htl.steyr.javafx_minesweeper_tplatzer.model;
 
 import htl.steyr.javafx_minesweeper_tplatzer.controller.GameController;
+import htl.steyr.javafx_minesweeper_tplatzer.view.IconCache;
+import javafx.beans.binding.Bindings;
+import javafx.css.PseudoClass;
 import javafx.scene.control.Button;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.MouseButton;
-
-import java.util.Objects;
 
 /**
  * Represents a single cell in the Minesweeper game grid.
  * <p>
- * A cell can either be a bomb or a regular cell and supports various states such as flagged,
- * revealed, or questioned. Each cell interacts with a {@link GameController} to manage game logic
- * such as revealing cells, toggling flags, and checking win conditions.
+ * A cell is the JavaFX view of one position on the {@link Board}. It owns the {@link Button} shown by the
+ * {@link htl.steyr.javafx_minesweeper_tplatzer.view.ButtonBoardView} and forwards clicks to its {@link GameController},
+ * while the game state itself (mine, revealed, flagged, questioned, adjacent count) is read from the board. After the board changes, {@link #refresh()}
+ * updates the button to match the current state.
+ * <p>
+ * The look of a cell is driven by a fixed set of CSS pseudo-classes ({@code :revealed}, {@code :exploded} and
+ * {@code :number-1} to {@code :number-8}) on its single {@code cell-button} style class. Toggling a pseudo-class
+ * only flips a bit, so the style class list never grows and no class names are built at runtime.
  */
 public class Cell
 {
     /**
-     * The visual style of the cell (e.g., "retro", "modern").
-     * This determines the appearance of the cell in the game UI.
+     * Pseudo-class of revealed cells, including bombs shown at the end of the game.
      */
-    private String style;
+    private static final PseudoClass REVEALED = PseudoClass.getPseudoClass("revealed");
 
     /**
-     * Indicates whether the cell contains a bomb.
-     * {@code true} if the cell contains a bomb, {@code false} otherwise.
+     * Pseudo-class of the revealed bomb that ended the game.
      */
-    private boolean isBomb;
+    private static final PseudoClass EXPLODED = PseudoClass.getPseudoClass("exploded");
 
     /**
-     * Indicates whether the cell is flagged by the player.
-     * {@code true} if the cell is flagged, {@code false} otherwise.
+     * Pseudo-classes of revealed cells with one to eight adjacent bombs, indexed by count (index 0 is unused).
      */
-    private boolean isFlagged;
+    private static final PseudoClass[] NUMBERS = new PseudoClass[9];
 
-    /**
-     * Indicates whether the cell has been revealed.
-     * {@code true} if the cell is revealed, {@code false} otherwise.
-     */
-    private boolean isRevealed;
-
-    /**
-     * Indicates whether the cell is marked with a question mark.
-     * {@code true} if the cell is questioned, {@code false} otherwise.
-     */
-    private boolean isQuestioned;
+    static
+    {
+        for (int count = 1; count < NUMBERS.length; count++)
+        {
+            NUMBERS[count] = PseudoClass.getPseudoClass("number-" + count); // Created once for all cells.
+        }
+    }
 
     /**
-     * The number of bombs adjacent to this cell.
-     * Represents how many neighboring cells contain bombs.
+     * The visual style of the cell (e.g., "retro", "modern").
+     * This determines the appearance of the cell in the game UI.
      */
-    private int adjacentBombs;
+    private String style;
 
     /**
      * The graphical button representation of the cell.
@@ -58,6 +57,12 @@ public class Cell
      */
     private Button button;
 
+    /**
+     * The view showing the cell's current icon, or {@code null} until the cell shows its first icon.
+     * Its size is bound to the button once, so changing the icon only swaps the image.
+     */
+    private ImageView iconView;
+
     /**
      * The {@link GameController} managing the game logic for this cell.
      * Links the cell to its controller to handle interactions and updates.
@@ -76,213 +81,176 @@ public class Cell
      */
     private int column;
 
+    /**
+     * The index of the cell on the {@link Board}.
+     */
+    private int index;
+
 
     /**
      * Constructs a new {@code Cell} with the specified parameters.
      * <p>
-     * Initializes the cell's state, visual style, position, and graphical representation.
-     * Attaches mouse click handlers to manage primary (left-click) and secondary (right-click) actions.
+     * Initializes the cell's visual style, position, and graphical representation.
+     * Attaches mouse click handlers to manage primary (left-click), secondary (right-click)
+     * and middle (chord) actions.
      *
      * @param style          The visual style of the cell (e.g., "retro", "modern").
-     * @param isBomb         {@code true} if the cell contains a bomb, {@code false} otherwise.
      * @param gameController The {@link GameController} managing this cell.
      * @param row            The row index of the cell in the game grid.
      * @param column         The column index of the cell in the game grid.
      */
-    public Cell(String style, boolean isBomb, GameController gameController, int row, int column)
+    public Cell(String style, GameController gameController, int row, int column)
     {
         setStyle(style);                     // Sets the visual style of the cell.
-        setBomb(isBomb);                     // Indicates whether the cell contains a bomb.
         setGameController(gameController);   // Associates the cell with a GameController instance.
         setRow(row);                         // Sets the cell's row index in the grid.
         setColumn(column);                   // Sets the cell's column index in the grid.
-
-        setFlagged(false);                   // Initializes the cell as not flagged.
-        setRevealed(false);                  // Initializes the cell as not revealed.
-        setQuestioned(false);                // Initializes the cell as not questioned.
-        setAdjacentBombs(0);                 // Sets the initial number of adjacent bombs to zero.
+        setIndex(getBoard().index(row, column)); // Caches the cell's index on the board.
 
         setButton(new Button());             // Creates the graphical button for the cell.
         getButton().setPrefSize(30, 30);     // Sets the button's preferred size.
         getButton().getStyleClass().add("cell-button"); // Applies the default style class to the button.
 
-        // Adds a mouse click listener to the button to handle user interactions.
-        getButton().setOnMouseClicked(event ->
-        {
-            if (getGameController().isFirstClick()) // Starts the game timer on the first click.
-            {
-                getGameController().startTimer();
-                getGameController().setFirstClick(false);
-            }
-
-            switch (event.getButton()) // Handles left and right mouse clicks.
-            {
-                case MouseButton.PRIMARY -> reveal();      // Left-click reveals the cell.
-                case MouseButton.SECONDARY -> toggleFlag(); // Right-click toggles the flag state.
-            }
-        });
+        // Forwards clicks on the button to the game controller.
+        getButton().setOnMouseClicked(event -> getGameController().handleCellClick(getIndex(), event.getButton()));
     }
 
     /**
-     * Toggles the state of the cell between flagged, questioned, and unmarked.
+     * Updates the button to reflect the current state of the cell on the {@link Board}.
      * <p>
-     * If the cell is not revealed, this method cycles through the following states when right-clicked:
-     * <ul>
-     *     <li>Flagged: Marks the cell with a flag icon.</li>
-     *     <li>Questioned: Marks the cell with a question mark icon.</li>
-     *     <li>Unmarked: Removes any icon from the cell.</li>
-     * </ul>
-     * Updates the remaining flags counter and checks the game's win condition after each change.
-     */
-    private void toggleFlag()
+     * Unrevealed cells show their flag or question mark icon (if any). Revealed cells are disabled and show
+     * either a bomb, the number of adjacent bombs, or nothing for empty cells. Only properties and pseudo-classes
+     * that differ from the desired state are touched, so refreshing an unchanged cell does not invalidate
+     * its CSS or layout.
+     *
+     * @return The number of button properties and pseudo-classes that changed.
+     */
+    public int refresh()
     {
-        if (!isRevealed()) // Ensures the cell is not already revealed.
+        if (!isRevealed())
         {
-            if (isFlagged()) // If flagged, change to questioned.
+            int mutations = clearRevealedState(); // Undoes the revealed style of a previous game.
+            if (isFlagged())
             {
-                setFlagged(false);         // Unmark the cell as flagged.
-                setQuestioned(true);       // Mark the cell as questioned.
-                setIconForButton("question"); // Update the cell's icon to a question mark.
-            } else if (isQuestioned()) // If questioned, remove the icon.
+                return mutations + setIconForButton("flag"); // Shows the flag icon.
+            } else if (isQuestioned())
             {
-                setQuestioned(false);      // Unmark the cell as questioned.
-                removeIconFromButton();    // Remove any icon from the cell.
-            } else // Otherwise, flag the cell.
-            {
-                setFlagged(true);          // Mark the cell as flagged.
-                setIconForButton("flag");  // Update the cell's icon to a flag.
+                return mutations + setIconForButton("question"); // Shows the question mark icon.
             }
-
-            getGameController().updateRemainingFlagsCounter(); // Updates the displayed count of remaining flags.
-            getGameController().checkWinCondition(); // Checks if the player has won the game.
+            return mutations + removeIconFromButton(); // Removes any marker icon.
         }
-    }
 
-    /**
-     * Reveals the cell without suppressing the end-game logic.
-     * <p>
-     * This method is a convenience wrapper for the {@link #reveal(boolean)} method,
-     * calling it with {@code suppressEndGame} set to {@code false}.
-     */
-    protected void reveal()
-    {
-        reveal(false); // Calls the overloaded reveal method without suppressing the end-game logic.
-    }
-
-    /**
-     * Reveals the cell and updates its state and appearance based on its content.
-     * <p>
-     * If the cell is flagged or already revealed, the method does nothing. Otherwise:
-     * <ul>
-     *     <li>If the cell is a bomb, it triggers the game's end unless suppression is enabled.</li>
-     *     <li>If the cell has adjacent bombs, it displays the count of adjacent bombs.</li>
-     *     <li>If the cell has no adjacent bombs, it recursively reveals all neighboring cells.</li>
-     * </ul>
-     *
-     * @param suppressEndGame {@code true} to prevent the game from ending if the cell contains a bomb,
-     *                        {@code false} to allow the game to end normally.
-     */
-    public void reveal(boolean suppressEndGame)
-    {
-        if (isRevealed() || isFlagged()) // Skip if the cell is already revealed or flagged.
-        {
-            return;
-        }
-
-        if (isQuestioned()) // Remove the question mark if present.
+        int mutations = 0;
+        if (!getButton().isDisable())
         {
-            setQuestioned(false); // Unmark the cell as questioned.
-            removeIconFromButton(); // Remove the graphical question mark icon.
+            getButton().setDisable(true); // Disable interactions with the button.
+            mutations++;
         }
-
-        setRevealed(true); // Mark the cell as revealed.
-        getButton().setDisable(true); // Disable interactions with the button.
-        getButton().getStyleClass().add("cell-button-revealed"); // Apply the revealed cell style.
+        mutations += setPseudoClass(REVEALED, true); // Apply the revealed cell style.
 
         if (isBomb()) // If the cell contains a bomb:
         {
-            getButton().getStyleClass().add("cell-bomb-revealed"); // Apply the bomb-revealed style.
-
-            silentBombReveal(suppressEndGame); // Reveal the bomb icon silently.
-            if (!suppressEndGame) getGameController().endGame(false); // End the game if suppression is disabled.
-        } else if (getAdjacentBombs() > 0) // If the cell has adjacent bombs:
+            mutations += silentBombReveal(true); // Shows the bomb icon on a highlighted background.
+        } else // If the cell has no bomb:
         {
-            getButton().setText(String.valueOf(getAdjacentBombs())); // Display the count of adjacent bombs.
-            getButton().getStyleClass().add("cell-number-" + getAdjacentBombs()); // Apply the number style.
-        } else // If the cell has no adjacent bombs:
-        {
-            getButton().getStyleClass().add("cell-button-revealed"); // Apply the revealed style.
-            revealAdjacentCells(); // Recursively reveal all neighboring cells.
+            mutations += removeIconFromButton(); // Remove any existing graphics to prevent leftover icons.
+            for (int count = 1; count < NUMBERS.length; count++)
+            {
+                mutations += setPseudoClass(NUMBERS[count], count == getAdjacentBombs()); // Apply only the style of the own count.
+            }
+            if (getAdjacentBombs() > 0) // If the cell has adjacent bombs:
+            {
+                mutations += setButtonText(String.valueOf(getAdjacentBombs())); // Display the count of adjacent bombs.
+            }
         }
 
-        if (!suppressEndGame)
-            getGameController().checkWinCondition(); // Check the win condition if suppression is disabled.
+        return mutations;
     }
 
     /**
      * Reveals the cell as a bomb without triggering end-game logic by default.
      * <p>
      * This method updates the cell's appearance to indicate that it contains a bomb.
-     * If {@code suppressEndGame} is {@code true}, it applies an additional style
+     * If {@code suppressEndGame} is {@code true}, it applies the {@code :exploded} pseudo-class
      * to visually distinguish the revealed bomb from others.
      *
      * @param suppressEndGame {@code true} to apply a distinct style for bomb-revealed cells
      *                        without ending the game, {@code false} otherwise.
+     * @return The number of button properties and pseudo-classes that changed.
      */
-    public void silentBombReveal(boolean suppressEndGame)
+    public int silentBombReveal(boolean suppressEndGame)
     {
-        getButton().setText(""); // Clears any text from the button.
-        setIconForButton("bomb"); // Sets the bomb icon for the button.
-        getButton().getStyleClass().add("cell-button-revealed"); // Applies the revealed cell style.
+        int mutations = setButtonText(""); // Clears any text from the button.
+        mutations += setIconForButton("bomb"); // Sets the bomb icon for the button.
+        mutations += setPseudoClass(REVEALED, true); // Applies the revealed cell style.
+        mutations += setPseudoClass(EXPLODED, suppressEndGame); // Highlights the bomb that ended the game.
 
-        // If suppression is enabled, add a specific style to highlight the bomb.
-        if (suppressEndGame)
-        {
-            getButton().getStyleClass().add("cell-bomb-revealed");
-        }
+        return mutations;
+    }
+
+    /**
+     * Marks a flag that was placed on a cell without a bomb after the game has ended.
+     * <p>
+     * The cell shows the "false-flag" icon and is styled as revealed.
+     */
+    public void showFalseFlag()
+    {
+        setIconForButton("false-flag"); // Sets an icon to indicate the flag was incorrect.
+        setPseudoClass(REVEALED, true); // Shows the cell as revealed.
     }
 
     /**
-     * Sets an icon for the cell's button using the specified image file.
+     * Sets an icon for the cell's button.
      * <p>
-     * This method loads an image based on the provided icon name and applies it to the button.
-     * The image is dynamically resized to maintain its aspect ratio and fit within the button's dimensions.
+     * The decoded image comes from the {@link IconCache}, and the cell reuses a single {@link ImageView}
+     * for all of its icons, so toggling markers neither decodes images nor adds listeners.
      *
      * @param icon The name of the icon file (without the file extension) to be displayed on the button.
      *             The file should be located in the path: {@code /<style>/img/<icon>.png}.
+     * @return The number of node properties that changed; zero if the icon was already shown.
      * @throws NullPointerException if the icon file cannot be found in the specified path.
      */
-    public void setIconForButton(String icon)
+    public int setIconForButton(String icon)
     {
-        // Load the image resource based on the icon name and the current style.
-        ImageView imageView = new ImageView(Objects.requireNonNull(getClass().getResource("/" + getStyle() + "/img/" + icon + ".png")).toExternalForm());
-        imageView.setPreserveRatio(true); // Maintain the aspect ratio of the image.
-
-        // Add listeners to dynamically adjust the icon size based on button dimensions.
-        getButton().widthProperty().addListener((observable, oldValue, newValue) -> adjustIconSize(imageView));
-        getButton().heightProperty().addListener((observable, oldValue, newValue) -> adjustIconSize(imageView));
+        if (getIconView() == null)
+        {
+            setIconView(createIconView()); // Created on the first icon only, most cells never show one.
+        }
 
-        adjustIconSize(imageView); // Initially adjust the icon size.
+        int mutations = 0;
+        Image image = IconCache.getIcon(getStyle(), icon);
+        if (getIconView().getImage() != image)
+        {
+            getIconView().setImage(image); // Swaps the image of the reused view.
+            mutations++;
+        }
+        if (getButton().getGraphic() != getIconView())
+        {
+            getButton().setGraphic(getIconView()); // Set the image as the graphic for the button.
+            mutations++;
+        }
 
-        getButton().setGraphic(imageView); // Set the image as the graphic for the button.
+        return mutations;
     }
 
     /**
-     * Adjusts the size of the icon to fit within the button while maintaining its aspect ratio.
+     * Creates the view showing the cell's icons.
      * <p>
-     * This method calculates the optimal size for the icon based on the button's current width
-     * and height, ensuring the icon occupies 75% of the button's smaller dimension.
+     * The icon keeps its aspect ratio and is bound to 75% of the button's smaller dimension, so it follows
+     * the button's size without any further listeners.
      *
-     * @param imageView The {@link ImageView} representing the icon to be resized.
+     * @return The new {@link ImageView}.
      */
-    private void adjustIconSize(ImageView imageView)
+    private ImageView createIconView()
     {
-        // Calculate the size as 75% of the smaller dimension of the button.
-        double iconSize = Math.min(getButton().getWidth(), getButton().getHeight()) * 0.75;
+        ImageView imageView = new ImageView();
+        imageView.setPreserveRatio(true); // Maintain the aspect ratio of the image.
+
+        // Sizes the icon to 75% of the smaller dimension of the button.
+        imageView.fitWidthProperty().bind(Bindings.min(getButton().widthProperty(), getButton().heightProperty()).multiply(0.75));
+        imageView.fitHeightProperty().bind(imageView.fitWidthProperty());
 
-        // Set the calculated size for the icon's width and height.
-        imageView.setFitWidth(iconSize);
-        imageView.setFitHeight(iconSize);
+        return imageView;
     }
 
     /**
@@ -290,133 +258,137 @@ public class Cell
      * <p>
      * This method clears the graphic element of the button, effectively removing any
      * displayed icon (e.g., bomb, flag, or question mark).
+     *
+     * @return {@code 1} if an icon was removed, {@code 0} if the button had none.
      */
-    private void removeIconFromButton()
+    private int removeIconFromButton()
     {
+        if (getButton().getGraphic() == null)
+        {
+            return 0;
+        }
+
         getButton().setGraphic(null); // Clears the graphic associated with the button.
+        return 1;
     }
 
     /**
-     * Reveals all adjacent cells recursively if they do not contain bombs.
-     * <p>
-     * This method checks the neighboring cells of the current cell within the bounds of the game field.
-     * If a neighboring cell is not revealed or flagged and does not contain adjacent bombs, it is revealed.
-     * The process continues recursively for neighboring cells with no adjacent bombs.
-     * <p>
-     * Cells with adjacent bombs are revealed without further recursion.
+     * Re-enables the cell's button and removes the text and pseudo-classes of a revealed cell,
+     * e.g. after the board was reset for a new game.
+     *
+     * @return The number of button properties and pseudo-classes that changed.
      */
-    private void revealAdjacentCells()
+    private int clearRevealedState()
     {
-        for (int row = getRow() - 1; row <= getRow() + 1; row++) // Loop through rows around the current cell.
+        int mutations = 0;
+        if (getButton().isDisable())
         {
-            for (int col = getColumn() - 1; col <= getColumn() + 1; col++) // Loop through columns around the current cell.
-            {
-                // Ensure the cell is within bounds and is not the current cell itself.
-                if (getGameController().isInBounds(row, col) && !(row == getRow() && col == getColumn()))
-                {
-                    Cell neighbor = getGameController().getCellAt(row, col);
-
-                    // Only proceed if the neighboring cell is not already revealed or flagged.
-                    if (!neighbor.isRevealed() && !neighbor.isFlagged())
-                    {
-                        neighbor.setRevealed(true); // Mark the neighboring cell as revealed.
-                        neighbor.getButton().setDisable(true); // Disable interaction with the cell's button.
-                        neighbor.getButton().setGraphic(null); // Remove any existing graphics to prevent leftover icons.
-
-                        if (neighbor.getAdjacentBombs() == 0) // If the neighboring cell has no adjacent bombs:
-                        {
-                            neighbor.getButton().getStyleClass().add("cell-button-revealed"); // Apply the revealed style.
-                            neighbor.revealAdjacentCells(); // Recursively reveal its neighbors.
-                        } else // If the neighboring cell has adjacent bombs:
-                        {
-                            neighbor.getButton().setText(String.valueOf(neighbor.getAdjacentBombs())); // Display the number of adjacent bombs.
-                            neighbor.getButton().getStyleClass().add("cell-button-revealed"); // Apply the revealed style.
-                            neighbor.getButton().getStyleClass().add("cell-number-" + neighbor.getAdjacentBombs()); // Apply a specific style for the number.
-                        }
-                    }
-                }
-            }
+            getButton().setDisable(false); // Accepts clicks again.
+            mutations++;
+        }
+        mutations += setPseudoClass(REVEALED, false);
+        mutations += setPseudoClass(EXPLODED, false);
+        for (int count = 1; count < NUMBERS.length; count++)
+        {
+            mutations += setPseudoClass(NUMBERS[count], false);
         }
+
+        return mutations + setButtonText("");
     }
 
     /**
-     * Checks if this cell contains a bomb.
+     * Sets the text of the cell's button if it differs from the current text.
      *
-     * @return {@code true} if the cell contains a bomb, {@code false} otherwise.
+     * @param text The text to show.
+     * @return {@code 1} if the text changed, {@code 0} otherwise.
      */
-    public boolean isBomb()
+    private int setButtonText(String text)
     {
-        return isBomb;
+        if (text.equals(getButton().getText()))
+        {
+            return 0;
+        }
+
+        getButton().setText(text);
+        return 1;
     }
 
     /**
-     * Sets whether this cell contains a bomb.
+     * Activates or deactivates a pseudo-class of the cell's button if its state differs.
      *
-     * @param bomb {@code true} to indicate the cell contains a bomb, {@code false} otherwise.
+     * @param pseudoClass The pseudo-class to change.
+     * @param active      {@code true} to activate the pseudo-class, {@code false} to deactivate it.
+     * @return {@code 1} if the state changed, {@code 0} otherwise.
      */
-    public void setBomb(boolean bomb)
+    private int setPseudoClass(PseudoClass pseudoClass, boolean active)
     {
-        isBomb = bomb;
+        if (getButton().getPseudoClassStates().contains(pseudoClass) == active)
+        {
+            return 0;
+        }
+
+        getButton().pseudoClassStateChanged(pseudoClass, active);
+        return 1;
     }
 
     /**
-     * Checks if this cell is flagged by the player.
+     * Gets the {@link Board} holding the state of this cell.
      *
-     * @return {@code true} if the cell is flagged, {@code false} otherwise.
+     * @return The {@link Board} of the cell's game controller.
      */
-    public boolean isFlagged()
+    public Board getBoard()
     {
-        return isFlagged;
+        return getGameController().getBoard();
     }
 
     /**
-     * Sets whether this cell is flagged.
+     * Checks if this cell contains a bomb.
      *
-     * @param flagged {@code true} to flag the cell, {@code false} to unflag it.
+     * @return {@code true} if the cell contains a bomb, {@code false} otherwise.
      */
-    public void setFlagged(boolean flagged)
+    public boolean isBomb()
     {
-        isFlagged = flagged;
+        return getBoard().isMine(getIndex());
     }
 
     /**
-     * Checks if this cell has been revealed.
+     * Checks if this cell is flagged by the player.
      *
-     * @return {@code true} if the cell is revealed, {@code false} otherwise.
+     * @return {@code true} if the cell is flagged, {@code false} otherwise.
      */
-    public boolean isRevealed()
+    public boolean isFlagged()
     {
-        return isRevealed;
+        return getBoard().isFlagged(getIndex());
     }
 
     /**
-     * Sets whether this cell is revealed.
+     * Checks if this cell has been revealed.
      *
-     * @param revealed {@code true} to mark the cell as revealed, {@code false} otherwise.
+     * @return {@code true} if the cell is revealed, {@code false} otherwise.
      */
-    public void setRevealed(boolean revealed)
+    public boolean isRevealed()
     {
-        isRevealed = revealed;
+        return getBoard().isRevealed(getIndex());
     }
 
     /**
-     * Gets the number of bombs adjacent to this cell.
+     * Checks if this cell is marked as "questioned" by the player.
      *
-     * @return The number of adjacent bombs.
+     * @return {@code true} if the cell is questioned, {@code false} otherwise.
      */
-    public int getAdjacentBombs()
+    public boolean isQuestioned()
     {
-        return adjacentBombs;
+        return getBoard().isQuestioned(getIndex());
     }
 
     /**
-     * Sets the number of bombs adjacent to this cell.
+     * Gets the number of bombs adjacent to this cell.
      *
-     * @param adjacentBombs The number of adjacent bombs to set.
+     * @return The number of adjacent bombs.
      */
-    public void setAdjacentBombs(int adjacentBombs)
+    public int getAdjacentBombs()
     {
-        this.adjacentBombs = adjacentBombs;
+        return getBoard().getAdjacentMines(getIndex());
     }
 
     /**
@@ -439,6 +411,26 @@ public class Cell
         this.button = button;
     }
 
+    /**
+     * Gets the view showing the cell's icon.
+     *
+     * @return The {@link ImageView} of the icon, or {@code null} if the cell has not shown an icon yet.
+     */
+    public ImageView getIconView()
+    {
+        return iconView;
+    }
+
+    /**
+     * Sets the view showing the cell's icon.
+     *
+     * @param iconView The {@link ImageView} to set.
+     */
+    public void setIconView(ImageView iconView)
+    {
+        this.iconView = iconView;
+    }
+
     /**
      * Gets the game controller associated with this cell.
      *
@@ -500,23 +492,23 @@ public class Cell
     }
 
     /**
-     * Checks if this cell is marked as "questioned" by the player.
+     * Gets the index of this cell on the {@link Board}.
      *
-     * @return {@code true} if the cell is questioned, {@code false} otherwise.
+     * @return The board index of the cell.
      */
-    public boolean isQuestioned()
+    public int getIndex()
     {
-        return isQuestioned;
+        return index;
     }
 
     /**
-     * Sets whether this cell is marked as "questioned".
+     * Sets the index of this cell on the {@link Board}.
      *
-     * @param questioned {@code true} to mark the cell as questioned, {@code false} otherwise.
+     * @param index The board index to set.
      */
-    public void setQuestioned(boolean questioned)
+    public void setIndex(int index)
     {
-        isQuestioned = questioned;
+        this.index = index;
     }
 
     /**
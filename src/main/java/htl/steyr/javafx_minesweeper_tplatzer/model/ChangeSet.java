@@ -0,0 +1,136 @@
+package htl.steyr.javafx_minesweeper_tplatzer.model;
+
+import java.util.Arrays;
+
+/**
+ * Collects the indices of all cells whose state changed during a single {@link Board} operation.
+ * <p>
+ * A {@code ChangeSet} is owned and reused by its {@link Board}: every reveal, flag or chord operation
+ * clears it and records the cells it touched, so views only have to refresh those cells. The returned
+ * instance is only valid until the next operation on the same board.
+ */
+public class ChangeSet
+{
+    /**
+     * The indices of the changed cells. Grows on demand and is never shrunk.
+     */
+    private int[] indices;
+
+    /**
+     * The number of valid entries in {@link #indices}.
+     */
+    private int size;
+
+    /**
+     * Indicates whether the operation revealed a mine.
+     */
+    private boolean exploded;
+
+
+    /**
+     * Constructs a new, empty {@code ChangeSet} with the specified initial capacity.
+     *
+     * @param initialCapacity The number of indices the set can hold before it has to grow.
+     */
+    public ChangeSet(int initialCapacity)
+    {
+        setIndices(new int[Math.max(initialCapacity, 16)]); // Allocates the index buffer once.
+        clear(); // Starts with an empty set.
+    }
+
+    /**
+     * Removes all recorded indices and resets the explosion marker.
+     * <p>
+     * The underlying buffer is kept so that subsequent operations do not allocate.
+     */
+    public void clear()
+    {
+        setSize(0);
+        setExploded(false);
+    }
+
+    /**
+     * Records the index of a changed cell.
+     *
+     * @param index The index of the cell that changed.
+     */
+    public void add(int index)
+    {
+        if (size == indices.length)
+        {
+            indices = Arrays.copyOf(indices, indices.length * 2); // Doubles the buffer if it is full.
+        }
+        indices[size++] = index;
+    }
+
+    /**
+     * Returns the index of the changed cell at the given position in this set.
+     *
+     * @param position The position within the set, between {@code 0} and {@code size() - 1}.
+     * @return The index of the changed cell.
+     */
+    public int get(int position)
+    {
+        return indices[position];
+    }
+
+    /**
+     * Returns the number of changed cells.
+     *
+     * @return The number of recorded cell indices.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Checks whether no cell changed.
+     *
+     * @return {@code true} if the set is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the recorded operation revealed a mine.
+     *
+     * @return {@code true} if a mine was revealed, {@code false} otherwise.
+     */
+    public boolean isExploded()
+    {
+        return exploded;
+    }
+
+    /**
+     * Sets whether the recorded operation revealed a mine.
+     *
+     * @param exploded {@code true} if a mine was revealed, {@code false} otherwise.
+     */
+    public void setExploded(boolean exploded)
+    {
+        this.exploded = exploded;
+    }
+
+    /**
+     * Sets the number of valid entries.
+     *
+     * @param size The new size of the set.
+     */
+    private void setSize(int size)
+    {
+        this.size = size;
+    }
+
+    /**
+     * Sets the buffer holding the recorded indices.
+     *
+     * @param indices The new index buffer.
+     */
+    private void setIndices(int[] indices)
+    {
+        this.indices = indices;
+    }
+}
@@ -0,0 +1,202 @@
+package htl.steyr.javafx_minesweeper_tplatzer.model;
+
+/**
+ * Describes the dimensions and mine count of a game mode.
+ * <p>
+ * Game modes are identified by name throughout the application (e.g., when saving best times or
+ * submitting them to the leaderboard). Besides the predefined modes "beginner", "advanced" and "pro",
+ * custom modes are encoded as {@code custom-<rows>x<columns>-<mines>}, for example {@code custom-30x50-300},
+ * so that best times are kept separately for every custom configuration.
+ */
+public class Difficulty
+{
+    /**
+     * Prefix of the names of custom game modes.
+     */
+    public static final String CUSTOM = "custom";
+
+    /**
+     * The smallest number of rows or columns a custom game field may have.
+     */
+    public static final int MIN_SIZE = 5;
+
+    /**
+     * The largest number of rows or columns a custom game field may have.
+     */
+    public static final int MAX_SIZE = 5000;
+
+    /**
+     * The number of cells that must stay free of mines, so the first click and its neighbours can be safe.
+     */
+    public static final int SAFE_CELLS = 9;
+
+    /**
+     * The name of the game mode (e.g., "beginner" or "custom-30x50-300").
+     */
+    private final String name;
+
+    /**
+     * The number of rows of the game field.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns of the game field.
+     */
+    private final int columns;
+
+    /**
+     * The number of mines on the game field.
+     */
+    private final int mines;
+
+
+    /**
+     * Constructs a new {@code Difficulty} with the specified values.
+     *
+     * @param name    The name of the game mode.
+     * @param rows    The number of rows of the game field.
+     * @param columns The number of columns of the game field.
+     * @param mines   The number of mines on the game field.
+     */
+    private Difficulty(String name, int rows, int columns, int mines)
+    {
+        this.name = name;
+        this.rows = rows;
+        this.columns = columns;
+        this.mines = mines;
+    }
+
+    /**
+     * Returns the game mode with the specified name.
+     *
+     * @param name The name of a predefined mode ("beginner", "advanced", "pro") or of a custom mode
+     *             ({@code custom-<rows>x<columns>-<mines>}).
+     * @return The matching {@code Difficulty}.
+     * @throws IllegalArgumentException if the name is unknown or describes an invalid custom mode.
+     */
+    public static Difficulty of(String name)
+    {
+        return switch (name)
+        {
+            case "beginner" -> new Difficulty(name, 8, 8, 10);
+            case "advanced" -> new Difficulty(name, 16, 16, 40);
+            case "pro" -> new Difficulty(name, 16, 30, 99);
+            default -> parseCustom(name);
+        };
+    }
+
+    /**
+     * Creates a custom game mode with the specified dimensions and mine count.
+     *
+     * @param rows    The number of rows, between {@link #MIN_SIZE} and {@link #MAX_SIZE}.
+     * @param columns The number of columns, between {@link #MIN_SIZE} and {@link #MAX_SIZE}.
+     * @param mines   The number of mines, at least one and at most {@link #getMaxMines(int, int)}.
+     * @return The custom {@code Difficulty}.
+     * @throws IllegalArgumentException if a value is out of range.
+     */
+    public static Difficulty custom(int rows, int columns, int mines)
+    {
+        if (!isValidCustom(rows, columns, mines))
+        {
+            throw new IllegalArgumentException("Invalid custom game: " + rows + "x" + columns + " with " + mines + " mines");
+        }
+
+        return new Difficulty(CUSTOM + "-" + rows + "x" + columns + "-" + mines, rows, columns, mines);
+    }
+
+    /**
+     * Checks whether the specified values describe a valid custom game mode.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param mines   The number of mines.
+     * @return {@code true} if a custom mode with these values can be created, {@code false} otherwise.
+     */
+    public static boolean isValidCustom(int rows, int columns, int mines)
+    {
+        return rows >= MIN_SIZE && rows <= MAX_SIZE
+                && columns >= MIN_SIZE && columns <= MAX_SIZE
+                && mines >= 1 && mines <= getMaxMines(rows, columns);
+    }
+
+    /**
+     * Returns the largest number of mines a game field of the specified size may hold.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @return The maximum number of mines, leaving {@link #SAFE_CELLS} cells free.
+     */
+    public static int getMaxMines(int rows, int columns)
+    {
+        return rows * columns - SAFE_CELLS;
+    }
+
+    /**
+     * Parses the name of a custom game mode.
+     *
+     * @param name The name in the form {@code custom-<rows>x<columns>-<mines>}.
+     * @return The custom {@code Difficulty}.
+     * @throws IllegalArgumentException if the name is not a valid custom mode.
+     */
+    private static Difficulty parseCustom(String name)
+    {
+        if (name == null || !name.matches(CUSTOM + "-\\d{1,5}x\\d{1,5}-\\d{1,9}"))
+        {
+            throw new IllegalArgumentException("Unknown Difficulty: " + name);
+        }
+
+        String[] parts = name.substring(CUSTOM.length() + 1).split("[x-]"); // Splits "<rows>x<columns>-<mines>".
+        return custom(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    /**
+     * Checks whether this is a custom game mode.
+     *
+     * @return {@code true} for custom modes, {@code false} for the predefined ones.
+     */
+    public boolean isCustom()
+    {
+        return getName().startsWith(CUSTOM);
+    }
+
+    /**
+     * Gets the name of the game mode.
+     *
+     * @return The name (e.g., "beginner" or "custom-30x50-300").
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Gets the number of rows of the game field.
+     *
+     * @return The number of rows.
+     */
+    public int getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of the game field.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Gets the number of mines on the game field.
+     *
+     * @return The number of mines.
+     */
+    public int getMines()
+    {
+        return mines;
+    }
+}
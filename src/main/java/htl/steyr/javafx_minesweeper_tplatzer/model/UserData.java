@@ -2,10 +2,15 @@ package htl.steyr.javafx_minesweeper_tplatzer.model;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Represents user data for the Minesweeper game, including username and best times for different difficulties.
  * <p>
+ * Best times for custom game modes are stored per configuration, keyed by the name of the
+ * {@link Difficulty} (e.g., {@code custom-30x50-300}).
+ * <p>
  * This class implements {@link Serializable} to allow user data to be saved and loaded.
  */
 public class UserData implements Serializable
@@ -37,6 +42,39 @@ public class UserData implements Serializable
      */
     private int proBestTime;
 
+    /**
+     * Stores the best times (in seconds) achieved by the user for custom game modes, keyed by the mode's name.
+     * <p>
+     * May be {@code null} in data saved by older versions; it is created on first use.
+     */
+    private HashMap<String, Integer> customBestTimes;
+
+    /**
+     * The name of the custom game mode the user played most recently, or {@code null} if none was played yet.
+     */
+    private String lastCustomDifficulty;
+
+    /**
+     * The renderer used to draw the game field ("auto", "buttons" or "canvas").
+     * <p>
+     * May be {@code null} in data saved by older versions, which means "auto".
+     */
+    private String boardRenderer;
+
+    /**
+     * Indicates whether large cascades are drawn in a single frame instead of rippling out over several frames.
+     * <p>
+     * Data saved by older versions reads as {@code false}, which means the progressive reveal is used.
+     */
+    private boolean revealInstantly;
+
+    /**
+     * Indicates whether new boards are generated so that they can be solved without guessing.
+     * <p>
+     * Data saved by older versions reads as {@code false}, which means boards are fully random.
+     */
+    private boolean noGuess;
+
     /**
      * The username associated with this user's data.
      * <p>
@@ -148,6 +186,134 @@ public class UserData implements Serializable
         this.proBestTime = proBestTime;
     }
 
+    /**
+     * Returns the best time for the specified game mode.
+     *
+     * @param difficulty The name of the game mode (e.g., "beginner", "pro" or "custom-30x50-300").
+     * @return The best time in seconds, or {@code Integer.MAX_VALUE} if no time has been recorded yet.
+     */
+    public int getBestTime(String difficulty)
+    {
+        return switch (difficulty)
+        {
+            case "beginner" -> getBeginnerBestTime();
+            case "advanced" -> getAdvancedBestTime();
+            case "pro" -> getProBestTime();
+            default -> getCustomBestTimes().getOrDefault(difficulty, Integer.MAX_VALUE);
+        };
+    }
+
+    /**
+     * Sets the best time for the specified game mode.
+     *
+     * @param difficulty The name of the game mode (e.g., "beginner", "pro" or "custom-30x50-300").
+     * @param bestTime   The best time to set, in seconds.
+     */
+    public void setBestTime(String difficulty, int bestTime)
+    {
+        switch (difficulty)
+        {
+            case "beginner" -> setBeginnerBestTime(bestTime);
+            case "advanced" -> setAdvancedBestTime(bestTime);
+            case "pro" -> setProBestTime(bestTime);
+            default -> getCustomBestTimes().put(difficulty, bestTime);
+        }
+    }
+
+    /**
+     * Returns the best times for custom game modes, keyed by the mode's name.
+     *
+     * @return The mutable map of custom best times.
+     */
+    public Map<String, Integer> getCustomBestTimes()
+    {
+        if (customBestTimes == null)
+        {
+            customBestTimes = new HashMap<>(); // Created lazily for data saved by older versions.
+        }
+        return customBestTimes;
+    }
+
+    /**
+     * Returns the name of the custom game mode the user played most recently.
+     *
+     * @return The name of the last custom mode, or {@code null} if none was played yet.
+     */
+    public String getLastCustomDifficulty()
+    {
+        return lastCustomDifficulty;
+    }
+
+    /**
+     * Sets the name of the custom game mode the user played most recently.
+     *
+     * @param lastCustomDifficulty The name of the last custom mode.
+     */
+    public void setLastCustomDifficulty(String lastCustomDifficulty)
+    {
+        this.lastCustomDifficulty = lastCustomDifficulty;
+    }
+
+    /**
+     * Gets the renderer used to draw the game field.
+     *
+     * @return The renderer name ("auto", "buttons" or "canvas"), or {@code null} if none was chosen yet.
+     */
+    public String getBoardRenderer()
+    {
+        return boardRenderer;
+    }
+
+    /**
+     * Sets the renderer used to draw the game field.
+     *
+     * @param boardRenderer The renderer name ("auto", "buttons" or "canvas").
+     */
+    public void setBoardRenderer(String boardRenderer)
+    {
+        this.boardRenderer = boardRenderer;
+    }
+
+    /**
+     * Checks whether large cascades are drawn in a single frame.
+     *
+     * @return {@code true} to draw cascades instantly, {@code false} to reveal them progressively.
+     */
+    public boolean isRevealInstantly()
+    {
+        return revealInstantly;
+    }
+
+    /**
+     * Sets whether large cascades are drawn in a single frame.
+     *
+     * @param revealInstantly {@code true} to draw cascades instantly, {@code false} to reveal them progressively.
+     */
+    public void setRevealInstantly(boolean revealInstantly)
+    {
+        this.revealInstantly = revealInstantly;
+    }
+
+    /**
+     * Checks whether new boards are generated so that they can be solved without guessing.
+     *
+     * @return {@code true} for boards solvable by logic alone, {@code false} for fully random boards.
+     */
+    public boolean isNoGuess()
+    {
+        return noGuess;
+    }
+
+    /**
+     * Sets whether new boards are generated so that they can be solved without guessing.
+     *
+     * @param noGuess {@code true} for boards solvable by logic alone, {@code false} for fully random boards.
+     */
+    public void setNoGuess(boolean noGuess)
+    {
+        this.noGuess = noGuess;
+    }
+
     /**
      * Returns the username associated with this user data.
      *
@@ -0,0 +1,341 @@
+package htl.steyr.javafx_minesweeper_tplatzer.service;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Keeps a few boards with their mines already placed for every recently played game mode, so a new game can start
+ * without generating one.
+ * <p>
+ * Each game mode gets a bounded queue of ready boards. A daemon producer thread with the lowest priority refills the
+ * queues whenever one of them has room, while the player is in the menu or in the middle of a game, and waits
+ * otherwise. {@link #take(Difficulty)} only removes a board from a queue and never waits for the producer.
+ * <p>
+ * Pooled boards are generated with {@link Board#generate(long, int, java.util.function.DoubleConsumer)} before the
+ * first click is known, so the game has to call {@link Board#clearSafeArea(int, long)} with the board's seed on the
+ * first reveal. Each board comes with that seed, so the game can reproduce it.
+ * Only the {@link #MAX_FIELDS} most recently requested game modes are kept, and fields larger than
+ * {@link #MAX_POOLED_CELLS} cells are not pooled, so the pool never holds more than a few megabytes.
+ */
+public class BoardPool
+{
+    /**
+     * The number of ready boards kept per game mode by default.
+     */
+    public static final int DEFAULT_CAPACITY = 3;
+
+    /**
+     * The largest field, in cells, that is pooled.
+     */
+    public static final int MAX_POOLED_CELLS = 1 << 20;
+
+    /**
+     * The number of game modes the pool keeps boards for; the least recently requested one is dropped first.
+     */
+    public static final int MAX_FIELDS = 4;
+
+    /**
+     * The number of ready boards kept per game mode.
+     */
+    private final int capacity;
+
+    /**
+     * The queues of ready boards by field, from the least to the most recently requested one. Guarded by itself;
+     * the producer waits on it for a queue with room.
+     */
+    private final LinkedHashMap<Field, ArrayDeque<PooledBoard>> pools = new LinkedHashMap<>();
+
+    /**
+     * Chooses the seeds of the pooled boards. Only used by the producer thread.
+     */
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    /**
+     * The number of boards that were taken from the pool.
+     */
+    private long hits;
+
+    /**
+     * The number of requests that found the pool empty.
+     */
+    private long misses;
+
+    /**
+     * The number of boards the producer has generated.
+     */
+    private long producedBoards;
+
+    /**
+     * The time the producer spent generating boards, in nanoseconds.
+     */
+    private long productionNanos;
+
+    /**
+     * The producer thread, started by the first request.
+     */
+    private Thread producer;
+
+
+    /**
+     * Constructs a new {@code BoardPool}.
+     *
+     * @param capacity The number of ready boards to keep per game mode.
+     */
+    public BoardPool(int capacity)
+    {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes a ready board for the specified game mode from the pool and lets the producer refill it.
+     * <p>
+     * The board has its mines placed and nothing revealed. The call does not wait, so an empty pool counts as a miss
+     * and the caller generates the board itself.
+     *
+     * @param difficulty The game mode.
+     * @return A ready board with its seed, or {@code null} if the pool has none or the field is too large to be pooled.
+     */
+    public PooledBoard take(Difficulty difficulty)
+    {
+        if (!isPooled(difficulty))
+        {
+            return null;
+        }
+
+        synchronized (pools)
+        {
+            PooledBoard board = request(new Field(difficulty)).poll();
+            if (board == null)
+            {
+                misses++;
+            }
+            else
+            {
+                hits++;
+            }
+            return board;
+        }
+    }
+
+    /**
+     * Lets the producer fill the pool of the specified game mode in advance, e.g. while it is shown in the menu.
+     *
+     * @param difficulty The game mode.
+     */
+    public void prepare(Difficulty difficulty)
+    {
+        if (isPooled(difficulty))
+        {
+            synchronized (pools)
+            {
+                request(new Field(difficulty));
+            }
+        }
+    }
+
+    /**
+     * Checks whether boards of the specified game mode are pooled.
+     *
+     * @param difficulty The game mode.
+     * @return {@code true} if the field is small enough to be pooled, {@code false} otherwise.
+     */
+    private static boolean isPooled(Difficulty difficulty)
+    {
+        return (long) difficulty.getRows() * difficulty.getColumns() <= MAX_POOLED_CELLS;
+    }
+
+    /**
+     * Marks a field as the most recently requested one, creating its queue and dropping the least recently requested
+     * field if necessary, and wakes the producer. Must be called while holding the lock on {@link #pools}.
+     *
+     * @param field The requested field.
+     * @return The queue of ready boards of the field.
+     */
+    private ArrayDeque<PooledBoard> request(Field field)
+    {
+        ArrayDeque<PooledBoard> pool = pools.remove(field);
+        if (pool == null)
+        {
+            pool = new ArrayDeque<>(capacity);
+        }
+        pools.put(field, pool); // Moves the field to the end of the order.
+
+        if (pools.size() > MAX_FIELDS)
+        {
+            pools.remove(pools.keySet().iterator().next()); // Drops the least recently requested field.
+        }
+
+        if (producer == null)
+        {
+            producer = new Thread(this::produce, "board-pool");
+            producer.setDaemon(true); // Does not keep the application alive.
+            producer.setPriority(Thread.MIN_PRIORITY); // Yields to the game and the JavaFX Application Thread.
+            producer.start();
+        }
+        pools.notifyAll(); // The queue may have room now.
+        return pool;
+    }
+
+    /**
+     * Generates boards for the queues with room, most recently requested field first, and waits while all queues are
+     * full. Runs on the producer thread until it is interrupted.
+     */
+    private void produce()
+    {
+        try
+        {
+            while (true)
+            {
+                Field field;
+                synchronized (pools)
+                {
+                    while ((field = findFieldWithRoom()) == null)
+                    {
+                        pools.wait();
+                    }
+                }
+
+                long start = System.nanoTime();
+                long seed = seeds.nextLong();
+                Board board = new Board(field.rows(), field.columns(), field.mines());
+                board.generate(seed, -1, null); // The first half of what the game does for a board of this seed.
+                long elapsed = System.nanoTime() - start;
+
+                synchronized (pools)
+                {
+                    ArrayDeque<PooledBoard> pool = pools.get(field);
+                    if (pool != null && pool.size() < capacity) // The field may have been dropped meanwhile.
+                    {
+                        pool.add(new PooledBoard(board, seed));
+                    }
+                    producedBoards++;
+                    productionNanos += elapsed;
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt(); // Ends the producer.
+        }
+    }
+
+    /**
+     * Finds the most recently requested field whose queue has room. Must be called while holding the lock on
+     * {@link #pools}.
+     *
+     * @return The field, or {@code null} if all queues are full.
+     */
+    private Field findFieldWithRoom()
+    {
+        Field found = null;
+        for (Map.Entry<Field, ArrayDeque<PooledBoard>> entry : pools.entrySet())
+        {
+            if (entry.getValue().size() < capacity)
+            {
+                found = entry.getKey(); // Later entries were requested more recently.
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Formats the state of the pool for the specified game mode as a single line.
+     *
+     * @param difficulty The game mode.
+     * @return The summary, e.g. {@code "Pool 3/3 | Refill 5120 boards/s | Hits 12, misses 1"}.
+     */
+    public String summarize(Difficulty difficulty)
+    {
+        return String.format("Pool %d/%d | Refill %.0f boards/s | Hits %d, misses %d",
+                getDepth(difficulty), capacity, getRefillRate(), getHits(), getMisses());
+    }
+
+    /**
+     * Gets the number of ready boards of the specified game mode.
+     *
+     * @param difficulty The game mode.
+     * @return The number of boards in its queue.
+     */
+    public int getDepth(Difficulty difficulty)
+    {
+        synchronized (pools)
+        {
+            ArrayDeque<PooledBoard> pool = pools.get(new Field(difficulty));
+            return pool == null ? 0 : pool.size();
+        }
+    }
+
+    /**
+     * Gets how many boards the producer generates per second while it is working.
+     *
+     * @return The refill rate, or {@code 0} before the first board was generated.
+     */
+    public double getRefillRate()
+    {
+        synchronized (pools)
+        {
+            return productionNanos == 0 ? 0 : producedBoards * 1e9 / productionNanos;
+        }
+    }
+
+    /**
+     * Gets the number of boards that were taken from the pool.
+     *
+     * @return The number of hits.
+     */
+    public long getHits()
+    {
+        synchronized (pools)
+        {
+            return hits;
+        }
+    }
+
+    /**
+     * Gets the number of requests that found the pool empty.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses()
+    {
+        synchronized (pools)
+        {
+            return misses;
+        }
+    }
+
+    /**
+     * A ready board together with the seed its mines were placed from.
+     *
+     * @param board The board with its mines placed and nothing revealed.
+     * @param seed  The seed that reproduces the board.
+     */
+    public record PooledBoard(Board board, long seed)
+    {
+    }
+
+    /**
+     * Identifies a pooled field by its dimensions and mine count, so custom modes with the same values share a queue.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param mines   The number of mines.
+     */
+    private record Field(int rows, int columns, int mines)
+    {
+        /**
+         * Constructs the {@code Field} of a game mode.
+         *
+         * @param difficulty The game mode.
+         */
+        Field(Difficulty difficulty)
+        {
+            this(difficulty.getRows(), difficulty.getColumns(), difficulty.getMines());
+        }
+    }
+}
@@ -75,7 +75,7 @@ public class LeaderboardClient
      *
      * @param username The username of the player whose best time is being submitted.
      * @param time     The best time achieved by the player (in seconds).
-     * @param mode     The difficulty mode of the game (e.g., "beginner", "advanced", "pro").
+     * @param mode     The difficulty mode of the game (e.g., "beginner", "advanced", "pro" or "custom-30x50-300").
      * @throws Exception if the request fails or if the response status code is not 201 (Created).
      */
     public void submitBestTime(String username, int time, String mode) throws Exception
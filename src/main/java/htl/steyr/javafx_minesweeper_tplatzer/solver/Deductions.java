@@ -0,0 +1,131 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import java.util.Arrays;
+
+/**
+ * Collects the cells a {@link Solver} proved to be safe or to contain a mine.
+ * <p>
+ * A {@code Deductions} instance is owned and reused by its solver: every call to {@link Solver#solve()} clears it
+ * and records the cells in the order they were deduced. The returned instance is only valid until the next call.
+ */
+public class Deductions
+{
+    /**
+     * The indices of the cells proven to be safe. Grows on demand and is never shrunk.
+     */
+    private int[] safeCells = new int[16];
+
+    /**
+     * The number of valid entries in {@link #safeCells}.
+     */
+    private int safeCount;
+
+    /**
+     * The indices of the cells proven to contain a mine. Grows on demand and is never shrunk.
+     */
+    private int[] mineCells = new int[16];
+
+    /**
+     * The number of valid entries in {@link #mineCells}.
+     */
+    private int mineCount;
+
+
+    /**
+     * Constructs a new, empty {@code Deductions}. Each {@link Solver} creates its own and reuses it for every run.
+     */
+    public Deductions()
+    {
+    }
+
+    /**
+     * Removes all recorded cells.
+     * <p>
+     * The underlying buffers are kept so that subsequent runs of the solver do not allocate.
+     */
+    public void clear()
+    {
+        safeCount = 0;
+        mineCount = 0;
+    }
+
+    /**
+     * Records a cell that was proven to be safe.
+     *
+     * @param index The board index of the cell.
+     */
+    void addSafe(int index)
+    {
+        if (safeCount == safeCells.length)
+        {
+            safeCells = Arrays.copyOf(safeCells, safeCells.length * 2); // Doubles the buffer if it is full.
+        }
+        safeCells[safeCount++] = index;
+    }
+
+    /**
+     * Records a cell that was proven to contain a mine.
+     *
+     * @param index The board index of the cell.
+     */
+    void addMine(int index)
+    {
+        if (mineCount == mineCells.length)
+        {
+            mineCells = Arrays.copyOf(mineCells, mineCells.length * 2); // Doubles the buffer if it is full.
+        }
+        mineCells[mineCount++] = index;
+    }
+
+    /**
+     * Returns the index of a safe cell.
+     *
+     * @param position The position within the safe cells, between {@code 0} and {@code getSafeCount() - 1}.
+     * @return The board index of the cell.
+     */
+    public int getSafe(int position)
+    {
+        return safeCells[position];
+    }
+
+    /**
+     * Returns the number of cells proven to be safe.
+     *
+     * @return The number of safe cells.
+     */
+    public int getSafeCount()
+    {
+        return safeCount;
+    }
+
+    /**
+     * Returns the index of a cell containing a mine.
+     *
+     * @param position The position within the mines, between {@code 0} and {@code getMineCount() - 1}.
+     * @return The board index of the cell.
+     */
+    public int getMine(int position)
+    {
+        return mineCells[position];
+    }
+
+    /**
+     * Returns the number of cells proven to contain a mine.
+     *
+     * @return The number of mines.
+     */
+    public int getMineCount()
+    {
+        return mineCount;
+    }
+
+    /**
+     * Checks whether nothing could be deduced.
+     *
+     * @return {@code true} if no cell was proven safe or mined, {@code false} otherwise.
+     */
+    public boolean isEmpty()
+    {
+        return safeCount == 0 && mineCount == 0;
+    }
+}
@@ -0,0 +1,311 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches for boards that can be solved from the first click without guessing.
+ * <p>
+ * Candidate boards are generated from consecutive seeds and played by a {@link Solver}: starting with the first
+ * click, every cell the solver proves safe is revealed until the board is won or nothing more follows. Only boards
+ * that are won this way are accepted. One worker per core generates and checks candidates on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}. The search returns the accepted candidate with the smallest
+ * number, so the result only depends on the seed and the first click, not on how the workers were scheduled: an
+ * accepted candidate stops the workers from taking higher ones, but the lower ones still in progress are finished.
+ * <p>
+ * The result is the seed of the accepted candidate: passing it to {@link Board#placeMines(java.util.random.RandomGenerator,
+ * int, java.util.function.DoubleConsumer)} with the same first cell reproduces the board, so the game's own board
+ * does not have to be copied. A generator performs a single search and keeps its statistics afterwards.
+ */
+public class NoGuessGenerator
+{
+    /**
+     * How long a search may take before it gives up, in nanoseconds. Dense boards are rarely solvable without
+     * guessing, so the search has to end eventually.
+     */
+    public static final long DEFAULT_TIME_LIMIT_NANOS = 5_000_000_000L;
+
+    /**
+     * The increment between the seeds of consecutive candidates, spreading them over the whole seed range.
+     */
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The number of rows of the candidate boards.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns of the candidate boards.
+     */
+    private final int columns;
+
+    /**
+     * The number of mines of the candidate boards.
+     */
+    private final int mines;
+
+    /**
+     * How long the search may take, in nanoseconds.
+     */
+    private final long timeLimitNanos;
+
+    /**
+     * The number of the next candidate a worker takes. Candidates are taken in ascending order.
+     */
+    private final AtomicLong nextCandidate = new AtomicLong();
+
+    /**
+     * The number of candidates the workers have checked so far.
+     */
+    private final AtomicLong checkedCandidates = new AtomicLong();
+
+    /**
+     * The smallest number of an accepted candidate, or {@link Long#MAX_VALUE} while none has been accepted.
+     */
+    private final AtomicLong acceptedCandidate = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * Indicates whether the search was cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * How long the search took, in nanoseconds.
+     */
+    private long elapsedNanos;
+
+
+    /**
+     * Constructs a new {@code NoGuessGenerator} with the {@link #DEFAULT_TIME_LIMIT_NANOS default time limit}.
+     *
+     * @param rows    The number of rows of the board.
+     * @param columns The number of columns of the board.
+     * @param mines   The number of mines of the board.
+     */
+    public NoGuessGenerator(int rows, int columns, int mines)
+    {
+        this(rows, columns, mines, DEFAULT_TIME_LIMIT_NANOS);
+    }
+
+    /**
+     * Constructs a new {@code NoGuessGenerator}.
+     *
+     * @param rows           The number of rows of the board.
+     * @param columns        The number of columns of the board.
+     * @param mines          The number of mines of the board.
+     * @param timeLimitNanos How long the search may take, in nanoseconds.
+     */
+    public NoGuessGenerator(int rows, int columns, int mines, long timeLimitNanos)
+    {
+        this.rows = rows;
+        this.columns = columns;
+        this.mines = mines;
+        this.timeLimitNanos = timeLimitNanos;
+    }
+
+    /**
+     * Searches for a board that can be solved without guessing from the specified first cell.
+     * <p>
+     * Blocks until a candidate is accepted and all lower candidates are checked, the time limit is reached or the
+     * search is cancelled.
+     *
+     * @param seed      The seed the candidate seeds are derived from; equal seeds examine the same candidates and
+     *                  accept the same one.
+     * @param safeIndex The board index of the first cell the player reveals.
+     * @return The seed to place the mines with, or an empty result if no board was found or the search was cancelled.
+     */
+    public OptionalLong generate(long seed, int safeIndex)
+    {
+        long start = System.nanoTime();
+        long deadline = start + timeLimitNanos;
+
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++)
+        {
+            workers.add(new Worker(seed, safeIndex, deadline));
+        }
+        ForkJoinTask.invokeAll(workers); // The calling thread runs one worker itself.
+
+        elapsedNanos = System.nanoTime() - start;
+        return isAccepted() && !cancelled ? OptionalLong.of(candidateSeed(seed, acceptedCandidate.get())) : OptionalLong.empty();
+    }
+
+    /**
+     * Derives the seed of a candidate.
+     *
+     * @param seed      The seed of the search.
+     * @param candidate The number of the candidate.
+     * @return The seed its mines are placed with.
+     */
+    private static long candidateSeed(long seed, long candidate)
+    {
+        return seed + candidate * SEED_GAMMA;
+    }
+
+    /**
+     * Plays a candidate with the solver, revealing every proven safe cell until nothing more follows.
+     *
+     * @param board     The candidate board with its mines placed and nothing revealed.
+     * @param solver    The solver for the board.
+     * @param safeIndex The board index of the first cell to reveal.
+     * @return {@code true} if the board was won without guessing, {@code false} otherwise.
+     */
+    static boolean isSolvable(Board board, Solver solver, int safeIndex)
+    {
+        board.reveal(safeIndex);
+        while (!board.isWon())
+        {
+            Deductions deductions = solver.solve();
+            if (deductions.getSafeCount() == 0)
+            {
+                return false; // The next move would be a guess.
+            }
+            for (int i = 0; i < deductions.getSafeCount(); i++)
+            {
+                board.reveal(deductions.getSafe(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops a running search; the workers finish their current candidate and {@link #generate(long, int)} returns
+     * an empty result. May be called from any thread.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Formats the statistics of the search as a single line.
+     *
+     * @return The summary, e.g. {@code "No-guess board: 812 candidates in 0.31 s (2619 candidates/s)"}.
+     */
+    public String summarize()
+    {
+        return String.format("%s: %d candidates in %.2f s (%.0f candidates/s)",
+                isAccepted() ? "No-guess board" : "No no-guess board found, using a regular one",
+                getCandidates(), getElapsedNanos() / 1e9, getCandidatesPerSecond());
+    }
+
+    /**
+     * Checks whether a candidate was accepted.
+     *
+     * @return {@code true} if a board solvable without guessing was found, {@code false} otherwise.
+     */
+    public boolean isAccepted()
+    {
+        return acceptedCandidate.get() != Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the number of candidates the workers have generated and checked.
+     *
+     * @return The number of candidates.
+     */
+    public long getCandidates()
+    {
+        return checkedCandidates.get();
+    }
+
+    /**
+     * Gets how long the search took.
+     *
+     * @return The duration of the search in nanoseconds, or {@code 0} before it has finished.
+     */
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets how many candidates were checked per second, over all cores.
+     *
+     * @return The candidate rate, or {@code 0} before the search has finished.
+     */
+    public double getCandidatesPerSecond()
+    {
+        return getElapsedNanos() == 0 ? 0 : getCandidates() * 1e9 / getElapsedNanos();
+    }
+
+    /**
+     * Generates and checks candidates until all candidates below the smallest accepted one are taken, the deadline
+     * is reached or the search is cancelled.
+     */
+    private class Worker extends RecursiveAction
+    {
+        /**
+         * Needed as fork/join tasks are serializable, although search workers are never serialized.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The seed the candidate seeds are derived from.
+         */
+        private final long seed;
+
+        /**
+         * The board index of the first cell the player reveals.
+         */
+        private final int safeIndex;
+
+        /**
+         * The {@link System#nanoTime()} at which the search gives up.
+         */
+        private final long deadline;
+
+
+        /**
+         * Constructs a new {@code Worker}.
+         *
+         * @param seed      The seed the candidate seeds are derived from.
+         * @param safeIndex The board index of the first cell the player reveals.
+         * @param deadline  The {@link System#nanoTime()} at which the search gives up.
+         */
+        Worker(long seed, int safeIndex, long deadline)
+        {
+            this.seed = seed;
+            this.safeIndex = safeIndex;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Checks candidates on a board and solver of its own, which are reset for every candidate.
+         */
+        @Override
+        protected void compute()
+        {
+            Board board = new Board(rows, columns, mines);
+            Solver solver = new Solver(board);
+
+            while (!cancelled && System.nanoTime() < deadline)
+            {
+                long candidate = nextCandidate.getAndIncrement();
+                if (candidate > acceptedCandidate.get())
+                {
+                    break; // All lower candidates are taken, and the workers that took them finish them.
+                }
+
+                board.reset();
+                board.placeMines(new SplittableRandom(candidateSeed(seed, candidate)), safeIndex, null);
+                checkedCandidates.incrementAndGet();
+
+                if (isSolvable(board, solver, safeIndex))
+                {
+                    acceptedCandidate.accumulateAndGet(candidate, Math::min); // Keeps the smallest accepted number.
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,697 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the exact probability of every unrevealed cell of a {@link Board} to contain a mine.
+ * <p>
+ * Like the {@link Solver}, the engine only uses what the player can see; it runs the solver first and starts from
+ * the constraints that are left once all certain cells are resolved. These are split into independent components,
+ * groups of constraints connected by shared cells. Each component is enumerated cell by cell, and assignments that
+ * leave the same numbers of missing mines on the open constraints are merged into one state, so the count of
+ * configurations reaching a state is computed once instead of once per path (a dynamic program over the
+ * backtracking tree). Per component this yields the number of configurations by mine count, and per cell the number
+ * of those configurations in which the cell is a mine.
+ * <p>
+ * The components are combined with the global mine count: a combination using {@code m} mines on the frontier
+ * leaves the remaining mines to the unconstrained cells, which is weighted by the binomial coefficient of their
+ * distribution. Components are solved in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ * Positions whose components grow beyond {@link #MAX_STATES} states are not evaluated.
+ */
+public class ProbabilityEngine
+{
+    /**
+     * The maximum number of states per enumeration step of a component before the computation is given up.
+     */
+    public static final int MAX_STATES = 1 << 14;
+
+    /**
+     * Probability reported for revealed cells, which cannot contain a mine.
+     */
+    public static final double REVEALED = -1;
+
+    /**
+     * The solver resolving the certain cells first.
+     */
+    private final Solver solver;
+
+    /**
+     * The probabilities of the last computation, indexed like the board.
+     */
+    private double[] probabilities;
+
+    /**
+     * The first constraint containing each cell during a computation, indexed like the board, or {@code -1} for cells
+     * outside all constraints.
+     */
+    private int[] cellConstraint;
+
+
+    /**
+     * Constructs a new {@code ProbabilityEngine} for the specified board.
+     *
+     * @param board The {@link Board} to compute the probabilities for.
+     */
+    public ProbabilityEngine(Board board)
+    {
+        this.solver = new Solver(board);
+    }
+
+    /**
+     * Computes the mine probability of every cell from the currently revealed cells.
+     *
+     * @return The probabilities between {@code 0} and {@code 1} indexed like the board, with {@link #REVEALED} for
+     * revealed cells and sentinels and valid until the next call; or {@code null} before the first click, after
+     * the game has ended or if the position is too complex.
+     */
+    public double[] compute()
+    {
+        Board board = getBoard();
+        if (!board.isMinesPlaced() || board.isUntouched() || board.isLost() || board.isWon()) // Pooled boards move mines on the first click.
+        {
+            return null;
+        }
+
+        Deductions deductions = getSolver().solve();
+        List<Component> components = collectComponents();
+
+        if (components.size() == 1)
+        {
+            components.get(0).invoke(); // Runs on the calling thread.
+        } else if (components.size() > 1)
+        {
+            ForkJoinTask.invokeAll(components); // Components share no cells, so they are enumerated independently.
+        }
+        for (Component component : components)
+        {
+            if (component.getTotals() == null)
+            {
+                return null; // Too many states.
+            }
+        }
+
+        int interiorCells = 0;
+        for (int row = 0; row < board.getRows(); row++)
+        {
+            for (int column = 0; column < board.getColumns(); column++)
+            {
+                int index = board.index(row, column);
+                if (!board.isRevealed(index) && getSolver().getKnowledge(index) == Solver.UNKNOWN && cellConstraint[index] < 0)
+                {
+                    interiorCells++; // Unconstrained cells share the mines the frontier leaves over.
+                }
+            }
+        }
+
+        return combine(components, board.getTotalMines() - deductions.getMineCount(), interiorCells);
+    }
+
+    /**
+     * Groups the constraints left by the solver into components of constraints that share cells.
+     *
+     * @return The components, not solved yet.
+     */
+    private List<Component> collectComponents()
+    {
+        if (cellConstraint == null)
+        {
+            cellConstraint = new int[getBoard().getIndexLimit()]; // Allocated on the first run only.
+        }
+        Arrays.fill(cellConstraint, -1);
+
+        // Union-find over the constraints, linking constraints that share a cell.
+        int count = getSolver().getConstraintCount();
+        int[] parents = new int[count];
+        for (int constraint = 0; constraint < count; constraint++)
+        {
+            parents[constraint] = constraint;
+            for (int i = 0; i < getSolver().getConstraintSize(constraint); i++)
+            {
+                int cell = getSolver().getConstraintCell(constraint, i);
+                if (cellConstraint[cell] < 0)
+                {
+                    cellConstraint[cell] = constraint;
+                } else
+                {
+                    parents[find(parents, constraint)] = find(parents, cellConstraint[cell]);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int constraint = 0; constraint < count; constraint++)
+        {
+            if (getSolver().getConstraintSize(constraint) > 0)
+            {
+                groups.computeIfAbsent(find(parents, constraint), root -> new ArrayList<>()).add(constraint);
+            }
+        }
+
+        List<Component> components = new ArrayList<>(groups.size());
+        for (List<Integer> constraints : groups.values())
+        {
+            components.add(new Component(getSolver(), constraints));
+        }
+        return components;
+    }
+
+    /**
+     * Finds the root of a constraint in the union-find forest, halving the path on the way.
+     *
+     * @param parents The parent of each constraint.
+     * @param node    The constraint.
+     * @return The root constraint of its component.
+     */
+    private static int find(int[] parents, int node)
+    {
+        while (parents[node] != node)
+        {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+    /**
+     * Combines the solved components with the number of mines left and fills the probabilities.
+     *
+     * @param components    The solved components.
+     * @param mines         The number of mines not proven by the solver.
+     * @param interiorCells The number of unknown cells outside all components.
+     * @return The probabilities, or {@code null} if no configuration matches the mine count.
+     */
+    private double[] combine(List<Component> components, int mines, int interiorCells)
+    {
+        // Leave-one-out products: the configurations of all other components by their mine count.
+        int size = components.size();
+        double[][] before = new double[size + 1][];
+        double[][] after = new double[size + 1][];
+        before[0] = new double[]{1};
+        after[size] = new double[]{1};
+        for (int c = 0; c < size; c++)
+        {
+            before[c + 1] = convolve(before[c], components.get(c).getTotals());
+            after[size - c - 1] = convolve(components.get(size - c - 1).getTotals(), after[size - c]);
+        }
+        double[] all = before[size];
+
+        double[] interiorWeights = interiorWeights(interiorCells, mines);
+        double normalization = 0;
+        double interiorMines = 0;
+        for (int m = 0; m < all.length && m <= mines; m++)
+        {
+            double weight = all[m] * interiorWeights[mines - m];
+            normalization += weight;
+            interiorMines += weight * (mines - m);
+        }
+        if (!(normalization > 0))
+        {
+            return null; // The revealed numbers do not fit the mine count.
+        }
+
+        if (probabilities == null)
+        {
+            probabilities = new double[getBoard().getIndexLimit()];
+        }
+        Arrays.fill(probabilities, REVEALED);
+
+        double interiorProbability = interiorCells == 0 ? 0 : interiorMines / normalization / interiorCells;
+        for (int row = 0; row < getBoard().getRows(); row++)
+        {
+            for (int column = 0; column < getBoard().getColumns(); column++)
+            {
+                int index = getBoard().index(row, column);
+                if (!getBoard().isRevealed(index))
+                {
+                    probabilities[index] = switch (getSolver().getKnowledge(index))
+                    {
+                        case Solver.SAFE -> 0;
+                        case Solver.MINE -> 1;
+                        default -> interiorProbability; // Overwritten below for cells of a component.
+                    };
+                }
+            }
+        }
+
+        for (int c = 0; c < size; c++)
+        {
+            Component component = components.get(c);
+            double[] others = convolve(before[c], after[c + 1]);
+
+            // The weight of the component using m mines: all ways to place the remaining mines elsewhere.
+            double[] weights = new double[component.getTotals().length];
+            for (int m = 0; m < weights.length && m <= mines; m++)
+            {
+                for (int o = 0; o < others.length && m + o <= mines; o++)
+                {
+                    weights[m] += others[o] * interiorWeights[mines - m - o];
+                }
+            }
+
+            for (int i = 0; i < component.getCells().length; i++)
+            {
+                double[] mineCounts = component.getMineCounts()[i];
+                double probability = 0;
+                for (int m = 0; m < mineCounts.length; m++)
+                {
+                    probability += mineCounts[m] * weights[m];
+                }
+                probabilities[component.getCells()[i]] = probability / normalization;
+            }
+        }
+
+        return probabilities;
+    }
+
+    /**
+     * Computes how many ways there are to place mines on the interior cells, for every possible number of mines.
+     * <p>
+     * The binomial coefficients are scaled by a common factor to stay within the range of {@code double}; the
+     * factor cancels out when the probabilities are normalized.
+     *
+     * @param interiorCells The number of unknown cells outside all components.
+     * @param mines         The largest number of mines to consider.
+     * @return The scaled number of placements, indexed by the number of mines on the interior cells.
+     */
+    private static double[] interiorWeights(int interiorCells, int mines)
+    {
+        double[] logWeights = new double[mines + 1];
+        double max = Double.NEGATIVE_INFINITY;
+        double logBinomial = 0; // ln C(interiorCells, k), updated incrementally.
+        for (int k = 0; k <= mines; k++)
+        {
+            if (k > 0)
+            {
+                logBinomial += Math.log(interiorCells - k + 1) - Math.log(k);
+            }
+            logWeights[k] = k <= interiorCells ? logBinomial : Double.NEGATIVE_INFINITY;
+            max = Math.max(max, logWeights[k]);
+        }
+
+        double[] weights = new double[mines + 1];
+        for (int k = 0; k <= mines; k++)
+        {
+            weights[k] = Math.exp(logWeights[k] - max);
+        }
+        return weights;
+    }
+
+    /**
+     * Multiplies two polynomials given by their coefficients, i.e. combines two counts indexed by mine numbers.
+     *
+     * @param a The first counts.
+     * @param b The second counts.
+     * @return The counts of all combinations, indexed by the sum of the mine numbers.
+     */
+    private static double[] convolve(double[] a, double[] b)
+    {
+        double[] result = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++)
+        {
+            if (a[i] == 0)
+            {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++)
+            {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the board the probabilities are computed for.
+     *
+     * @return The {@link Board}.
+     */
+    public Board getBoard()
+    {
+        return getSolver().getBoard();
+    }
+
+    /**
+     * Gets the solver resolving the certain cells first.
+     *
+     * @return The {@link Solver}.
+     */
+    public Solver getSolver()
+    {
+        return solver;
+    }
+
+    /**
+     * A group of constraints connected by shared cells, enumerated as one task.
+     */
+    private static class Component extends RecursiveAction
+    {
+        /**
+         * Fork/join tasks are serializable; components are only ever enumerated in memory.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The board indices of the cells, in enumeration order.
+         */
+        private final int[] cells;
+
+        /**
+         * The constraints containing each cell, as positions in {@link #mines}.
+         */
+        private final int[][] cellConstraints;
+
+        /**
+         * For each cell and each of its constraints, how many cells of the constraint come later in the order.
+         */
+        private final int[][] laterCells;
+
+        /**
+         * The number of mines missing on each constraint.
+         */
+        private final byte[] mines;
+
+        /**
+         * The number of configurations by mine count, or {@code null} if the component was too complex.
+         */
+        private double[] totals;
+
+        /**
+         * For each cell, the number of configurations by mine count in which the cell is a mine.
+         */
+        private double[][] mineCounts;
+
+
+        /**
+         * Constructs a new {@code Component} from constraints of the solver.
+         *
+         * @param solver      The solver holding the reduced constraints.
+         * @param constraints The constraints of the component.
+         */
+        Component(Solver solver, List<Integer> constraints)
+        {
+            // Collects the cells and which constraints contain them.
+            Map<Integer, List<Integer>> constraintsOfCell = new HashMap<>();
+            mines = new byte[constraints.size()];
+            for (int k = 0; k < constraints.size(); k++)
+            {
+                int constraint = constraints.get(k);
+                mines[k] = (byte) solver.getConstraintMines(constraint);
+                for (int i = 0; i < solver.getConstraintSize(constraint); i++)
+                {
+                    constraintsOfCell.computeIfAbsent(solver.getConstraintCell(constraint, i), cell -> new ArrayList<>()).add(k);
+                }
+            }
+
+            cells = orderCells(solver, constraints, constraintsOfCell);
+            cellConstraints = new int[cells.length][];
+            laterCells = new int[cells.length][];
+            int[] remaining = new int[constraints.size()];
+            for (int k = 0; k < constraints.size(); k++)
+            {
+                remaining[k] = solver.getConstraintSize(constraints.get(k));
+            }
+            for (int i = 0; i < cells.length; i++)
+            {
+                List<Integer> own = constraintsOfCell.get(cells[i]);
+                cellConstraints[i] = new int[own.size()];
+                laterCells[i] = new int[own.size()];
+                for (int j = 0; j < own.size(); j++)
+                {
+                    cellConstraints[i][j] = own.get(j);
+                    laterCells[i][j] = --remaining[own.get(j)];
+                }
+            }
+        }
+
+        /**
+         * Orders the cells breadth-first along shared constraints, starting at the cell with the fewest constraints.
+         * <p>
+         * Frontiers are mostly chains of cells, and walking along them keeps the number of partially assigned
+         * constraints, and thus the number of states, small.
+         *
+         * @param solver            The solver holding the reduced constraints.
+         * @param constraints       The constraints of the component.
+         * @param constraintsOfCell The positions of the constraints containing each cell.
+         * @return The board indices of the cells in enumeration order.
+         */
+        private static int[] orderCells(Solver solver, List<Integer> constraints, Map<Integer, List<Integer>> constraintsOfCell)
+        {
+            int start = -1;
+            for (Map.Entry<Integer, List<Integer>> entry : constraintsOfCell.entrySet())
+            {
+                if (start < 0 || entry.getValue().size() < constraintsOfCell.get(start).size()
+                        || (entry.getValue().size() == constraintsOfCell.get(start).size() && entry.getKey() < start))
+                {
+                    start = entry.getKey();
+                }
+            }
+
+            int[] order = new int[constraintsOfCell.size()];
+            int count = 0;
+            Map<Integer, Boolean> visited = new HashMap<>();
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(start);
+            visited.put(start, true);
+            while (!queue.isEmpty())
+            {
+                int cell = queue.poll();
+                order[count++] = cell;
+                for (int k : constraintsOfCell.get(cell))
+                {
+                    int constraint = constraints.get(k);
+                    for (int i = 0; i < solver.getConstraintSize(constraint); i++)
+                    {
+                        int neighbour = solver.getConstraintCell(constraint, i);
+                        if (visited.putIfAbsent(neighbour, true) == null)
+                        {
+                            queue.add(neighbour);
+                        }
+                    }
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Enumerates the configurations of the component.
+         * <p>
+         * A forward pass assigns the cells in order and merges assignments into states by the mines still missing on
+         * every constraint, counting the ways to reach each state by mine count. A backward pass counts the ways to
+         * complete each state. The product of both at the mine branch of a cell gives its mine counts.
+         */
+        @Override
+        protected void compute()
+        {
+            int n = cells.length;
+            List<List<byte[]>> states = new ArrayList<>(n + 1);
+            List<List<double[]>> prefixes = new ArrayList<>(n + 1);
+            int[][][] successors = new int[n][][];
+
+            states.add(List.of(mines));
+            prefixes.add(List.of(new double[]{1}));
+            for (int i = 0; i < n; i++)
+            {
+                Map<StateKey, Integer> lookup = new HashMap<>();
+                List<byte[]> nextStates = new ArrayList<>();
+                List<double[]> nextPrefixes = new ArrayList<>();
+                successors[i] = new int[states.get(i).size()][2];
+
+                for (int s = 0; s < states.get(i).size(); s++)
+                {
+                    for (int mine = 0; mine <= 1; mine++)
+                    {
+                        byte[] next = assign(states.get(i).get(s), i, mine);
+                        if (next == null)
+                        {
+                            successors[i][s][mine] = -1; // Violates a constraint.
+                            continue;
+                        }
+
+                        Integer position = lookup.get(new StateKey(next));
+                        if (position == null)
+                        {
+                            position = nextStates.size();
+                            lookup.put(new StateKey(next), position);
+                            nextStates.add(next);
+                            nextPrefixes.add(new double[i + 2]);
+                        }
+                        successors[i][s][mine] = position;
+
+                        double[] source = prefixes.get(i).get(s);
+                        double[] target = nextPrefixes.get(position);
+                        for (int m = 0; m < source.length; m++)
+                        {
+                            target[m + mine] += source[m];
+                        }
+                    }
+                }
+
+                if (nextStates.isEmpty() || nextStates.size() > MAX_STATES)
+                {
+                    return; // Inconsistent or too complex; totals stay null.
+                }
+                states.add(nextStates);
+                prefixes.add(nextPrefixes);
+            }
+
+            // Backward pass: the ways to complete each state, by the number of mines still to place.
+            double[][] suffixes = {{1}};
+            mineCounts = new double[n][n + 1];
+            for (int i = n - 1; i >= 0; i--)
+            {
+                double[][] current = new double[states.get(i).size()][n - i + 1];
+                for (int s = 0; s < current.length; s++)
+                {
+                    int empty = successors[i][s][0];
+                    int mine = successors[i][s][1];
+                    if (empty >= 0)
+                    {
+                        addShifted(current[s], suffixes[empty], 0);
+                    }
+                    if (mine >= 0)
+                    {
+                        addShifted(current[s], suffixes[mine], 1);
+
+                        // Configurations through this state with a mine on cell i, by their total mine count.
+                        double[] prefix = prefixes.get(i).get(s);
+                        for (int a = 0; a < prefix.length; a++)
+                        {
+                            if (prefix[a] != 0)
+                            {
+                                addShifted(mineCounts[i], suffixes[mine], a + 1, prefix[a]);
+                            }
+                        }
+                    }
+                }
+                suffixes = current;
+            }
+            totals = suffixes[0];
+        }
+
+        /**
+         * Assigns a cell and checks its constraints.
+         *
+         * @param state The mines missing on every constraint before the assignment.
+         * @param cell  The position of the cell in the enumeration order.
+         * @param mine  {@code 1} to place a mine on the cell, {@code 0} to leave it empty.
+         * @return The mines missing afterwards, or {@code null} if a constraint can no longer be satisfied.
+         */
+        private byte[] assign(byte[] state, int cell, int mine)
+        {
+            byte[] next = mine == 0 ? state : state.clone();
+            for (int j = 0; j < cellConstraints[cell].length; j++)
+            {
+                int k = cellConstraints[cell][j];
+                if (mine == 1)
+                {
+                    next[k]--;
+                }
+                if (next[k] < 0 || next[k] > laterCells[cell][j])
+                {
+                    return null; // Too many mines, or too few cells left for the missing ones.
+                }
+            }
+            return next;
+        }
+
+        /**
+         * Adds counts shifted by a number of mines to a target.
+         *
+         * @param target The counts to add to.
+         * @param source The counts to add.
+         * @param shift  The number of mines added to every index.
+         */
+        private static void addShifted(double[] target, double[] source, int shift)
+        {
+            addShifted(target, source, shift, 1);
+        }
+
+        /**
+         * Adds scaled counts shifted by a number of mines to a target.
+         *
+         * @param target The counts to add to.
+         * @param source The counts to add.
+         * @param shift  The number of mines added to every index.
+         * @param factor The factor every count is multiplied with.
+         */
+        private static void addShifted(double[] target, double[] source, int shift, double factor)
+        {
+            for (int m = 0; m < source.length && m + shift < target.length; m++)
+            {
+                target[m + shift] += source[m] * factor;
+            }
+        }
+
+        /**
+         * Gets the board indices of the cells in enumeration order.
+         *
+         * @return The cells.
+         */
+        int[] getCells()
+        {
+            return cells;
+        }
+
+        /**
+         * Gets the number of configurations by mine count.
+         *
+         * @return The counts, or {@code null} if the component was too complex.
+         */
+        double[] getTotals()
+        {
+            return totals;
+        }
+
+        /**
+         * Gets the mine counts of the cells, in the order of {@link #getCells()}.
+         *
+         * @return For each cell, the number of configurations by mine count in which it is a mine.
+         */
+        double[][] getMineCounts()
+        {
+            return mineCounts;
+        }
+    }
+
+    /**
+     * The mines missing on every constraint of a component, used to merge equal enumeration states.
+     *
+     * @param needs The missing mines per constraint.
+     */
+    private record StateKey(byte[] needs)
+    {
+        /**
+         * Compares the missing mines of two states.
+         *
+         * @param other The other object.
+         * @return {@code true} if both states miss the same mines on every constraint.
+         */
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof StateKey key && Arrays.equals(needs, key.needs);
+        }
+
+        /**
+         * Computes the hash code from the missing mines.
+         *
+         * @return The hash code.
+         */
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode(needs);
+        }
+    }
+}
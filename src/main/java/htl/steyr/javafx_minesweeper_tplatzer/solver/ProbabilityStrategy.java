@@ -0,0 +1,96 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Always reveals the cell least likely to contain a mine according to the {@link ProbabilityEngine}. Proven safe
+ * cells have a probability of zero, so they are played first; guesses take the best odds.
+ * <p>
+ * Before the first click and in positions the engine does not evaluate, the {@link SolverStrategy} decides instead.
+ */
+public class ProbabilityStrategy implements Strategy
+{
+    /**
+     * The strategy used when no probabilities are available.
+     */
+    private final SolverStrategy fallback = new SolverStrategy();
+
+    /**
+     * The probability engine of the board being played, replaced when the strategy is used on another board.
+     */
+    private ProbabilityEngine engine;
+
+
+    /**
+     * Constructs a new {@code ProbabilityStrategy}; its engine is created for the first board it plays on.
+     */
+    public ProbabilityStrategy()
+    {
+    }
+
+    /**
+     * Chooses the unrevealed cell with the lowest mine probability; of equally likely cells, the first one.
+     *
+     * @param board  The board being played.
+     * @param random The random number generator of the game, used by the fallback.
+     * @return The board index of the cell.
+     */
+    @Override
+    public int chooseCell(Board board, RandomGenerator random)
+    {
+        if (getEngine() == null || getEngine().getBoard() != board)
+        {
+            setEngine(new ProbabilityEngine(board));
+        }
+
+        double[] probabilities = getEngine().compute();
+        if (probabilities == null)
+        {
+            return getFallback().chooseCell(board, random); // Before the first click or too complex.
+        }
+
+        int best = -1;
+        double lowest = Double.MAX_VALUE;
+        for (int index = 0; index < probabilities.length; index++)
+        {
+            if (probabilities[index] != ProbabilityEngine.REVEALED && probabilities[index] < lowest)
+            {
+                best = index;
+                lowest = probabilities[index];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the strategy used when no probabilities are available.
+     *
+     * @return The fallback strategy.
+     */
+    private SolverStrategy getFallback()
+    {
+        return fallback;
+    }
+
+    /**
+     * Gets the probability engine of the board being played.
+     *
+     * @return The engine, or {@code null} before the first move.
+     */
+    private ProbabilityEngine getEngine()
+    {
+        return engine;
+    }
+
+    /**
+     * Sets the probability engine of the board being played.
+     *
+     * @param engine The engine to set.
+     */
+    private void setEngine(ProbabilityEngine engine)
+    {
+        this.engine = engine;
+    }
+}
@@ -0,0 +1,49 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Clicks a random unrevealed cell, ignoring the revealed numbers. Serves as the baseline of a {@link Simulation}.
+ */
+public class RandomStrategy implements Strategy
+{
+    /**
+     * Constructs a new {@code RandomStrategy}. It keeps no state, so one instance can play any number of games.
+     */
+    public RandomStrategy()
+    {
+    }
+
+    /**
+     * Chooses a random unrevealed cell.
+     *
+     * @param board  The board being played.
+     * @param random The random number generator of the game.
+     * @return The board index of the cell.
+     */
+    @Override
+    public int chooseCell(Board board, RandomGenerator random)
+    {
+        return chooseUnrevealed(board, random);
+    }
+
+    /**
+     * Chooses a random unrevealed cell. Positions are drawn until an unrevealed one is found, which ends quickly as
+     * long as the game is running.
+     *
+     * @param board  The board being played.
+     * @param random The random number generator of the game.
+     * @return The board index of the cell.
+     */
+    static int chooseUnrevealed(Board board, RandomGenerator random)
+    {
+        int index;
+        do
+        {
+            index = board.index(random.nextInt(board.getRows()), random.nextInt(board.getColumns()));
+        } while (board.isRevealed(index));
+        return index;
+    }
+}
@@ -0,0 +1,383 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays many games of one game mode with a {@link Strategy}, without any user interface, and collects statistics.
+ * <p>
+ * The games are played like in the window: the board is generated from the game's seed and the first clicked cell
+ * with {@link Board#generate(long, int, java.util.function.DoubleConsumer)}, and every further move reveals one cell
+ * until the game is won or lost. One worker per core plays games on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}, each with a board and strategy of its own. Game {@code n}
+ * is generated from a seed derived from the simulation seed and {@code n}, so equal seeds play the same boards
+ * regardless of how the games are spread over the cores, and engine changes can be compared game by game.
+ * <p>
+ * Besides the win rate and the mean number of clicks, the simulation reports the mean 3BV of the boards (the
+ * minimum number of clicks needed to clear a board without flags, see {@link #countThreeBV(Board)}) and the number
+ * of games played per second over all cores. It is started from the {@link htl.steyr.javafx_minesweeper_tplatzer.app.Launcher}
+ * with {@code --simulate}, see {@link #main(String[])}.
+ */
+public class Simulation
+{
+    /**
+     * The number of games played per game mode and strategy if no number is given.
+     */
+    public static final int DEFAULT_GAMES = 1000;
+
+    /**
+     * The seed the game seeds are derived from if no seed is given.
+     */
+    public static final long DEFAULT_SEED = 0;
+
+    /**
+     * The names of the strategies simulated if none is given.
+     */
+    private static final String[] STRATEGIES = {"random", "solver", "greedy"};
+
+    /**
+     * The names of the game modes simulated if none is given.
+     */
+    private static final String[] DIFFICULTIES = {"beginner", "advanced", "pro"};
+
+    /**
+     * The increment between the seeds of consecutive games, spreading them over the whole seed range.
+     */
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The game mode being played.
+     */
+    private final Difficulty difficulty;
+
+    /**
+     * The name of the strategy playing the games.
+     */
+    private final String strategy;
+
+    /**
+     * The number of games to play.
+     */
+    private final long games;
+
+    /**
+     * The seed the game seeds are derived from.
+     */
+    private final long seed;
+
+    /**
+     * The number of games taken by the workers so far; also the number of the next game.
+     */
+    private final AtomicLong started = new AtomicLong();
+
+    /**
+     * The number of games won.
+     */
+    private long wins;
+
+    /**
+     * The number of clicks over all games.
+     */
+    private long clicks;
+
+    /**
+     * The 3BV over all boards.
+     */
+    private long threeBV;
+
+    /**
+     * How long the simulation took, in nanoseconds.
+     */
+    private long elapsedNanos;
+
+
+    /**
+     * Constructs a new {@code Simulation}.
+     *
+     * @param difficulty The game mode to play.
+     * @param strategy   The name of the strategy playing the games, see {@link Strategy#of(String)}.
+     * @param games      The number of games to play.
+     * @param seed       The seed the game seeds are derived from.
+     * @throws IllegalArgumentException if the strategy is unknown.
+     */
+    public Simulation(Difficulty difficulty, String strategy, long games, long seed)
+    {
+        Strategy.of(strategy); // Fails early for unknown names.
+        this.difficulty = difficulty;
+        this.strategy = strategy;
+        this.games = games;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs simulations from the command line and prints one line of statistics per game mode and strategy.
+     * <p>
+     * Every argument is either the number of games, the name of a strategy ({@code random}, {@code solver},
+     * {@code greedy}), the name of a game mode ({@code beginner}, {@code advanced}, {@code pro} or
+     * {@code custom-<rows>x<columns>-<mines>}) or {@code seed=<n>}. Without strategies or game modes, all
+     * strategies are run on all predefined modes; the default is {@link #DEFAULT_GAMES} games with the
+     * {@link #DEFAULT_SEED}. For example, {@code 10000 pro greedy} plays 10000 pro games with the
+     * {@link ProbabilityStrategy}.
+     *
+     * @param args The command-line arguments following {@code --simulate}.
+     * @throws IllegalArgumentException if an argument is not understood.
+     */
+    public static void main(String[] args)
+    {
+        long games = DEFAULT_GAMES;
+        long seed = DEFAULT_SEED;
+        List<String> strategies = new ArrayList<>();
+        List<Difficulty> difficulties = new ArrayList<>();
+        for (String arg : args)
+        {
+            if (arg.matches("\\d+"))
+            {
+                games = Long.parseLong(arg);
+            } else if (arg.startsWith("seed="))
+            {
+                seed = Long.parseLong(arg.substring("seed=".length()));
+            } else if (List.of(STRATEGIES).contains(arg))
+            {
+                strategies.add(arg);
+            } else
+            {
+                difficulties.add(Difficulty.of(arg)); // Rejects anything else.
+            }
+        }
+        if (strategies.isEmpty())
+        {
+            strategies.addAll(List.of(STRATEGIES));
+        }
+        if (difficulties.isEmpty())
+        {
+            for (String name : DIFFICULTIES)
+            {
+                difficulties.add(Difficulty.of(name));
+            }
+        }
+
+        System.out.println("Simulating " + games + " games per mode and strategy with seed " + seed + " on "
+                + Runtime.getRuntime().availableProcessors() + " cores");
+        for (Difficulty difficulty : difficulties)
+        {
+            for (String strategy : strategies)
+            {
+                System.out.println(new Simulation(difficulty, strategy, games, seed).run().summarize());
+            }
+        }
+    }
+
+    /**
+     * Plays all games on all cores and blocks until they are finished.
+     *
+     * @return This simulation, holding the statistics.
+     */
+    public Simulation run()
+    {
+        long start = System.nanoTime();
+
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++)
+        {
+            workers.add(new Worker());
+        }
+        ForkJoinTask.invokeAll(workers); // The calling thread runs one worker itself.
+
+        for (Worker worker : workers)
+        {
+            wins += worker.wins;
+            clicks += worker.clicks;
+            threeBV += worker.threeBV;
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return this;
+    }
+
+    /**
+     * Plays a single game until it is won or lost.
+     *
+     * @param board    The board to play on, reset before the game.
+     * @param strategy The strategy choosing the cells.
+     * @param seed     The seed of the game, placing the mines and the strategy's guesses.
+     * @return The number of clicks.
+     */
+    static int play(Board board, Strategy strategy, long seed)
+    {
+        board.reset();
+        SplittableRandom guesses = new SplittableRandom(seed).split(); // Independent of the mine placement.
+        int clicks = 0;
+        while (!board.isWon() && !board.isLost())
+        {
+            int index = strategy.chooseCell(board, guesses);
+            if (!board.isMinesPlaced())
+            {
+                board.generate(seed, index, null); // The board the window generates for this seed and first click.
+            }
+            board.reveal(index);
+            clicks++;
+        }
+        return clicks;
+    }
+
+    /**
+     * Computes the 3BV ("Bechtel's Board Benchmark Value") of a board: the minimum number of clicks that reveal all
+     * safe cells without flags. Every opening, a connected area of cells without adjacent mines together with its
+     * border of numbers, takes one click, and every number outside the openings takes one click of its own.
+     *
+     * @param board The board with its mines placed.
+     * @return The 3BV of the board.
+     */
+    public static int countThreeBV(Board board)
+    {
+        boolean[] opened = new boolean[board.getIndexLimit()];
+        int[] stack = new int[board.getSize()]; // Every cell is pushed at most once.
+        int[] offsets = board.getNeighbourOffsets();
+        int threeBV = 0;
+
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (opened[index] || board.isSentinel(index) || board.isMine(index) || board.getAdjacentMines(index) != 0)
+            {
+                continue;
+            }
+
+            threeBV++; // A new opening.
+            opened[index] = true;
+            int size = 0;
+            stack[size++] = index;
+            while (size > 0)
+            {
+                int cell = stack[--size];
+                for (int offset : offsets)
+                {
+                    int neighbour = cell + offset;
+                    if (!opened[neighbour] && !board.isSentinel(neighbour)) // Neighbours of empty cells are never mines.
+                    {
+                        opened[neighbour] = true;
+                        if (board.getAdjacentMines(neighbour) == 0)
+                        {
+                            stack[size++] = neighbour; // Continues the opening.
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (!opened[index] && !board.isSentinel(index) && !board.isMine(index))
+            {
+                threeBV++; // A number outside all openings.
+            }
+        }
+        return threeBV;
+    }
+
+    /**
+     * Formats the statistics of the simulation as a single line.
+     *
+     * @return The summary, e.g. {@code "pro       greedy   1000 games | win  38.2% | clicks  131.4 | 3BV  178.9 | 912 games/s"}.
+     */
+    public String summarize()
+    {
+        return String.format("%-9s %-8s %d games | win %5.1f%% | clicks %6.1f | 3BV %6.1f | %.0f games/s",
+                difficulty.getName(), strategy, games, getWinRate() * 100, getMeanClicks(), getMeanThreeBV(),
+                getGamesPerSecond());
+    }
+
+    /**
+     * Gets the share of games won.
+     *
+     * @return The win rate between {@code 0} and {@code 1}, or {@code 0} before the simulation has run.
+     */
+    public double getWinRate()
+    {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the mean number of clicks per game, including the losing click.
+     *
+     * @return The mean number of clicks, or {@code 0} before the simulation has run.
+     */
+    public double getMeanClicks()
+    {
+        return games == 0 ? 0 : (double) clicks / games;
+    }
+
+    /**
+     * Gets the mean 3BV of the boards played.
+     *
+     * @return The mean 3BV, or {@code 0} before the simulation has run.
+     */
+    public double getMeanThreeBV()
+    {
+        return games == 0 ? 0 : (double) threeBV / games;
+    }
+
+    /**
+     * Gets how many games were played per second, over all cores.
+     *
+     * @return The game rate, or {@code 0} before the simulation has run.
+     */
+    public double getGamesPerSecond()
+    {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Plays games until all games of the simulation are taken, accumulating its own statistics.
+     */
+    private class Worker extends RecursiveAction
+    {
+        /**
+         * Required since fork/join tasks are serializable; a worker only lives for one run of the simulation.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The number of games this worker won.
+         */
+        private long wins;
+
+        /**
+         * The number of clicks over the games of this worker.
+         */
+        private long clicks;
+
+        /**
+         * The 3BV over the boards of this worker.
+         */
+        private long threeBV;
+
+
+        /**
+         * Plays games on a board and with a strategy of its own, which are reused for every game.
+         */
+        @Override
+        protected void compute()
+        {
+            Board board = new Board(difficulty.getRows(), difficulty.getColumns(), difficulty.getMines());
+            Strategy player = Strategy.of(strategy);
+
+            for (long game = started.getAndIncrement(); game < games; game = started.getAndIncrement())
+            {
+                clicks += play(board, player, seed + game * SEED_GAMMA);
+                threeBV += countThreeBV(board); // Counted on the final board, the mines do not move.
+                if (board.isWon())
+                {
+                    wins++;
+                }
+            }
+        }
+    }
+}
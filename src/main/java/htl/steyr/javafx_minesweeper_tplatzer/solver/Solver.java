@@ -0,0 +1,463 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.util.Arrays;
+
+/**
+ * Deduces which unrevealed cells of a {@link Board} are certainly safe and which certainly contain a mine.
+ * <p>
+ * The solver only reads what the player can see: which cells are revealed and the numbers on them. Flags and
+ * question marks are ignored, as they may be wrong. Every revealed number next to unrevealed cells forms a
+ * constraint "exactly {@code n} of these cells are mines". Two rules are applied until nothing new follows:
+ * <ul>
+ *     <li>Single point: a constraint needing no more mines makes all of its cells safe; a constraint needing as
+ *     many mines as it has cells makes all of them mines.</li>
+ *     <li>Pairs: for two overlapping constraints A and B, if A needs as many more mines than B as it has cells
+ *     outside B, then all of A's cells outside B are mines and all of B's cells outside A are safe. This covers the
+ *     subset and superset cases as well as partial overlaps.</li>
+ * </ul>
+ * Constraints can only share cells if their numbers are at most two cells apart, so each constraint is only
+ * compared with the constraints in the 5x5 window around it. The buffers are kept between runs and only grow,
+ * so solving does not allocate once warmed up; a pro board is solved in a few microseconds.
+ */
+public class Solver
+{
+    /**
+     * Knowledge marker for cells nothing is known about yet.
+     */
+    static final byte UNKNOWN = 0;
+
+    /**
+     * Knowledge marker for cells proven to be safe.
+     */
+    static final byte SAFE = 1;
+
+    /**
+     * Knowledge marker for cells proven to contain a mine.
+     */
+    static final byte MINE = 2;
+
+    /**
+     * The maximum number of cells in a constraint: the eight neighbours of a number.
+     */
+    private static final int MAX_CONSTRAINT_CELLS = 8;
+
+    /**
+     * The board the deductions are made for.
+     */
+    private final Board board;
+
+    /**
+     * The deductions of the last run, reused by every run.
+     */
+    private final Deductions deductions = new Deductions();
+
+    /**
+     * What was deduced about each cell during the current run, indexed like the board.
+     */
+    private byte[] knowledge;
+
+    /**
+     * The constraint formed by each revealed number, indexed like the board, or {@code -1} for cells without one.
+     */
+    private int[] constraintAt;
+
+    /**
+     * The board index of the number forming each constraint.
+     */
+    private int[] constraintCentres = new int[64];
+
+    /**
+     * The unresolved cells of each constraint, {@link #MAX_CONSTRAINT_CELLS} slots per constraint.
+     */
+    private int[] constraintCells = new int[64 * MAX_CONSTRAINT_CELLS];
+
+    /**
+     * The number of unresolved cells of each constraint.
+     */
+    private int[] constraintSizes = new int[64];
+
+    /**
+     * The number of mines still missing among the unresolved cells of each constraint.
+     */
+    private int[] constraintMines = new int[64];
+
+    /**
+     * The number of constraints of the current run.
+     */
+    private int constraintCount;
+
+
+    /**
+     * Constructs a new {@code Solver} for the specified board.
+     *
+     * @param board The {@link Board} to make deductions for.
+     */
+    public Solver(Board board)
+    {
+        this.board = board;
+    }
+
+    /**
+     * Deduces the safe cells and the mines that follow from the currently revealed cells.
+     * <p>
+     * Nothing is deduced before the mines are placed or after the game has ended.
+     *
+     * @return The deductions, valid until the next call.
+     */
+    public Deductions solve()
+    {
+        getDeductions().clear();
+        if (!getBoard().isMinesPlaced() || getBoard().isLost() || getBoard().isWon())
+        {
+            return getDeductions();
+        }
+
+        collectConstraints();
+
+        boolean learned;
+        do
+        {
+            learned = applySinglePointRule() || applyPairRule(); // Pairs are only compared once single points are exhausted.
+        } while (learned);
+
+        return getDeductions();
+    }
+
+    /**
+     * Forms a constraint for every revealed number next to unrevealed cells.
+     */
+    private void collectConstraints()
+    {
+        if (knowledge == null)
+        {
+            knowledge = new byte[getBoard().getIndexLimit()]; // Allocated on the first run only.
+            constraintAt = new int[getBoard().getIndexLimit()];
+        }
+        Arrays.fill(knowledge, UNKNOWN);
+        Arrays.fill(constraintAt, -1);
+        constraintCount = 0;
+
+        int[] offsets = getBoard().getNeighbourOffsets();
+        for (int row = 0; row < getBoard().getRows(); row++)
+        {
+            for (int column = 0; column < getBoard().getColumns(); column++)
+            {
+                int index = getBoard().index(row, column);
+                if (!getBoard().isRevealed(index) || getBoard().getAdjacentMines(index) == 0)
+                {
+                    continue; // Only numbers constrain their neighbours.
+                }
+
+                ensureConstraintCapacity();
+                int base = constraintCount * MAX_CONSTRAINT_CELLS;
+                int size = 0;
+                for (int offset : offsets)
+                {
+                    if (!getBoard().isRevealed(index + offset)) // Sentinels count as revealed.
+                    {
+                        constraintCells[base + size++] = index + offset;
+                    }
+                }
+
+                if (size > 0)
+                {
+                    constraintCentres[constraintCount] = index;
+                    constraintSizes[constraintCount] = size;
+                    constraintMines[constraintCount] = getBoard().getAdjacentMines(index);
+                    constraintAt[index] = constraintCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Grows the constraint buffers if they cannot hold another constraint.
+     */
+    private void ensureConstraintCapacity()
+    {
+        if (constraintCount < constraintSizes.length)
+        {
+            return;
+        }
+
+        int capacity = constraintSizes.length * 2;
+        constraintCentres = Arrays.copyOf(constraintCentres, capacity);
+        constraintCells = Arrays.copyOf(constraintCells, capacity * MAX_CONSTRAINT_CELLS);
+        constraintSizes = Arrays.copyOf(constraintSizes, capacity);
+        constraintMines = Arrays.copyOf(constraintMines, capacity);
+    }
+
+    /**
+     * Applies the single point rule to every constraint, after removing the cells that were resolved meanwhile.
+     *
+     * @return {@code true} if a new cell was resolved, {@code false} otherwise.
+     */
+    private boolean applySinglePointRule()
+    {
+        boolean learned = false;
+        for (int constraint = 0; constraint < constraintCount; constraint++)
+        {
+            int size = reduce(constraint);
+            if (size == 0)
+            {
+                continue; // All cells of the constraint are resolved.
+            }
+
+            int mines = constraintMines[constraint];
+            if (mines == 0 || mines == size)
+            {
+                byte value = mines == 0 ? SAFE : MINE;
+                int base = constraint * MAX_CONSTRAINT_CELLS;
+                for (int i = 0; i < size; i++)
+                {
+                    resolve(constraintCells[base + i], value);
+                }
+                constraintSizes[constraint] = 0;
+                constraintMines[constraint] = 0;
+                learned = true;
+            }
+        }
+        return learned;
+    }
+
+    /**
+     * Compares every constraint with its overlapping neighbours and resolves the cells that follow.
+     * <p>
+     * Constraints are not reduced while the pass runs. They stay true when cells are resolved, so the rule remains
+     * sound on them, and a single pass can resolve whole chains instead of rescanning after every cell.
+     *
+     * @return {@code true} if a new cell was resolved, {@code false} otherwise.
+     */
+    private boolean applyPairRule()
+    {
+        boolean learned = false;
+        for (int a = 0; a < constraintCount; a++)
+        {
+            if (constraintSizes[a] == 0)
+            {
+                continue;
+            }
+
+            int row = getBoard().getRow(constraintCentres[a]);
+            int column = getBoard().getColumn(constraintCentres[a]);
+            for (int rowOffset = -2; rowOffset <= 2; rowOffset++)
+            {
+                for (int columnOffset = -2; columnOffset <= 2; columnOffset++)
+                {
+                    if ((rowOffset == 0 && columnOffset == 0) || !getBoard().isInBounds(row + rowOffset, column + columnOffset))
+                    {
+                        continue;
+                    }
+
+                    int b = constraintAt[getBoard().index(row + rowOffset, column + columnOffset)];
+                    if (b >= 0 && constraintSizes[b] > 0 && applyPairRule(a, b))
+                    {
+                        learned = true;
+                    }
+                }
+            }
+        }
+        return learned;
+    }
+
+    /**
+     * Applies the pair rule to two constraints: if A needs as many more mines than B as it has cells outside B,
+     * those cells are mines and B's cells outside A are safe.
+     *
+     * @param a The constraint A.
+     * @param b The constraint B.
+     * @return {@code true} if a new cell was resolved, {@code false} otherwise.
+     */
+    private boolean applyPairRule(int a, int b)
+    {
+        int baseA = a * MAX_CONSTRAINT_CELLS;
+        int sizeA = constraintSizes[a];
+        int onlyA = 0;
+        for (int i = 0; i < sizeA; i++)
+        {
+            if (!contains(b, constraintCells[baseA + i]))
+            {
+                onlyA++;
+            }
+        }
+
+        int shared = sizeA - onlyA;
+        int onlyB = constraintSizes[b] - shared;
+        if (shared == 0 || onlyA + onlyB == 0 || constraintMines[a] - constraintMines[b] != onlyA)
+        {
+            return false; // Disjoint, identical or not decisive.
+        }
+
+        boolean learned = false;
+        for (int i = 0; i < sizeA; i++)
+        {
+            int cell = constraintCells[baseA + i];
+            if (!contains(b, cell))
+            {
+                learned |= resolve(cell, MINE);
+            }
+        }
+
+        int baseB = b * MAX_CONSTRAINT_CELLS;
+        for (int i = 0; i < constraintSizes[b]; i++)
+        {
+            int cell = constraintCells[baseB + i];
+            if (!contains(a, cell))
+            {
+                learned |= resolve(cell, SAFE);
+            }
+        }
+        return learned;
+    }
+
+    /**
+     * Removes the resolved cells from a constraint and lowers its missing mines by the mines among them.
+     *
+     * @param constraint The constraint to reduce.
+     * @return The number of unresolved cells left.
+     */
+    private int reduce(int constraint)
+    {
+        int base = constraint * MAX_CONSTRAINT_CELLS;
+        int size = constraintSizes[constraint];
+        int kept = 0;
+        for (int i = 0; i < size; i++)
+        {
+            int cell = constraintCells[base + i];
+            switch (knowledge[cell])
+            {
+                case UNKNOWN -> constraintCells[base + kept++] = cell;
+                case MINE -> constraintMines[constraint]--;
+                default ->
+                {
+                    // Safe cells just drop out.
+                }
+            }
+        }
+        constraintSizes[constraint] = kept;
+        return kept;
+    }
+
+    /**
+     * Checks whether a cell is one of the unresolved cells of a constraint.
+     *
+     * @param constraint The constraint.
+     * @param cell       The board index of the cell.
+     * @return {@code true} if the constraint contains the cell, {@code false} otherwise.
+     */
+    private boolean contains(int constraint, int cell)
+    {
+        int base = constraint * MAX_CONSTRAINT_CELLS;
+        for (int i = 0; i < constraintSizes[constraint]; i++)
+        {
+            if (constraintCells[base + i] == cell)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records what was deduced about a cell, unless it was already known.
+     *
+     * @param cell  The board index of the cell.
+     * @param value {@link #SAFE} or {@link #MINE}.
+     * @return {@code true} if the cell was unknown before, {@code false} otherwise.
+     */
+    private boolean resolve(int cell, byte value)
+    {
+        if (knowledge[cell] != UNKNOWN)
+        {
+            return false;
+        }
+
+        knowledge[cell] = value;
+        if (value == SAFE)
+        {
+            getDeductions().addSafe(cell);
+        } else
+        {
+            getDeductions().addMine(cell);
+        }
+        return true;
+    }
+
+    /**
+     * Returns what the last run deduced about a cell.
+     *
+     * @param index The board index of the cell.
+     * @return {@link #UNKNOWN}, {@link #SAFE} or {@link #MINE}.
+     */
+    byte getKnowledge(int index)
+    {
+        return knowledge[index];
+    }
+
+    /**
+     * Returns the number of constraints of the last run. When a run ends, every constraint only holds cells nothing
+     * is known about, so the constraints describe exactly what is left to guess.
+     *
+     * @return The number of constraints, including resolved ones without cells.
+     */
+    int getConstraintCount()
+    {
+        return constraintCount;
+    }
+
+    /**
+     * Returns the number of unresolved cells of a constraint.
+     *
+     * @param constraint The constraint.
+     * @return The number of cells.
+     */
+    int getConstraintSize(int constraint)
+    {
+        return constraintSizes[constraint];
+    }
+
+    /**
+     * Returns an unresolved cell of a constraint.
+     *
+     * @param constraint The constraint.
+     * @param position   The position of the cell, between {@code 0} and {@code getConstraintSize(constraint) - 1}.
+     * @return The board index of the cell.
+     */
+    int getConstraintCell(int constraint, int position)
+    {
+        return constraintCells[constraint * MAX_CONSTRAINT_CELLS + position];
+    }
+
+    /**
+     * Returns the number of mines still missing among the unresolved cells of a constraint.
+     *
+     * @param constraint The constraint.
+     * @return The number of mines.
+     */
+    int getConstraintMines(int constraint)
+    {
+        return constraintMines[constraint];
+    }
+
+    /**
+     * Gets the board the deductions are made for.
+     *
+     * @return The {@link Board}.
+     */
+    public Board getBoard()
+    {
+        return board;
+    }
+
+    /**
+     * Gets the deductions of the last run.
+     *
+     * @return The {@link Deductions}, reused by every run.
+     */
+    public Deductions getDeductions()
+    {
+        return deductions;
+    }
+}
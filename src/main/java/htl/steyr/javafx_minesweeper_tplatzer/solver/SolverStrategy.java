@@ -0,0 +1,92 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Reveals the cells the {@link Solver} proves safe and guesses a random cell that is not a proven mine otherwise,
+ * like a player who only plays certain moves and never weighs the odds.
+ */
+public class SolverStrategy implements Strategy
+{
+    /**
+     * The solver of the board being played, replaced when the strategy is used on another board.
+     */
+    private Solver solver;
+
+
+    /**
+     * Constructs a new {@code SolverStrategy}; its solver is created for the first board it plays on.
+     */
+    public SolverStrategy()
+    {
+    }
+
+    /**
+     * Chooses the first proven safe cell, or guesses if there is none.
+     *
+     * @param board  The board being played.
+     * @param random The random number generator of the game, used for guesses.
+     * @return The board index of the cell.
+     */
+    @Override
+    public int chooseCell(Board board, RandomGenerator random)
+    {
+        if (getSolver() == null || getSolver().getBoard() != board)
+        {
+            setSolver(new Solver(board));
+        }
+
+        Deductions deductions = getSolver().solve();
+        if (deductions.getSafeCount() > 0)
+        {
+            return deductions.getSafe(0);
+        }
+        return guess(board, getSolver(), random);
+    }
+
+    /**
+     * Chooses a random unrevealed cell that the last run of the solver did not prove to be a mine. While the game is
+     * running, at least one such cell exists, as safe cells are never proven to be mines.
+     *
+     * @param board  The board being played.
+     * @param solver The solver that was just run on the board.
+     * @param random The random number generator of the game.
+     * @return The board index of the cell.
+     */
+    static int guess(Board board, Solver solver, RandomGenerator random)
+    {
+        if (!board.isMinesPlaced())
+        {
+            return RandomStrategy.chooseUnrevealed(board, random); // The solver has not looked at this game yet.
+        }
+
+        int index;
+        do
+        {
+            index = RandomStrategy.chooseUnrevealed(board, random);
+        } while (solver.getKnowledge(index) == Solver.MINE);
+        return index;
+    }
+
+    /**
+     * Gets the solver of the board being played.
+     *
+     * @return The solver, or {@code null} before the first move.
+     */
+    private Solver getSolver()
+    {
+        return solver;
+    }
+
+    /**
+     * Sets the solver of the board being played.
+     *
+     * @param solver The solver to set.
+     */
+    private void setSolver(Solver solver)
+    {
+        this.solver = solver;
+    }
+}
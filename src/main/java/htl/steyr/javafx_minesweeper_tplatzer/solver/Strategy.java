@@ -0,0 +1,45 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides which cell a simulated player reveals next.
+ * <p>
+ * Strategies play on a headless {@link Board} and only click cells; they never flag or chord. A strategy may keep
+ * state between moves, such as a {@link Solver} for the board, so every thread of a {@link Simulation} uses
+ * instances of its own. Strategies are identified by name like game modes, see {@link #of(String)}.
+ */
+public interface Strategy
+{
+    /**
+     * Chooses the next cell to reveal.
+     * <p>
+     * Called while the game is running, also before the first click, when the mines may not be placed yet.
+     *
+     * @param board  The board being played.
+     * @param random The random number generator of the game, used for guesses.
+     * @return The board index of an unrevealed cell.
+     */
+    int chooseCell(Board board, RandomGenerator random);
+
+    /**
+     * Creates a new instance of the strategy with the specified name.
+     *
+     * @param name {@code "random"} for the {@link RandomStrategy}, {@code "solver"} for the {@link SolverStrategy} or
+     *             {@code "greedy"} for the {@link ProbabilityStrategy}.
+     * @return The new strategy.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    static Strategy of(String name)
+    {
+        return switch (name)
+        {
+            case "random" -> new RandomStrategy();
+            case "solver" -> new SolverStrategy();
+            case "greedy" -> new ProbabilityStrategy();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
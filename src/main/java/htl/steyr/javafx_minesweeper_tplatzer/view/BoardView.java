@@ -0,0 +1,134 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.controller.GameController;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import javafx.scene.layout.Region;
+
+/**
+ * Displays a {@link Board} in the game window and forwards the player's clicks to the {@link GameController}.
+ * <p>
+ * Two renderers are available and can be switched while a game is running:
+ * <ul>
+ *     <li>{@link ButtonBoardView}: one {@link javafx.scene.control.Button} per cell, styled by the game stylesheets.</li>
+ *     <li>{@link CanvasBoardView}: a single {@link javafx.scene.canvas.Canvas} that only draws the visible cells.</li>
+ * </ul>
+ * The view never changes the board itself; after every board operation the controller marks the changed cells in a
+ * {@link DirtyCellQueue}, which calls {@link #refresh(int)} for each of them once per pulse.
+ */
+public interface BoardView
+{
+    /**
+     * Renderer name that picks the canvas for large boards and buttons otherwise.
+     */
+    String RENDERER_AUTO = "auto";
+
+    /**
+     * Renderer name of the {@link ButtonBoardView}.
+     */
+    String RENDERER_BUTTONS = "buttons";
+
+    /**
+     * Renderer name of the {@link CanvasBoardView}.
+     */
+    String RENDERER_CANVAS = "canvas";
+
+    /**
+     * The number of cells above which {@link #RENDERER_AUTO} uses the canvas renderer.
+     */
+    int AUTO_CANVAS_THRESHOLD = 2500;
+
+    /**
+     * The number of cells above which even {@link #RENDERER_BUTTONS} uses the canvas, as one node per cell would
+     * take seconds to create and exhaust the memory.
+     */
+    int MAX_BUTTON_CELLS = 10_000;
+
+    /**
+     * Creates the view for the specified renderer.
+     *
+     * @param renderer       The renderer name ({@link #RENDERER_AUTO}, {@link #RENDERER_BUTTONS} or {@link #RENDERER_CANVAS}).
+     *                       Unknown names and {@code null} are treated like {@link #RENDERER_AUTO}. Boards with
+     *                       more than {@link #MAX_BUTTON_CELLS} cells always use the canvas.
+     * @param gameController The {@link GameController} receiving the player's clicks.
+     * @param board          The {@link Board} to display.
+     * @param style          The visual style of the game (e.g., "retro", "modern").
+     * @return The new, fully drawn view.
+     */
+    static BoardView create(String renderer, GameController gameController, Board board, String style)
+    {
+        boolean useCanvas = switch (renderer == null ? RENDERER_AUTO : renderer)
+        {
+            case RENDERER_BUTTONS -> board.getSize() > MAX_BUTTON_CELLS;
+            case RENDERER_CANVAS -> true;
+            default -> board.getSize() > AUTO_CANVAS_THRESHOLD; // Buttons do not scale to large boards.
+        };
+
+        BoardView view = useCanvas
+                ? new CanvasBoardView(gameController, board, style)
+                : new ButtonBoardView(gameController, board, style);
+        view.refreshAll(); // Shows the current board state, e.g. when switching renderers during a game.
+
+        return view;
+    }
+
+    /**
+     * Gets the node to place in the game window.
+     *
+     * @return The root node of the view.
+     */
+    Region getNode();
+
+    /**
+     * Updates the displayed cell to match its current state on the board.
+     *
+     * @param index The board index of the cell.
+     * @return The number of scene graph node mutations the update caused; zero if the cell already matched.
+     */
+    int refresh(int index);
+
+    /**
+     * Updates all displayed cells to match the board.
+     */
+    void refreshAll();
+
+    /**
+     * Shows the board of a new game with the same dimensions, reusing the existing nodes.
+     * <p>
+     * Clears everything left over from the previous game, such as end-of-game markers and disabled cells,
+     * and redraws all cells from the board. The board is either the previous one after a reset or a new one
+     * taken from the board pool.
+     *
+     * @param board The {@link Board} of the new game.
+     */
+    void reset(Board board);
+
+    /**
+     * Shows an unflagged bomb after the game was lost, without the highlight of the bomb that exploded.
+     *
+     * @param index The board index of the bomb.
+     */
+    void showBomb(int index);
+
+    /**
+     * Marks a flag that was placed on a cell without a bomb after the game has ended.
+     *
+     * @param index The board index of the wrongly flagged cell.
+     */
+    void showFalseFlag(int index);
+
+    /**
+     * Stops forwarding clicks on cells to the controller, e.g. once the game has ended.
+     */
+    void disableCells();
+
+    /**
+     * Tints the unrevealed cells by their probability to contain a mine, or removes the tint.
+     * <p>
+     * The view keeps the array and reads it whenever a cell is drawn, so it must be passed again after it changed.
+     *
+     * @param probabilities The probabilities indexed like the board, as computed by the
+     *                      {@link htl.steyr.javafx_minesweeper_tplatzer.solver.ProbabilityEngine}, with negative
+     *                      values for cells without a tint; or {@code null} to hide the heatmap.
+     */
+    void showProbabilities(double[] probabilities);
+}
@@ -0,0 +1,313 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.controller.GameController;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Cell;
+import javafx.geometry.Pos;
+import javafx.scene.effect.Light;
+import javafx.scene.effect.Lighting;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.layout.VBox;
+
+/**
+ * Displays the board as a {@link GridPane} holding one {@link Cell} button per position.
+ * <p>
+ * This is the original renderer of the game. Every cell is a styled {@link javafx.scene.control.Button},
+ * so layout and CSS costs grow with the number of cells; large boards should use the {@link CanvasBoardView}.
+ */
+public class ButtonBoardView implements BoardView
+{
+    /**
+     * The number of rows that fit the game window without scrolling (the size of the "pro" field).
+     */
+    private static final int maxUnscrolledRows = 16;
+
+    /**
+     * The number of columns that fit the game window without scrolling (the size of the "pro" field).
+     */
+    private static final int maxUnscrolledColumns = 30;
+
+    /**
+     * The heatmap tints, one per 5% step of the mine probability. Shared by all buttons, as effects hold no node state.
+     */
+    private static final Lighting[] heatEffects = createHeatEffects(20);
+
+    /**
+     * The {@link GridPane} holding the cell buttons.
+     */
+    private GridPane gameField;
+
+    /**
+     * The node placed in the window: the grid itself, or a {@link ScrollPane} around it for large boards.
+     */
+    private Region node;
+
+    /**
+     * The {@link Cell} objects representing all cells on the game board, indexed like the {@link Board}.
+     * Entries at the indices of sentinels are {@code null}.
+     */
+    private Cell[] cells;
+
+
+    /**
+     * Constructs a new {@code ButtonBoardView} and creates a button for every cell of the board.
+     *
+     * @param gameController The {@link GameController} receiving the player's clicks.
+     * @param board          The {@link Board} to display.
+     * @param style          The visual style of the game (e.g., "retro", "modern").
+     */
+    public ButtonBoardView(GameController gameController, Board board, String style)
+    {
+        initializeGameFieldGridPane(board.getRows(), board.getColumns()); // Configures the grid layout for the game field.
+        setCells(new Cell[board.getIndexLimit()]); // Initializes the cells, leaving the sentinels empty.
+
+        // Creates cells for each position in the grid and adds them to the grid layout.
+        for (int row = 0; row < board.getRows(); row++)
+        {
+            for (int col = 0; col < board.getColumns(); col++)
+            {
+                Cell cell = new Cell(style, gameController, row, col); // Creates a new cell view.
+
+                cell.getButton().setOnMousePressed(gameController::cellPressed); // Shows the nervous face while a button is held.
+                cell.getButton().setOnMouseReleased(gameController::cellReleased); // Restores the neutral face on release.
+
+                getCells()[cell.getIndex()] = cell; // Stores the cell at its board index.
+                getGameField().add(cell.getButton(), col, row); // Adds the cell's button to the grid layout.
+            }
+        }
+
+        if (board.getRows() > maxUnscrolledRows || board.getColumns() > maxUnscrolledColumns)
+        {
+            ScrollPane scrollPane = new ScrollPane(getGameField()); // Allows scrolling across large fields.
+            scrollPane.setPannable(true); // Allows dragging the field with the mouse.
+            VBox.setVgrow(scrollPane, Priority.ALWAYS); // Lets the scroll pane take the remaining height.
+            setNode(scrollPane);
+        } else
+        {
+            setNode(getGameField()); // Smaller fields fit the window.
+        }
+    }
+
+    /**
+     * Creates the heatmap tints for evenly spaced mine probabilities.
+     * <p>
+     * A {@link Lighting} with a colored light straight from the front and a flat surface multiplies every pixel of
+     * the button with the light's color, tinting background, text and icon alike without knowing the button's size.
+     *
+     * @param steps The number of steps between a probability of zero and one.
+     * @return The tints, indexed by the rounded probability times {@code steps}.
+     */
+    private static Lighting[] createHeatEffects(int steps)
+    {
+        Lighting[] effects = new Lighting[steps + 1];
+        for (int i = 0; i <= steps; i++)
+        {
+            Light.Distant light = new Light.Distant(0, 90, CellPalette.getHeatColor((double) i / steps));
+            Lighting lighting = new Lighting(light);
+            lighting.setSurfaceScale(0); // Keeps the surface flat, so every pixel is lit the same.
+            lighting.setSpecularConstant(0); // Avoids highlights.
+            lighting.setDiffuseConstant(1);
+            effects[i] = lighting;
+        }
+        return effects;
+    }
+
+    /**
+     * Initializes the {@link GridPane} layout for the game field.
+     * <p>
+     * This method creates a new {@code GridPane}, centers its alignment, applies styles,
+     * and configures column and row constraints to ensure all cells are evenly distributed.
+     *
+     * @param rows    The number of rows in the game field.
+     * @param columns The number of columns in the game field.
+     */
+    private void initializeGameFieldGridPane(int rows, int columns)
+    {
+        setGameField(new GridPane()); // Creates a new GridPane for the game field.
+        getGameField().setAlignment(Pos.CENTER); // Centers the grid within its container.
+        getGameField().getStyleClass().add("game-field"); // Applies a style class to the grid.
+
+        double gap = 0; // Sets the horizontal and vertical gaps between cells.
+        getGameField().setHgap(gap); // Sets the horizontal gap between cells.
+        getGameField().setVgap(gap); // Sets the vertical gap between cells.
+
+        // Configures column constraints to evenly distribute the columns.
+        for (int i = 0; i < columns; i++)
+        {
+            ColumnConstraints colConstraints = new ColumnConstraints();
+            colConstraints.setPercentWidth(100d / columns); // Ensures columns are evenly sized.
+            getGameField().getColumnConstraints().add(colConstraints); // Adds the column constraints to the grid.
+        }
+
+        // Configures row constraints to evenly distribute the rows.
+        for (int i = 0; i < rows; i++)
+        {
+            RowConstraints rowConstraints = new RowConstraints();
+            rowConstraints.setPercentHeight(100d / rows); // Ensures rows are evenly sized.
+            getGameField().getRowConstraints().add(rowConstraints); // Adds the row constraints to the grid.
+        }
+    }
+
+    /**
+     * Updates the button of the specified cell to match its state on the board.
+     *
+     * @param index The board index of the cell.
+     * @return The number of button properties and style classes that changed.
+     */
+    @Override
+    public int refresh(int index)
+    {
+        return getCells()[index].refresh(); // Updates the button to match the board state.
+    }
+
+    /**
+     * Updates the buttons of all cells to match the board.
+     */
+    @Override
+    public void refreshAll()
+    {
+        for (Cell cell : getCells())
+        {
+            if (cell != null) // Skips the sentinels.
+            {
+                cell.refresh();
+            }
+        }
+    }
+
+    /**
+     * Updates the existing buttons to show the reset board. Every button is re-enabled and loses the
+     * pseudo-classes, text and icon of the previous game, so no node has to be recreated. The cells read the
+     * board from the {@link GameController}, so they follow a new board without being told.
+     *
+     * @param board The {@link Board} of the new game.
+     */
+    @Override
+    public void reset(Board board)
+    {
+        refreshAll();
+    }
+
+    /**
+     * Shows the bomb icon on the button of an unflagged bomb after the game was lost.
+     *
+     * @param index The board index of the bomb.
+     */
+    @Override
+    public void showBomb(int index)
+    {
+        getCells()[index].silentBombReveal(false); // Shows the bomb without the explosion highlight.
+    }
+
+    /**
+     * Shows the "false-flag" icon on a wrongly flagged cell and styles it as revealed.
+     *
+     * @param index The board index of the wrongly flagged cell.
+     */
+    @Override
+    public void showFalseFlag(int index)
+    {
+        getCells()[index].showFalseFlag(); // Shows the "false-flag" icon on a revealed background.
+    }
+
+    /**
+     * Disables the buttons of all cells.
+     */
+    @Override
+    public void disableCells()
+    {
+        for (Cell cell : getCells())
+        {
+            if (cell != null) // Skips the sentinels.
+            {
+                cell.getButton().setDisable(true); // Disables all cells on the game board.
+            }
+        }
+    }
+
+    /**
+     * Tints the buttons of the unrevealed cells by their mine probability, or removes the tints.
+     *
+     * @param probabilities The probabilities indexed like the board, or {@code null} to hide the heatmap.
+     */
+    @Override
+    public void showProbabilities(double[] probabilities)
+    {
+        for (Cell cell : getCells())
+        {
+            if (cell != null) // Skips the sentinels.
+            {
+                double probability = probabilities == null ? -1 : probabilities[cell.getIndex()];
+                cell.getButton().setEffect(probability < 0
+                        ? null
+                        : heatEffects[(int) Math.round(probability * (heatEffects.length - 1))]);
+            }
+        }
+    }
+
+    /**
+     * Gets the node placed in the window.
+     *
+     * @return The grid, or a {@link ScrollPane} containing it for large boards.
+     */
+    @Override
+    public Region getNode()
+    {
+        return node;
+    }
+
+    /**
+     * Sets the node placed in the window.
+     *
+     * @param node The grid, or a {@link ScrollPane} containing it.
+     */
+    private void setNode(Region node)
+    {
+        this.node = node;
+    }
+
+    /**
+     * Gets the {@link GridPane} holding the cell buttons.
+     *
+     * @return The game field as a {@link GridPane}.
+     */
+    public GridPane getGameField()
+    {
+        return gameField;
+    }
+
+    /**
+     * Sets the {@link GridPane} holding the cell buttons.
+     *
+     * @param gameField The game field to set.
+     */
+    private void setGameField(GridPane gameField)
+    {
+        this.gameField = gameField;
+    }
+
+    /**
+     * Gets all {@link Cell} objects in the game field.
+     *
+     * @return The {@link Cell} objects, indexed like the {@link Board}, with {@code null} at sentinels.
+     */
+    public Cell[] getCells()
+    {
+        return cells;
+    }
+
+    /**
+     * Sets all {@link Cell} objects in the game field.
+     *
+     * @param cells The {@link Cell} objects to set, indexed like the {@link Board}.
+     */
+    private void setCells(Cell[] cells)
+    {
+        this.cells = cells;
+    }
+}
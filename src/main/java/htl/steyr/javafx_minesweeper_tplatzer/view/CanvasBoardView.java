@@ -0,0 +1,894 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.controller.GameController;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+/**
+ * Displays the board on a single {@link Canvas} that is only as large as the visible viewport.
+ * <p>
+ * Only the cells inside the viewport are drawn, and a change to one cell redraws just that cell, so the cost
+ * of rendering does not depend on the size of the board. Every cell is drawn with a single {@code drawImage}
+ * that copies the tile of its state from the style's {@link CellAtlas}. Scroll bars and dragging with the mouse move
+ * the viewport across boards that are larger than the window, and the mouse wheel zooms in and out around the cursor.
+ * <p>
+ * When the cells become smaller than {@link #MIN_DETAIL_CELL_SIZE}, digits and icons are no longer readable. The view
+ * then draws every visible cell as one pixel of its tile's average color into an image that is scaled up in a single
+ * {@code drawImage}, so a frame costs the same at any zoom level, even when millions of cells are visible. Mouse
+ * coordinates are mapped back to board indices and forwarded to the {@link GameController}.
+ */
+public class CanvasBoardView extends Region implements BoardView
+{
+    /**
+     * The cell sizes the view can zoom to, in pixels.
+     */
+    private static final double[] ZOOM_LEVELS = {1, 2, 3, 4, 6, 8, 12, 16, 24, 32, 45, 64, 90};
+
+    /**
+     * The zoom level a new view starts with; 45 pixels match the size of the cell buttons.
+     */
+    private static final int DEFAULT_ZOOM_LEVEL = 10;
+
+    /**
+     * The smallest cell size, in pixels, at which cells are drawn with their digits and icons.
+     */
+    private static final double MIN_DETAIL_CELL_SIZE = 12;
+
+    /**
+     * Marker for cells without an end-of-game overlay.
+     */
+    private static final byte NO_OVERLAY = 0;
+
+    /**
+     * Marker for unflagged bombs shown after the game was lost.
+     */
+    private static final byte BOMB_OVERLAY = 1;
+
+    /**
+     * Marker for flags that were placed on cells without a bomb.
+     */
+    private static final byte FALSE_FLAG_OVERLAY = 2;
+
+    /**
+     * The canvas the visible cells are drawn on.
+     */
+    private final Canvas canvas = new Canvas();
+
+    /**
+     * Scroll bar moving the viewport horizontally.
+     */
+    private final ScrollBar horizontalScrollBar = new ScrollBar();
+
+    /**
+     * Scroll bar moving the viewport vertically.
+     */
+    private final ScrollBar verticalScrollBar = new ScrollBar();
+
+    /**
+     * The {@link GameController} receiving the player's clicks.
+     */
+    private final GameController gameController;
+
+    /**
+     * The {@link Board} being displayed.
+     */
+    private Board board;
+
+    /**
+     * The visual style of the game (e.g., "retro", "modern").
+     */
+    private final String gameStyle;
+
+    /**
+     * The pre-rendered tiles of every cell state in the current style and zoom level.
+     */
+    private CellAtlas atlas;
+
+    /**
+     * The index of the current cell size in {@link #ZOOM_LEVELS}.
+     */
+    private int zoomLevel;
+
+    /**
+     * The image holding one pixel per visible cell while zoomed out, or {@code null} until first needed.
+     */
+    private WritableImage overview;
+
+    /**
+     * The pixels written into {@link #overview} on every redraw while zoomed out.
+     */
+    private int[] overviewPixels;
+
+    /**
+     * The scene position where the current mouse drag started.
+     */
+    private Point2D dragAnchor;
+
+    /**
+     * The scroll bar values when the current mouse drag started.
+     */
+    private Point2D dragStartScroll;
+
+    /**
+     * End-of-game overlays per cell, or {@code null} while the game is running.
+     */
+    private byte[] overlays;
+
+    /**
+     * The mine probability of each cell shown as a heatmap, or {@code null} while the heatmap is hidden.
+     */
+    private double[] probabilities;
+
+    /**
+     * Indicates whether clicks on cells are ignored.
+     */
+    private boolean cellsDisabled;
+
+
+    /**
+     * Constructs a new {@code CanvasBoardView} for the specified board.
+     *
+     * @param gameController The {@link GameController} receiving the player's clicks.
+     * @param board          The {@link Board} to display.
+     * @param style          The visual style of the game (e.g., "retro", "modern").
+     */
+    public CanvasBoardView(GameController gameController, Board board, String style)
+    {
+        this.gameController = gameController;
+        this.board = board;
+        this.gameStyle = style;
+        setZoomLevel(DEFAULT_ZOOM_LEVEL); // Renders the tiles once per style and cell size.
+
+        getStyleClass().add("game-field"); // Uses the same frame as the button grid.
+        VBox.setVgrow(this, Priority.ALWAYS); // Lets the board take the remaining height of the window.
+
+        getVerticalScrollBar().setOrientation(Orientation.VERTICAL);
+        getHorizontalScrollBar().valueProperty().addListener((observable, oldValue, newValue) -> requestLayout()); // Redraws once per pulse after scrolling.
+        getVerticalScrollBar().valueProperty().addListener((observable, oldValue, newValue) -> requestLayout());
+
+        getCanvas().setOnMousePressed(event ->
+        {
+            startDrag(event); // Remembers where a drag to move the viewport would start.
+            if (!isCellsDisabled()) getGameController().cellPressed(event); // Shows the nervous face while a button is held.
+        });
+        getCanvas().setOnMouseDragged(this::handleDrag); // Moves the viewport with the mouse.
+        getCanvas().setOnMouseReleased(event ->
+        {
+            if (!isCellsDisabled()) getGameController().cellReleased(event); // Restores the neutral face on release.
+        });
+        getCanvas().setOnMouseClicked(this::handleClick); // Forwards clicks to the controller.
+        getCanvas().setOnScroll(this::handleScroll); // Zooms with the mouse wheel.
+
+        getChildren().addAll(getCanvas(), getHorizontalScrollBar(), getVerticalScrollBar());
+    }
+
+    /**
+     * Forwards a click on the canvas to the controller as a click on the cell below the mouse.
+     *
+     * @param event The mouse click.
+     */
+    private void handleClick(MouseEvent event)
+    {
+        if (isCellsDisabled() || !event.isStillSincePress())
+        {
+            return; // Ignores clicks after the game ended and drags.
+        }
+
+        int column = (int) ((event.getX() + getHorizontalScrollBar().getValue()) / getCellSize());
+        int row = (int) ((event.getY() + getVerticalScrollBar().getValue()) / getCellSize());
+        if (getBoard().isInBounds(row, column))
+        {
+            getGameController().handleCellClick(getBoard().index(row, column), event.getButton());
+        }
+    }
+
+    /**
+     * Zooms in or out by one level when the mouse wheel is turned, keeping the cell below the cursor in place.
+     * Horizontal scrolling, e.g. on a touchpad, moves the viewport instead.
+     *
+     * @param event The scroll event.
+     */
+    private void handleScroll(ScrollEvent event)
+    {
+        if (event.getDeltaY() != 0)
+        {
+            zoom(getZoomLevel() + (event.getDeltaY() > 0 ? 1 : -1), event.getX(), event.getY());
+        } else
+        {
+            scrollTo(getHorizontalScrollBar(), getHorizontalScrollBar().getValue() - event.getDeltaX());
+        }
+        event.consume();
+    }
+
+    /**
+     * Remembers the mouse and viewport position at the start of a possible drag.
+     *
+     * @param event The mouse press.
+     */
+    private void startDrag(MouseEvent event)
+    {
+        setDragAnchor(new Point2D(event.getSceneX(), event.getSceneY()));
+        setDragStartScroll(new Point2D(getHorizontalScrollBar().getValue(), getVerticalScrollBar().getValue()));
+    }
+
+    /**
+     * Moves the viewport so the board follows the mouse while it is dragged.
+     *
+     * @param event The mouse drag.
+     */
+    private void handleDrag(MouseEvent event)
+    {
+        scrollTo(getHorizontalScrollBar(), getDragStartScroll().getX() - (event.getSceneX() - getDragAnchor().getX()));
+        scrollTo(getVerticalScrollBar(), getDragStartScroll().getY() - (event.getSceneY() - getDragAnchor().getY()));
+    }
+
+    /**
+     * Zooms to the specified level, keeping the board position below the anchor in place.
+     *
+     * @param zoomLevel The new index in {@link #ZOOM_LEVELS}; values outside the range are clamped.
+     * @param anchorX   The horizontal anchor on the canvas, in pixels.
+     * @param anchorY   The vertical anchor on the canvas, in pixels.
+     */
+    public void zoom(int zoomLevel, double anchorX, double anchorY)
+    {
+        int level = Math.clamp(zoomLevel, 0, ZOOM_LEVELS.length - 1);
+        if (level == getZoomLevel())
+        {
+            return;
+        }
+
+        // The board position below the anchor, in cells.
+        double column = (anchorX + getHorizontalScrollBar().getValue()) / getCellSize();
+        double row = (anchorY + getVerticalScrollBar().getValue()) / getCellSize();
+
+        setZoomLevel(level);
+        layoutViewport(); // Adjusts the scroll ranges to the new board size before moving the viewport.
+        scrollTo(getHorizontalScrollBar(), column * getCellSize() - anchorX);
+        scrollTo(getVerticalScrollBar(), row * getCellSize() - anchorY);
+        requestLayout(); // Redraws once in this pulse; the preferred size has changed as well.
+    }
+
+    /**
+     * Moves a scroll bar to the specified value, staying within its range.
+     *
+     * @param scrollBar The scroll bar to move.
+     * @param value     The new value in pixels.
+     */
+    private void scrollTo(ScrollBar scrollBar, double value)
+    {
+        scrollBar.setValue(Math.clamp(value, scrollBar.getMin(), scrollBar.getMax()));
+    }
+
+    /**
+     * Sizes the canvas to the visible area, shows the scroll bars the board needs and redraws the cells.
+     * <p>
+     * Scrolling, zooming and cell changes at low zoom request a layout instead of drawing right away,
+     * so the viewport is redrawn at most once per pulse.
+     */
+    @Override
+    protected void layoutChildren()
+    {
+        layoutViewport();
+        redraw();
+    }
+
+    /**
+     * Sizes the canvas to the visible area and shows the scroll bars the board needs. A board smaller than the
+     * viewport is centered.
+     */
+    private void layoutViewport()
+    {
+        double x = snappedLeftInset();
+        double y = snappedTopInset();
+        double width = getWidth() - x - snappedRightInset();
+        double height = getHeight() - y - snappedBottomInset();
+        double contentWidth = getBoard().getColumns() * getCellSize();
+        double contentHeight = getBoard().getRows() * getCellSize();
+        double barWidth = getVerticalScrollBar().prefWidth(-1);
+        double barHeight = getHorizontalScrollBar().prefHeight(-1);
+
+        // A visible scroll bar takes space from the other direction, which may make that one necessary as well.
+        boolean horizontal = contentWidth > width;
+        boolean vertical = contentHeight > (horizontal ? height - barHeight : height);
+        horizontal = contentWidth > (vertical ? width - barWidth : width);
+
+        double viewportWidth = Math.max(0, vertical ? width - barWidth : width);
+        double viewportHeight = Math.max(0, horizontal ? height - barHeight : height);
+
+        getCanvas().setWidth(Math.min(viewportWidth, contentWidth));
+        getCanvas().setHeight(Math.min(viewportHeight, contentHeight));
+        getCanvas().relocate(x + (viewportWidth - getCanvas().getWidth()) / 2, y + (viewportHeight - getCanvas().getHeight()) / 2);
+
+        configureScrollBar(getHorizontalScrollBar(), horizontal, contentWidth, viewportWidth);
+        getHorizontalScrollBar().resizeRelocate(x, y + viewportHeight, viewportWidth, barHeight);
+        configureScrollBar(getVerticalScrollBar(), vertical, contentHeight, viewportHeight);
+        getVerticalScrollBar().resizeRelocate(x + viewportWidth, y, barWidth, viewportHeight);
+    }
+
+    /**
+     * Shows or hides a scroll bar and adjusts its range to the board and viewport size.
+     *
+     * @param scrollBar The scroll bar to configure.
+     * @param visible   {@code true} if the board does not fit the viewport in this direction.
+     * @param content   The size of the board in this direction, in pixels.
+     * @param viewport  The size of the viewport in this direction, in pixels.
+     */
+    private void configureScrollBar(ScrollBar scrollBar, boolean visible, double content, double viewport)
+    {
+        scrollBar.setVisible(visible);
+        scrollBar.setMax(visible ? content - viewport : 0);
+        scrollBar.setVisibleAmount(viewport);
+        scrollBar.setUnitIncrement(getCellSize());
+        scrollBar.setBlockIncrement(viewport);
+        scrollBar.setValue(Math.min(scrollBar.getValue(), scrollBar.getMax()));
+    }
+
+    /**
+     * Computes the preferred width, which shows the whole board if it fits.
+     *
+     * @param height The height the width is computed for.
+     * @return The width of the board plus the insets.
+     */
+    @Override
+    protected double computePrefWidth(double height)
+    {
+        return snappedLeftInset() + getBoard().getColumns() * getCellSize() + snappedRightInset();
+    }
+
+    /**
+     * Computes the preferred height, which shows the whole board if it fits.
+     *
+     * @param width The width the height is computed for.
+     * @return The height of the board plus the insets.
+     */
+    @Override
+    protected double computePrefHeight(double width)
+    {
+        return snappedTopInset() + getBoard().getRows() * getCellSize() + snappedBottomInset();
+    }
+
+    /**
+     * Computes the minimum width, which allows the board to shrink to a single cell and scroll.
+     *
+     * @param height The height the width is computed for.
+     * @return The width of one cell plus the insets.
+     */
+    @Override
+    protected double computeMinWidth(double height)
+    {
+        return snappedLeftInset() + getCellSize() + snappedRightInset();
+    }
+
+    /**
+     * Computes the minimum height, which allows the board to shrink to a single cell and scroll.
+     *
+     * @param width The width the height is computed for.
+     * @return The height of one cell plus the insets.
+     */
+    @Override
+    protected double computeMinHeight(double width)
+    {
+        return snappedTopInset() + getCellSize() + snappedBottomInset();
+    }
+
+    /**
+     * Redraws all cells inside the viewport, with full detail or as colored pixels depending on the zoom level.
+     */
+    private void redraw()
+    {
+        GraphicsContext graphics = getCanvas().getGraphicsContext2D();
+        graphics.clearRect(0, 0, getCanvas().getWidth(), getCanvas().getHeight());
+
+        int firstColumn = (int) (getHorizontalScrollBar().getValue() / getCellSize());
+        int firstRow = (int) (getVerticalScrollBar().getValue() / getCellSize());
+        int lastColumn = Math.min(getBoard().getColumns() - 1, (int) ((getHorizontalScrollBar().getValue() + getCanvas().getWidth()) / getCellSize()));
+        int lastRow = Math.min(getBoard().getRows() - 1, (int) ((getVerticalScrollBar().getValue() + getCanvas().getHeight()) / getCellSize()));
+
+        if (!isDetailed())
+        {
+            drawOverview(graphics, firstRow, firstColumn, lastRow, lastColumn);
+            return;
+        }
+
+        for (int row = firstRow; row <= lastRow; row++)
+        {
+            for (int column = firstColumn; column <= lastColumn; column++)
+            {
+                drawCell(graphics, row, column);
+            }
+        }
+    }
+
+    /**
+     * Draws the visible cells as solid colors: one pixel per cell is written into the overview image,
+     * which is then scaled to the cell size in a single draw call.
+     *
+     * @param graphics    The graphics context of the canvas.
+     * @param firstRow    The first visible row.
+     * @param firstColumn The first visible column.
+     * @param lastRow     The last visible row.
+     * @param lastColumn  The last visible column.
+     */
+    private void drawOverview(GraphicsContext graphics, int firstRow, int firstColumn, int lastRow, int lastColumn)
+    {
+        int columns = lastColumn - firstColumn + 1;
+        int rows = lastRow - firstRow + 1;
+        if (columns <= 0 || rows <= 0)
+        {
+            return; // Nothing is visible.
+        }
+
+        if (getOverviewPixels() == null || getOverviewPixels().length < columns * rows)
+        {
+            setOverviewPixels(new int[columns * rows]); // Grows with the viewport and is reused afterwards.
+        }
+        if (getOverview() == null || getOverview().getWidth() < columns || getOverview().getHeight() < rows)
+        {
+            setOverview(new WritableImage(columns, rows));
+        }
+
+        int[] pixels = getOverviewPixels();
+        int pixel = 0;
+        for (int row = firstRow; row <= lastRow; row++)
+        {
+            int index = getBoard().index(row, firstColumn); // The cells of a row are stored next to each other.
+            for (int column = 0; column < columns; column++)
+            {
+                pixels[pixel++] = getAtlas().getAverageColor(tileOf(index + column));
+            }
+        }
+        getOverview().getPixelWriter().setPixels(0, 0, columns, rows, PixelFormat.getIntArgbInstance(), pixels, 0, columns);
+
+        graphics.setImageSmoothing(false); // Keeps the cell edges sharp when the pixels are scaled up.
+        graphics.drawImage(getOverview(), 0, 0, columns, rows,
+                firstColumn * getCellSize() - getHorizontalScrollBar().getValue(),
+                firstRow * getCellSize() - getVerticalScrollBar().getValue(),
+                columns * getCellSize(), rows * getCellSize());
+        graphics.setImageSmoothing(true);
+    }
+
+    /**
+     * Draws a single cell at its position relative to the viewport by copying its tile from the {@link CellAtlas}.
+     * <p>
+     * While the heatmap is shown, unrevealed cells are multiplied with the tint of their mine probability.
+     *
+     * @param graphics The graphics context of the canvas.
+     * @param row      The row of the cell.
+     * @param column   The column of the cell.
+     */
+    private void drawCell(GraphicsContext graphics, int row, int column)
+    {
+        double x = column * getCellSize() - getHorizontalScrollBar().getValue();
+        double y = row * getCellSize() - getVerticalScrollBar().getValue();
+        int index = getBoard().index(row, column);
+
+        getAtlas().draw(graphics, tileOf(index), x, y);
+
+        if (getProbabilities() != null && getProbabilities()[index] >= 0 && !getBoard().isRevealed(index))
+        {
+            graphics.setGlobalBlendMode(BlendMode.MULTIPLY); // Tints the tile like the lighting of the cell buttons.
+            graphics.setFill(CellPalette.getHeatColor(getProbabilities()[index]));
+            graphics.fillRect(x, y, getCellSize(), getCellSize());
+            graphics.setGlobalBlendMode(BlendMode.SRC_OVER);
+        }
+    }
+
+    /**
+     * Returns the atlas tile showing a cell, including its end-of-game overlay.
+     *
+     * @param index The board index of the cell.
+     * @return The tile of the cell.
+     */
+    private int tileOf(int index)
+    {
+        byte overlay = getOverlays() == null ? NO_OVERLAY : getOverlays()[index];
+
+        return switch (overlay)
+        {
+            case FALSE_FLAG_OVERLAY -> CellAtlas.FALSE_FLAG; // Marks the wrongly placed flag.
+            case BOMB_OVERLAY -> CellAtlas.BOMB; // Shows the bomb without the explosion highlight.
+            default -> CellAtlas.tileFor(getBoard().getState(index));
+        };
+    }
+
+    /**
+     * Redraws the specified cell if it is inside the viewport.
+     * <p>
+     * At low zoom the whole overview is redrawn once in the next layout pass instead, as a single image
+     * is cheaper than one draw call per changed cell.
+     *
+     * @param index The board index of the cell.
+     * @return Always zero, as drawing on the canvas does not mutate any nodes.
+     */
+    @Override
+    public int refresh(int index)
+    {
+        int row = getBoard().getRow(index);
+        int column = getBoard().getColumn(index);
+        double x = column * getCellSize() - getHorizontalScrollBar().getValue();
+        double y = row * getCellSize() - getVerticalScrollBar().getValue();
+
+        if (x + getCellSize() > 0 && y + getCellSize() > 0 && x < getCanvas().getWidth() && y < getCanvas().getHeight())
+        {
+            if (isDetailed())
+            {
+                drawCell(getCanvas().getGraphicsContext2D(), row, column); // Cells outside the viewport are drawn when scrolled in.
+            } else
+            {
+                requestLayout(); // Redraws the overview once, however many cells changed.
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Redraws all cells inside the viewport.
+     */
+    @Override
+    public void refreshAll()
+    {
+        redraw();
+    }
+
+    /**
+     * Drops the end-of-game overlays, accepts clicks again and redraws the board of the new game.
+     *
+     * @param board The {@link Board} of the new game.
+     */
+    @Override
+    public void reset(Board board)
+    {
+        setBoard(board);
+        setOverlays(null);
+        setCellsDisabled(false);
+        redraw();
+    }
+
+    /**
+     * Shows an unflagged bomb after the game was lost.
+     *
+     * @param index The board index of the bomb.
+     */
+    @Override
+    public void showBomb(int index)
+    {
+        setOverlay(index, BOMB_OVERLAY);
+    }
+
+    /**
+     * Marks a flag that was placed on a cell without a bomb.
+     *
+     * @param index The board index of the wrongly flagged cell.
+     */
+    @Override
+    public void showFalseFlag(int index)
+    {
+        setOverlay(index, FALSE_FLAG_OVERLAY);
+    }
+
+    /**
+     * Stores an end-of-game overlay for a cell and redraws it.
+     *
+     * @param index   The board index of the cell.
+     * @param overlay The overlay to show.
+     */
+    private void setOverlay(int index, byte overlay)
+    {
+        if (getOverlays() == null)
+        {
+            setOverlays(new byte[getBoard().getIndexLimit()]); // Allocated only once the game has ended.
+        }
+        getOverlays()[index] = overlay;
+        refresh(index);
+    }
+
+    /**
+     * Tints the unrevealed cells by their mine probability, or removes the tints, and redraws the viewport.
+     * <p>
+     * The probabilities are only stored; cells outside the viewport pick them up when they are scrolled into view,
+     * so the cost does not depend on the size of the board. The zoomed-out overview shows no heatmap.
+     *
+     * @param probabilities The probabilities indexed like the board, or {@code null} to hide the heatmap.
+     */
+    @Override
+    public void showProbabilities(double[] probabilities)
+    {
+        setProbabilities(probabilities);
+        redraw(); // Draws only the visible cells.
+    }
+
+    /**
+     * Ignores further clicks on cells. Scrolling stays possible so the player can inspect the board.
+     */
+    @Override
+    public void disableCells()
+    {
+        setCellsDisabled(true);
+    }
+
+    /**
+     * Gets the node placed in the window.
+     *
+     * @return This view.
+     */
+    @Override
+    public Region getNode()
+    {
+        return this;
+    }
+
+    /**
+     * Gets the canvas the visible cells are drawn on.
+     *
+     * @return The {@link Canvas}.
+     */
+    public Canvas getCanvas()
+    {
+        return canvas;
+    }
+
+    /**
+     * Gets the scroll bar moving the viewport horizontally.
+     *
+     * @return The horizontal {@link ScrollBar}.
+     */
+    public ScrollBar getHorizontalScrollBar()
+    {
+        return horizontalScrollBar;
+    }
+
+    /**
+     * Gets the scroll bar moving the viewport vertically.
+     *
+     * @return The vertical {@link ScrollBar}.
+     */
+    public ScrollBar getVerticalScrollBar()
+    {
+        return verticalScrollBar;
+    }
+
+    /**
+     * Gets the {@link GameController} receiving the player's clicks.
+     *
+     * @return The game controller.
+     */
+    public GameController getGameController()
+    {
+        return gameController;
+    }
+
+    /**
+     * Gets the {@link Board} being displayed.
+     *
+     * @return The board.
+     */
+    public Board getBoard()
+    {
+        return board;
+    }
+
+    /**
+     * Sets the {@link Board} being displayed.
+     *
+     * @param board The board to set.
+     */
+    private void setBoard(Board board)
+    {
+        this.board = board;
+    }
+
+    /**
+     * Gets the pre-rendered tiles of the current style and zoom level.
+     *
+     * @return The {@link CellAtlas}.
+     */
+    public CellAtlas getAtlas()
+    {
+        return atlas;
+    }
+
+    /**
+     * Gets the visual style of the game. Named apart from {@link #getStyle()}, which holds the inline CSS of the node.
+     *
+     * @return The style (e.g., "retro", "modern").
+     */
+    public String getGameStyle()
+    {
+        return gameStyle;
+    }
+
+    /**
+     * Gets the index of the current cell size in the zoom levels.
+     *
+     * @return The zoom level.
+     */
+    public int getZoomLevel()
+    {
+        return zoomLevel;
+    }
+
+    /**
+     * Sets the zoom level and picks the atlas for its cell size. Zoomed-out views use the atlas of the
+     * default cell size only for its average colors.
+     *
+     * @param zoomLevel The index in the zoom levels.
+     */
+    private void setZoomLevel(int zoomLevel)
+    {
+        this.zoomLevel = zoomLevel;
+        this.atlas = CellAtlas.forStyle(getGameStyle(), isDetailed() ? getCellSize() : ZOOM_LEVELS[DEFAULT_ZOOM_LEVEL]);
+    }
+
+    /**
+     * Gets the width and height of a cell at the current zoom level.
+     *
+     * @return The cell size, in pixels.
+     */
+    public double getCellSize()
+    {
+        return ZOOM_LEVELS[getZoomLevel()];
+    }
+
+    /**
+     * Checks whether cells are large enough to be drawn with their digits and icons.
+     *
+     * @return {@code true} at the detailed zoom levels, {@code false} when cells are drawn as solid colors.
+     */
+    public boolean isDetailed()
+    {
+        return getCellSize() >= MIN_DETAIL_CELL_SIZE;
+    }
+
+    /**
+     * Gets the image holding one pixel per visible cell while zoomed out.
+     *
+     * @return The overview image, or {@code null} if it was not needed yet.
+     */
+    private WritableImage getOverview()
+    {
+        return overview;
+    }
+
+    /**
+     * Sets the image holding one pixel per visible cell while zoomed out.
+     *
+     * @param overview The overview image.
+     */
+    private void setOverview(WritableImage overview)
+    {
+        this.overview = overview;
+    }
+
+    /**
+     * Gets the pixel buffer of the overview image.
+     *
+     * @return The pixels, or {@code null} if they were not needed yet.
+     */
+    private int[] getOverviewPixels()
+    {
+        return overviewPixels;
+    }
+
+    /**
+     * Sets the pixel buffer of the overview image.
+     *
+     * @param overviewPixels The pixels.
+     */
+    private void setOverviewPixels(int[] overviewPixels)
+    {
+        this.overviewPixels = overviewPixels;
+    }
+
+    /**
+     * Gets the scene position where the current mouse drag started.
+     *
+     * @return The drag anchor.
+     */
+    private Point2D getDragAnchor()
+    {
+        return dragAnchor;
+    }
+
+    /**
+     * Sets the scene position where the current mouse drag started.
+     *
+     * @param dragAnchor The drag anchor.
+     */
+    private void setDragAnchor(Point2D dragAnchor)
+    {
+        this.dragAnchor = dragAnchor;
+    }
+
+    /**
+     * Gets the scroll bar values when the current mouse drag started.
+     *
+     * @return The horizontal and vertical scroll values.
+     */
+    private Point2D getDragStartScroll()
+    {
+        return dragStartScroll;
+    }
+
+    /**
+     * Sets the scroll bar values when the current mouse drag started.
+     *
+     * @param dragStartScroll The horizontal and vertical scroll values.
+     */
+    private void setDragStartScroll(Point2D dragStartScroll)
+    {
+        this.dragStartScroll = dragStartScroll;
+    }
+
+    /**
+     * Gets the end-of-game overlays per cell.
+     *
+     * @return The overlays, or {@code null} while the game is running.
+     */
+    private byte[] getOverlays()
+    {
+        return overlays;
+    }
+
+    /**
+     * Sets the end-of-game overlays per cell.
+     *
+     * @param overlays The overlays to set.
+     */
+    private void setOverlays(byte[] overlays)
+    {
+        this.overlays = overlays;
+    }
+
+    /**
+     * Gets the mine probabilities shown as a heatmap.
+     *
+     * @return The probabilities indexed like the board, or {@code null} while the heatmap is hidden.
+     */
+    private double[] getProbabilities()
+    {
+        return probabilities;
+    }
+
+    /**
+     * Sets the mine probabilities shown as a heatmap.
+     *
+     * @param probabilities The probabilities indexed like the board, or {@code null} to hide the heatmap.
+     */
+    private void setProbabilities(double[] probabilities)
+    {
+        this.probabilities = probabilities;
+    }
+
+    /**
+     * Checks whether clicks on cells are ignored.
+     *
+     * @return {@code true} if cells are disabled, {@code false} otherwise.
+     */
+    public boolean isCellsDisabled()
+    {
+        return cellsDisabled;
+    }
+
+    /**
+     * Sets whether clicks on cells are ignored.
+     *
+     * @param cellsDisabled {@code true} to ignore clicks, {@code false} to forward them.
+     */
+    public void setCellsDisabled(boolean cellsDisabled)
+    {
+        this.cellsDisabled = cellsDisabled;
+    }
+}
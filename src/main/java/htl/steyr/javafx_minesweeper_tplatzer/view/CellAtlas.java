@@ -0,0 +1,353 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A texture atlas holding one pre-rendered tile for every visual state a cell can have in a style.
+ * <p>
+ * The tiles are drawn once from the {@link CellPalette} and the {@link IconCache} and stored side by side in a
+ * single {@link Image}. Drawing a cell is then a single {@code drawImage} call that copies its tile, without
+ * building paths, fonts or text layouts per cell. For zoomed-out boards the atlas also provides the average
+ * color of every tile, so a cell can be shown as a single pixel. Atlases are created on the JavaFX Application
+ * Thread and cached per style and tile size.
+ */
+public class CellAtlas
+{
+    /**
+     * Tile of an unrevealed cell without a marker.
+     */
+    public static final int UNREVEALED = 0;
+
+    /**
+     * Tile of an unrevealed, flagged cell.
+     */
+    public static final int FLAG = 1;
+
+    /**
+     * Tile of an unrevealed cell marked with a question mark.
+     */
+    public static final int QUESTION = 2;
+
+    /**
+     * Tile of a revealed cell without adjacent bombs. The tiles of the counts one to eight follow it,
+     * so the tile of a revealed cell is {@code REVEALED + count}.
+     */
+    public static final int REVEALED = 3;
+
+    /**
+     * Tile of the revealed bomb that ended the game.
+     */
+    public static final int EXPLODED_BOMB = REVEALED + 9;
+
+    /**
+     * Tile of an unflagged bomb shown after the game was lost.
+     */
+    public static final int BOMB = EXPLODED_BOMB + 1;
+
+    /**
+     * Tile of a flag that was placed on a cell without a bomb.
+     */
+    public static final int FALSE_FLAG = BOMB + 1;
+
+    /**
+     * The number of tiles in an atlas.
+     */
+    public static final int TILE_COUNT = FALSE_FLAG + 1;
+
+    /**
+     * The atlases created so far, keyed by style and tile size.
+     */
+    private static final Map<String, CellAtlas> atlases = new HashMap<>();
+
+    /**
+     * The image holding all tiles in a single row.
+     */
+    private final Image image;
+
+    /**
+     * The width and height of a tile, in pixels.
+     */
+    private final double tileSize;
+
+    /**
+     * The average color of every tile, as non-premultiplied ARGB.
+     */
+    private final int[] averageColors = new int[TILE_COUNT];
+
+
+    /**
+     * Constructs a new {@code CellAtlas} from a rendered image.
+     *
+     * @param image    The image holding all tiles in a single row.
+     * @param tileSize The width and height of a tile.
+     */
+    private CellAtlas(Image image, double tileSize)
+    {
+        this.image = image;
+        this.tileSize = tileSize;
+
+        for (int tile = 0; tile < TILE_COUNT; tile++)
+        {
+            averageColors[tile] = computeAverageColor(tile);
+        }
+    }
+
+    /**
+     * Gets the atlas of the specified style and tile size, rendering it on the first call.
+     *
+     * @param style    The visual style of the game (e.g., "retro", "modern").
+     * @param tileSize The width and height of a tile, in pixels.
+     * @return The cached atlas.
+     */
+    public static CellAtlas forStyle(String style, double tileSize)
+    {
+        return atlases.computeIfAbsent(style + "@" + tileSize, key -> render(style, tileSize));
+    }
+
+    /**
+     * Returns the tile showing a cell with the specified packed state during the game.
+     *
+     * @param state The packed state of the cell, see {@link Board#getState(int)}.
+     * @return The tile of the cell.
+     */
+    public static int tileFor(int state)
+    {
+        if ((state & Board.REVEALED) == 0)
+        {
+            if ((state & Board.FLAGGED) != 0)
+            {
+                return FLAG;
+            }
+            return (state & Board.QUESTIONED) != 0 ? QUESTION : UNREVEALED;
+        }
+
+        if ((state & Board.MINE) != 0)
+        {
+            return EXPLODED_BOMB; // Only the bomb that ended the game is revealed.
+        }
+        return REVEALED + (state & Board.ADJACENT_MASK);
+    }
+
+    /**
+     * Draws a tile at the specified position.
+     *
+     * @param graphics The graphics context to draw on.
+     * @param tile     The tile to draw.
+     * @param x        The left edge of the cell.
+     * @param y        The top edge of the cell.
+     */
+    public void draw(GraphicsContext graphics, int tile, double x, double y)
+    {
+        graphics.drawImage(getImage(), tile * getTileSize(), 0, getTileSize(), getTileSize(), x, y, getTileSize(), getTileSize());
+    }
+
+    /**
+     * Gets the average color of a tile, e.g. to draw a cell as a single pixel at low zoom.
+     *
+     * @param tile The tile.
+     * @return The opaque color as ARGB.
+     */
+    public int getAverageColor(int tile)
+    {
+        return averageColors[tile];
+    }
+
+    /**
+     * Averages the pixels of a tile. Transparent pixels, such as rounded corners, are ignored.
+     *
+     * @param tile The tile.
+     * @return The opaque average color as ARGB.
+     */
+    private int computeAverageColor(int tile)
+    {
+        PixelReader reader = getImage().getPixelReader();
+        int size = (int) (getImage().getWidth() / TILE_COUNT); // The tile size in image pixels.
+        long alpha = 0;
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+
+        for (int y = 0; y < size; y++)
+        {
+            for (int x = tile * size; x < (tile + 1) * size; x++)
+            {
+                int argb = reader.getArgb(x, y);
+                int a = argb >>> 24;
+                alpha += a;
+                red += a * ((argb >> 16) & 0xff); // Weights each channel by its opacity.
+                green += a * ((argb >> 8) & 0xff);
+                blue += a * (argb & 0xff);
+            }
+        }
+
+        if (alpha == 0)
+        {
+            return 0xff000000;
+        }
+        return 0xff000000 | (int) (red / alpha) << 16 | (int) (green / alpha) << 8 | (int) (blue / alpha);
+    }
+
+    /**
+     * Renders all tiles of a style into a new atlas.
+     *
+     * @param style    The visual style of the game.
+     * @param tileSize The width and height of a tile.
+     * @return The new atlas.
+     */
+    private static CellAtlas render(String style, double tileSize)
+    {
+        CellPalette palette = CellPalette.forStyle(style);
+        Map<String, Image> icons = IconCache.getIcons(style);
+        Canvas canvas = new Canvas(TILE_COUNT * tileSize, tileSize);
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+
+        for (int tile = 0; tile < TILE_COUNT; tile++)
+        {
+            double x = tile * tileSize;
+            if (tile < REVEALED)
+            {
+                drawUnrevealedBackground(graphics, palette, x, tileSize);
+            } else
+            {
+                drawRevealedBackground(graphics, palette, x, tileSize, tile == EXPLODED_BOMB);
+            }
+
+            switch (tile)
+            {
+                case FLAG -> drawIcon(graphics, icons.get("flag"), x, tileSize);
+                case QUESTION -> drawIcon(graphics, icons.get("question"), x, tileSize);
+                case EXPLODED_BOMB, BOMB -> drawIcon(graphics, icons.get("bomb"), x, tileSize);
+                case FALSE_FLAG -> drawIcon(graphics, icons.get("false-flag"), x, tileSize);
+                default ->
+                {
+                    if (tile > REVEALED) // The tiles of the counts one to eight.
+                    {
+                        drawNumber(graphics, palette, tile - REVEALED, x, tileSize);
+                    }
+                }
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT); // Keeps the rounded corners of the modern style transparent.
+
+        return new CellAtlas(canvas.snapshot(parameters, null), tileSize);
+    }
+
+    /**
+     * Draws the raised background of an unrevealed cell.
+     *
+     * @param graphics The graphics context of the atlas.
+     * @param palette  The colors of the style.
+     * @param x        The left edge of the tile.
+     * @param size     The width and height of the tile.
+     */
+    private static void drawUnrevealedBackground(GraphicsContext graphics, CellPalette palette, double x, double size)
+    {
+        double border = palette.getUnrevealedBorderWidth();
+        double arc = palette.getCornerRadius() * 2;
+
+        if (palette.getHighlight() != null)
+        {
+            // Draws a bevel: light top and left edges, dark bottom and right edges.
+            graphics.setFill(palette.getUnrevealedBorder());
+            graphics.fillRect(x, 0, size, size);
+            graphics.setFill(palette.getHighlight());
+            graphics.fillPolygon(new double[]{x, x + size, x + size - border, x + border, x + border, x},
+                    new double[]{0, 0, border, border, size - border, size}, 6);
+            graphics.setFill(palette.getUnrevealedFill());
+            graphics.fillRect(x + border, border, size - 2 * border, size - 2 * border);
+        } else
+        {
+            graphics.setFill(palette.getUnrevealedFill());
+            graphics.fillRoundRect(x, 0, size, size, arc, arc);
+            graphics.setStroke(palette.getUnrevealedBorder());
+            graphics.setLineWidth(border);
+            graphics.strokeRoundRect(x + border / 2, border / 2, size - border, size - border, arc, arc);
+        }
+    }
+
+    /**
+     * Draws the flat background of a revealed cell.
+     *
+     * @param graphics The graphics context of the atlas.
+     * @param palette  The colors of the style.
+     * @param x        The left edge of the tile.
+     * @param size     The width and height of the tile.
+     * @param exploded {@code true} to highlight the bomb that ended the game.
+     */
+    private static void drawRevealedBackground(GraphicsContext graphics, CellPalette palette, double x, double size, boolean exploded)
+    {
+        double arc = palette.getCornerRadius() * 2;
+
+        graphics.setFill(exploded ? palette.getExplodedFill() : palette.getRevealedFill());
+        graphics.fillRoundRect(x, 0, size, size, arc, arc);
+        graphics.setStroke(exploded ? palette.getExplodedBorder() : palette.getRevealedBorder());
+        graphics.setLineWidth(1);
+        graphics.strokeRoundRect(x + 0.5, 0.5, size - 1, size - 1, arc, arc);
+    }
+
+    /**
+     * Draws an icon centered in a tile, using 75% of the tile size like the cell buttons.
+     *
+     * @param graphics The graphics context of the atlas.
+     * @param icon     The icon to draw.
+     * @param x        The left edge of the tile.
+     * @param size     The width and height of the tile.
+     */
+    private static void drawIcon(GraphicsContext graphics, Image icon, double x, double size)
+    {
+        double iconSize = size * 0.75;
+        double offset = (size - iconSize) / 2;
+        graphics.drawImage(icon, x + offset, offset, iconSize, iconSize);
+    }
+
+    /**
+     * Draws the count of adjacent bombs centered in a tile.
+     *
+     * @param graphics The graphics context of the atlas.
+     * @param palette  The colors and fonts of the style.
+     * @param count    The count, between one and eight.
+     * @param x        The left edge of the tile.
+     * @param size     The width and height of the tile.
+     */
+    private static void drawNumber(GraphicsContext graphics, CellPalette palette, int count, double x, double size)
+    {
+        graphics.setFill(palette.getNumberColor(count));
+        graphics.setFont(palette.createNumberFont(size));
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.CENTER);
+        graphics.fillText(String.valueOf(count), x + size / 2, size / 2);
+    }
+
+    /**
+     * Gets the image holding all tiles.
+     *
+     * @return The atlas image.
+     */
+    public Image getImage()
+    {
+        return image;
+    }
+
+    /**
+     * Gets the width and height of a tile.
+     *
+     * @return The tile size, in pixels.
+     */
+    public double getTileSize()
+    {
+        return tileSize;
+    }
+}
@@ -0,0 +1,271 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Colors, borders and fonts used by the {@link CellAtlas} to draw the cells of the {@link CanvasBoardView}.
+ * <p>
+ * The values mirror the {@code .cell-button}, {@code .cell-button:revealed}, {@code .cell-button:exploded}
+ * and {@code .cell-button:number-N} rules of each style's {@code gameStyle.scss}, so both renderers look alike.
+ */
+public class CellPalette
+{
+    /**
+     * Fill of unrevealed cells.
+     */
+    private final Paint unrevealedFill;
+
+    /**
+     * Border color of unrevealed cells; the bottom and right edge of the bevel for styles with a highlight.
+     */
+    private final Color unrevealedBorder;
+
+    /**
+     * Top and left edge of the bevel of unrevealed cells, or {@code null} for flat borders.
+     */
+    private final Color highlight;
+
+    /**
+     * Border width of unrevealed cells, in pixels at the default cell size.
+     */
+    private final double unrevealedBorderWidth;
+
+    /**
+     * Fill of revealed cells.
+     */
+    private final Color revealedFill;
+
+    /**
+     * Border color of revealed cells.
+     */
+    private final Color revealedBorder;
+
+    /**
+     * Fill of the revealed bomb that ended the game.
+     */
+    private final Color explodedFill;
+
+    /**
+     * Border color of the revealed bomb that ended the game.
+     */
+    private final Color explodedBorder;
+
+    /**
+     * Corner radius of cells, in pixels at the default cell size.
+     */
+    private final double cornerRadius;
+
+    /**
+     * Font family of the adjacent bomb counts.
+     */
+    private final String fontFamily;
+
+    /**
+     * Text colors of the adjacent bomb counts, indexed by count (index 0 is unused).
+     */
+    private final Color[] numberColors;
+
+
+    /**
+     * Constructs a new {@code CellPalette} with the specified values.
+     *
+     * @param unrevealedFill        Fill of unrevealed cells.
+     * @param unrevealedBorder      Border color of unrevealed cells.
+     * @param highlight             Top and left bevel color, or {@code null} for flat borders.
+     * @param unrevealedBorderWidth Border width of unrevealed cells.
+     * @param revealedFill          Fill of revealed cells.
+     * @param revealedBorder        Border color of revealed cells.
+     * @param explodedFill          Fill of the exploded bomb.
+     * @param explodedBorder        Border color of the exploded bomb.
+     * @param cornerRadius          Corner radius of cells.
+     * @param fontFamily            Font family of the adjacent bomb counts.
+     * @param numberColors          Text colors for the counts one to eight.
+     */
+    private CellPalette(Paint unrevealedFill, Color unrevealedBorder, Color highlight, double unrevealedBorderWidth,
+                        Color revealedFill, Color revealedBorder, Color explodedFill, Color explodedBorder,
+                        double cornerRadius, String fontFamily, Color... numberColors)
+    {
+        this.unrevealedFill = unrevealedFill;
+        this.unrevealedBorder = unrevealedBorder;
+        this.highlight = highlight;
+        this.unrevealedBorderWidth = unrevealedBorderWidth;
+        this.revealedFill = revealedFill;
+        this.revealedBorder = revealedBorder;
+        this.explodedFill = explodedFill;
+        this.explodedBorder = explodedBorder;
+        this.cornerRadius = cornerRadius;
+        this.fontFamily = fontFamily;
+        this.numberColors = new Color[9];
+        System.arraycopy(numberColors, 0, this.numberColors, 1, 8); // Counts start at one.
+    }
+
+    /**
+     * Returns the palette for the specified visual style.
+     *
+     * @param style The visual style of the game ("retro" or "modern"). Unknown styles use the retro palette.
+     * @return The matching {@code CellPalette}.
+     */
+    public static CellPalette forStyle(String style)
+    {
+        if ("modern".equals(style))
+        {
+            return new CellPalette(
+                    new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE, new Stop(0, Color.web("#ffffff")), new Stop(1, Color.web("#e6e6e6"))),
+                    Color.web("#cccccc"), null, 2,
+                    Color.web("#e6e6e6"), Color.web("#cccccc"),
+                    Color.web("#ff6b6b"), Color.web("#cc0000"),
+                    5, "Arial",
+                    Color.web("#1e90ff"), Color.web("#32cd32"), Color.web("#ff4500"), Color.web("#00008b"),
+                    Color.web("#8b0000"), Color.web("#20b2aa"), Color.web("#000000"), Color.web("#808080"));
+        }
+
+        return new CellPalette(
+                Color.web("#c0c0c0"), Color.web("#808080"), Color.WHITE, 4,
+                Color.web("#c0c0c0"), Color.web("#808080"),
+                Color.web("#ff2400"), Color.web("#808080"),
+                0, "Courier New",
+                Color.BLUE, Color.GREEN, Color.RED, Color.DARKBLUE,
+                Color.DARKRED, Color.TEAL, Color.BLACK, Color.GRAY);
+    }
+
+    /**
+     * Gets the tint of a mine probability in the heatmap, from green for safe cells to red for certain mines.
+     * <p>
+     * The tint is multiplied with the cell, so light colors keep the cell's look recognizable underneath.
+     *
+     * @param probability The probability of the cell to contain a mine, between {@code 0} and {@code 1}.
+     * @return The opaque tint.
+     */
+    public static Color getHeatColor(double probability)
+    {
+        return Color.hsb(120 * (1 - probability), 0.6, 1);
+    }
+
+    /**
+     * Creates the font of the adjacent bomb counts for the specified cell size.
+     *
+     * @param cellSize The width and height of a cell, in pixels.
+     * @return A bold font scaled like the 15px font of 45px buttons.
+     */
+    public Font createNumberFont(double cellSize)
+    {
+        return Font.font(getFontFamily(), FontWeight.BOLD, cellSize / 3);
+    }
+
+    /**
+     * Gets the text color of an adjacent bomb count.
+     *
+     * @param count The count, between one and eight.
+     * @return The color of the count.
+     */
+    public Color getNumberColor(int count)
+    {
+        return numberColors[count];
+    }
+
+    /**
+     * Gets the fill of unrevealed cells.
+     *
+     * @return The fill of unrevealed cells.
+     */
+    public Paint getUnrevealedFill()
+    {
+        return unrevealedFill;
+    }
+
+    /**
+     * Gets the border color of unrevealed cells.
+     *
+     * @return The border color of unrevealed cells.
+     */
+    public Color getUnrevealedBorder()
+    {
+        return unrevealedBorder;
+    }
+
+    /**
+     * Gets the top and left bevel color of unrevealed cells.
+     *
+     * @return The highlight color, or {@code null} for flat borders.
+     */
+    public Color getHighlight()
+    {
+        return highlight;
+    }
+
+    /**
+     * Gets the border width of unrevealed cells.
+     *
+     * @return The border width, in pixels at the default cell size.
+     */
+    public double getUnrevealedBorderWidth()
+    {
+        return unrevealedBorderWidth;
+    }
+
+    /**
+     * Gets the fill of revealed cells.
+     *
+     * @return The fill of revealed cells.
+     */
+    public Color getRevealedFill()
+    {
+        return revealedFill;
+    }
+
+    /**
+     * Gets the border color of revealed cells.
+     *
+     * @return The border color of revealed cells.
+     */
+    public Color getRevealedBorder()
+    {
+        return revealedBorder;
+    }
+
+    /**
+     * Gets the fill of the revealed bomb that ended the game.
+     *
+     * @return The fill of the exploded bomb.
+     */
+    public Color getExplodedFill()
+    {
+        return explodedFill;
+    }
+
+    /**
+     * Gets the border color of the revealed bomb that ended the game.
+     *
+     * @return The border color of the exploded bomb.
+     */
+    public Color getExplodedBorder()
+    {
+        return explodedBorder;
+    }
+
+    /**
+     * Gets the corner radius of cells.
+     *
+     * @return The corner radius, in pixels at the default cell size.
+     */
+    public double getCornerRadius()
+    {
+        return cornerRadius;
+    }
+
+    /**
+     * Gets the font family of the adjacent bomb counts.
+     *
+     * @return The font family.
+     */
+    public String getFontFamily()
+    {
+        return fontFamily;
+    }
+}
@@ -0,0 +1,83 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.controller.GameController;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Measures how long a full CSS pass over the {@link ButtonBoardView} of a fully revealed "pro" board takes.
+ * <p>
+ * The board is built off-screen in its own {@link Scene} with the game stylesheets of the chosen style. Every run
+ * re-applies the stylesheets, which forces JavaFX to match all selectors against every cell button again, and
+ * times {@link javafx.scene.Parent#applyCss()}. The benchmark is started from the "Debug" menu and must run on the
+ * JavaFX Application Thread.
+ */
+public class CssBenchmark
+{
+    /**
+     * The number of timed CSS passes.
+     */
+    public static final int RUNS = 20;
+
+    /**
+     * The seed of the benchmark board, so every run measures the same cells.
+     */
+    private static final long SEED = 42;
+
+
+    /**
+     * Default constructor for the CssBenchmark class.
+     * <p>
+     * This constructor is not used, as the class only provides a static method.
+     */
+    private CssBenchmark()
+    {
+    }
+
+    /**
+     * Runs the benchmark for the specified style.
+     *
+     * @param style The visual style of the game (e.g., "retro", "modern").
+     * @return A one-line summary with the median and fastest pass time.
+     */
+    public static String run(String style)
+    {
+        Difficulty pro = Difficulty.of("pro");
+        Board board = new Board(pro.getRows(), pro.getColumns(), pro.getMines());
+        board.placeMines(new SplittableRandom(SEED));
+        board.revealAllUnflagged(); // Reveals every cell, including the bombs.
+
+        GameController controller = new GameController("benchmark", pro.getName(), style, true);
+        controller.setBoard(board); // The cells read their state from the controller's board.
+        ButtonBoardView view = new ButtonBoardView(controller, board, style);
+        view.refreshAll();
+
+        List<String> stylesheets = List.of(
+                Objects.requireNonNull(CssBenchmark.class.getResource("/" + style + "/style/style.css")).toExternalForm(),
+                Objects.requireNonNull(CssBenchmark.class.getResource("/" + style + "/style/gameStyle.css")).toExternalForm());
+        VBox root = new VBox(view.getNode());
+        root.getStylesheets().setAll(stylesheets);
+        new Scene(root); // CSS is only applied to nodes in a scene.
+        root.applyCss(); // Warms up the stylesheet parsing and selector caches.
+
+        long[] nanos = new long[RUNS];
+        for (int run = 0; run < RUNS; run++)
+        {
+            root.getStylesheets().setAll(stylesheets); // Invalidates the styles of every node below the root.
+            long start = System.nanoTime();
+            root.applyCss();
+            nanos[run] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(nanos);
+        return String.format("%s, fully revealed %dx%d board (%d cells): median %.2f ms, fastest %.2f ms over %d CSS passes",
+                style, pro.getRows(), pro.getColumns(), board.getSize(), nanos[RUNS / 2] / 1e6, nanos[0] / 1e6, RUNS);
+    }
+}
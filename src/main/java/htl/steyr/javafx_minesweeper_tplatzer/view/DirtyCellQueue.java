@@ -0,0 +1,490 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.ChangeSet;
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+/**
+ * Collects the cells changed by the player's input and applies them to the {@link BoardView} once per pulse.
+ * <p>
+ * Board operations only mark cells as dirty; an {@link AnimationTimer} refreshes every dirty cell exactly once
+ * right before the next frame is rendered, no matter how often it changed in between. Large cascades therefore
+ * cause a single batch of scene graph updates instead of one CSS and layout invalidation per cell. The timer
+ * only runs while cells are pending. All methods must be called on the JavaFX Application Thread.
+ * <p>
+ * Cascades can instead be queued as a ripple with {@link #markRipple(ChangeSet)}. Ripple cells are refreshed in
+ * the order they were revealed, but each pulse only spends {@link #getFrameBudgetNanos()} on them and continues
+ * in the next pulse. Since the board reveals cascades breadth-first, the cascade visibly spreads out from the
+ * clicked cell while the window keeps handling input. Cells marked with {@link #markDirty(int)} are always
+ * refreshed in full before the ripple continues, so flags and single reveals appear right away.
+ * <p>
+ * Besides the statistics of the most recent flush, the queue sums up the flushes of a batch: all flushes from the
+ * first one after the queue was idle until the ripple is drawn completely, i.e. the whole work caused by one click.
+ */
+public class DirtyCellQueue
+{
+    /**
+     * The time each pulse spends on ripple cells by default, in nanoseconds; a quarter of a frame at 60 Hz.
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000;
+
+    /**
+     * The number of ripple cells refreshed between two checks of the clock.
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    /**
+     * The view the dirty cells are applied to.
+     */
+    private BoardView view;
+
+    /**
+     * Marks the board indices that are already pending, so each cell is queued once.
+     */
+    private final boolean[] queued;
+
+    /**
+     * The pending board indices, in the order they were first marked.
+     */
+    private int[] pending = new int[64];
+
+    /**
+     * The number of valid entries in {@link #pending}.
+     */
+    private int size;
+
+    /**
+     * The board indices of progressively revealed cascades, in the order they were revealed.
+     */
+    private int[] ripple = new int[64];
+
+    /**
+     * The position of the next ripple cell to refresh.
+     */
+    private int rippleHead;
+
+    /**
+     * The number of valid entries in {@link #ripple}.
+     */
+    private int rippleSize;
+
+    /**
+     * The time each pulse may spend on ripple cells, in nanoseconds.
+     */
+    private long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+
+    /**
+     * The number of cells refreshed by the most recent flush.
+     */
+    private int lastFlushedCells;
+
+    /**
+     * The number of node mutations caused by the most recent flush.
+     */
+    private int lastFlushMutations;
+
+    /**
+     * How long the most recent flush took, in nanoseconds.
+     */
+    private long lastFlushNanos;
+
+    /**
+     * The number of cells refreshed by the flushes of the current or most recent batch.
+     */
+    private int batchFlushedCells;
+
+    /**
+     * The number of node mutations caused by the flushes of the current or most recent batch.
+     */
+    private int batchMutations;
+
+    /**
+     * The number of flushes of the current or most recent batch.
+     */
+    private int batchFlushes;
+
+    /**
+     * Indicates whether the most recent flush left ripple cells, so the next flush continues its batch.
+     */
+    private boolean batchOpen;
+
+    /**
+     * Called after every flush, e.g. to update statistics, or {@code null}.
+     */
+    private Runnable onFlushed;
+
+    /**
+     * Flushes the pending cells on the next pulse and stops itself once no ripple cells are left.
+     */
+    private final AnimationTimer pulse = new AnimationTimer()
+    {
+        /**
+         * Applies all pending cells and as many ripple cells as the frame budget allows.
+         *
+         * @param now The timestamp of the current frame, in nanoseconds.
+         */
+        @Override
+        public void handle(long now)
+        {
+            flush(getFrameBudgetNanos());
+            if (rippleHead == rippleSize)
+            {
+                stop(); // Idles until the next cell is marked.
+            }
+        }
+    };
+
+
+    /**
+     * Constructs a new, empty {@code DirtyCellQueue}.
+     *
+     * @param view       The view the dirty cells are applied to.
+     * @param indexLimit The exclusive upper bound of the board indices, see
+     *                   {@link htl.steyr.javafx_minesweeper_tplatzer.model.Board#getIndexLimit()}.
+     */
+    public DirtyCellQueue(BoardView view, int indexLimit)
+    {
+        setView(view);
+        this.queued = new boolean[indexLimit];
+    }
+
+    /**
+     * Marks all cells of a change set as dirty.
+     *
+     * @param changes The cells changed by a board operation.
+     */
+    public void markDirty(ChangeSet changes)
+    {
+        for (int i = 0; i < changes.size(); i++)
+        {
+            markDirty(changes.get(i));
+        }
+    }
+
+    /**
+     * Marks a cell as dirty, so the view refreshes it on the next pulse.
+     *
+     * @param index The board index of the cell.
+     */
+    public void markDirty(int index)
+    {
+        if (queued[index])
+        {
+            return; // Already pending; the refresh reads the latest state anyway.
+        }
+
+        queued[index] = true;
+        if (size == pending.length)
+        {
+            pending = Arrays.copyOf(pending, pending.length * 2); // Doubles the buffer if it is full.
+        }
+        pending[size++] = index;
+
+        pulse.start(); // Has no effect if the timer already waits for the next pulse.
+    }
+
+    /**
+     * Marks all cells of a cascade as dirty, to be refreshed progressively in the order of the change set.
+     *
+     * @param changes The cells revealed by a board operation, in breadth-first order from the clicked cell.
+     */
+    public void markRipple(ChangeSet changes)
+    {
+        if (rippleHead == rippleSize)
+        {
+            rippleHead = 0; // Reuses the buffer from the start once the previous ripple is drawn.
+            rippleSize = 0;
+        }
+        if (rippleSize + changes.size() > ripple.length)
+        {
+            int remaining = rippleSize - rippleHead;
+            int[] grown = new int[Math.max(ripple.length * 2, remaining + changes.size())];
+            System.arraycopy(ripple, rippleHead, grown, 0, remaining); // Drops the cells that were already refreshed.
+            ripple = grown;
+            rippleHead = 0;
+            rippleSize = remaining;
+        }
+
+        for (int i = 0; i < changes.size(); i++)
+        {
+            int index = changes.get(i);
+            if (!queued[index])
+            {
+                queued[index] = true;
+                ripple[rippleSize++] = index;
+            }
+        }
+
+        pulse.start(); // Has no effect if the timer already waits for the next pulse.
+    }
+
+    /**
+     * Refreshes all pending cells, including all ripple cells, in the view right away.
+     * <p>
+     * This is called directly whenever the view has to be up to date immediately,
+     * e.g. before the end-of-game overlays are drawn.
+     */
+    public void flush()
+    {
+        flush(Long.MAX_VALUE);
+    }
+
+    /**
+     * Refreshes all pending cells and as many ripple cells as fit into the time budget.
+     *
+     * @param budgetNanos The time that may be spent on ripple cells, in nanoseconds.
+     */
+    private void flush(long budgetNanos)
+    {
+        long start = System.nanoTime();
+        int mutations = 0;
+        for (int i = 0; i < size; i++)
+        {
+            queued[pending[i]] = false;
+            mutations += getView().refresh(pending[i]); // Updates the cell to match the board state.
+        }
+        int flushed = size;
+        size = 0;
+
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        int rippleStart = rippleHead;
+        while (rippleHead < rippleSize)
+        {
+            int index = ripple[rippleHead++];
+            queued[index] = false;
+            mutations += getView().refresh(index);
+
+            if ((rippleHead - rippleStart) % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() > deadline)
+            {
+                break; // Continues with the next cell on the next pulse.
+            }
+        }
+        flushed += rippleHead - rippleStart;
+
+        setLastFlushedCells(flushed);
+        setLastFlushMutations(mutations);
+        setLastFlushNanos(System.nanoTime() - start);
+
+        if (flushed > 0)
+        {
+            if (!isBatchOpen())
+            {
+                batchFlushedCells = 0; // The first flush after the queue was idle starts a new batch.
+                batchMutations = 0;
+                batchFlushes = 0;
+            }
+            batchFlushedCells += flushed;
+            batchMutations += mutations;
+            batchFlushes++;
+            setBatchOpen(isRippling()); // The batch goes on until the ripple is drawn.
+        }
+
+        if (getOnFlushed() != null && getLastFlushedCells() > 0)
+        {
+            getOnFlushed().run();
+        }
+    }
+
+    /**
+     * Drops all pending cells without refreshing them, e.g. after the view has been replaced and redrawn completely.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            queued[pending[i]] = false;
+        }
+        for (int i = rippleHead; i < rippleSize; i++)
+        {
+            queued[ripple[i]] = false;
+        }
+        size = 0;
+        rippleHead = 0;
+        rippleSize = 0;
+        setBatchOpen(false); // The dropped ripple ends its batch.
+        pulse.stop();
+    }
+
+    /**
+     * Gets the view the dirty cells are applied to.
+     *
+     * @return The {@link BoardView}.
+     */
+    public BoardView getView()
+    {
+        return view;
+    }
+
+    /**
+     * Sets the view the dirty cells are applied to.
+     *
+     * @param view The {@link BoardView} to set.
+     */
+    public void setView(BoardView view)
+    {
+        this.view = view;
+    }
+
+    /**
+     * Checks whether ripple cells are still waiting to be refreshed.
+     *
+     * @return {@code true} while a cascade is being revealed progressively.
+     */
+    public boolean isRippling()
+    {
+        return rippleHead < rippleSize;
+    }
+
+    /**
+     * Gets the time each pulse may spend on ripple cells.
+     *
+     * @return The budget in nanoseconds.
+     */
+    public long getFrameBudgetNanos()
+    {
+        return frameBudgetNanos;
+    }
+
+    /**
+     * Sets the time each pulse may spend on ripple cells.
+     *
+     * @param frameBudgetNanos The budget in nanoseconds; {@link Long#MAX_VALUE} refreshes ripples in a single pulse.
+     */
+    public void setFrameBudgetNanos(long frameBudgetNanos)
+    {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Gets the number of cells refreshed by the most recent flush.
+     *
+     * @return The number of refreshed cells.
+     */
+    public int getLastFlushedCells()
+    {
+        return lastFlushedCells;
+    }
+
+    /**
+     * Sets the number of cells refreshed by the most recent flush.
+     *
+     * @param lastFlushedCells The number of refreshed cells.
+     */
+    private void setLastFlushedCells(int lastFlushedCells)
+    {
+        this.lastFlushedCells = lastFlushedCells;
+    }
+
+    /**
+     * Gets the number of node mutations caused by the most recent flush.
+     *
+     * @return The number of node mutations.
+     */
+    public int getLastFlushMutations()
+    {
+        return lastFlushMutations;
+    }
+
+    /**
+     * Sets the number of node mutations caused by the most recent flush.
+     *
+     * @param lastFlushMutations The number of node mutations.
+     */
+    private void setLastFlushMutations(int lastFlushMutations)
+    {
+        this.lastFlushMutations = lastFlushMutations;
+    }
+
+    /**
+     * Gets how long the most recent flush took.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getLastFlushNanos()
+    {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Sets how long the most recent flush took.
+     *
+     * @param lastFlushNanos The duration in nanoseconds.
+     */
+    private void setLastFlushNanos(long lastFlushNanos)
+    {
+        this.lastFlushNanos = lastFlushNanos;
+    }
+
+    /**
+     * Gets the number of cells refreshed by the flushes of the current batch, or of the most recent one once it is
+     * complete.
+     *
+     * @return The number of refreshed cells.
+     */
+    public int getBatchFlushedCells()
+    {
+        return batchFlushedCells;
+    }
+
+    /**
+     * Gets the number of node mutations caused by the flushes of the current batch, or of the most recent one once
+     * it is complete.
+     *
+     * @return The number of node mutations.
+     */
+    public int getBatchMutations()
+    {
+        return batchMutations;
+    }
+
+    /**
+     * Gets the number of flushes, i.e. pulses, of the current batch, or of the most recent one once it is complete.
+     *
+     * @return The number of flushes.
+     */
+    public int getBatchFlushes()
+    {
+        return batchFlushes;
+    }
+
+    /**
+     * Checks whether the current batch is still going on, as its ripple is not drawn completely yet.
+     *
+     * @return {@code true} if the next flush continues the batch, {@code false} if it starts a new one.
+     */
+    public boolean isBatchOpen()
+    {
+        return batchOpen;
+    }
+
+    /**
+     * Sets whether the current batch is still going on.
+     *
+     * @param batchOpen {@code true} if the next flush continues the batch.
+     */
+    private void setBatchOpen(boolean batchOpen)
+    {
+        this.batchOpen = batchOpen;
+    }
+
+    /**
+     * Gets the callback run after every flush that refreshed at least one cell.
+     *
+     * @return The callback, or {@code null}.
+     */
+    public Runnable getOnFlushed()
+    {
+        return onFlushed;
+    }
+
+    /**
+     * Sets the callback run after every flush that refreshed at least one cell.
+     *
+     * @param onFlushed The callback, or {@code null}.
+     */
+    public void setOnFlushed(Runnable onFlushed)
+    {
+        this.onFlushed = onFlushed;
+    }
+}
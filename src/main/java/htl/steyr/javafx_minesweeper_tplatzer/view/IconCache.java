@@ -0,0 +1,78 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import javafx.scene.image.Image;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the decoded cell icons of every style, so each PNG is loaded at most once per application run.
+ * <p>
+ * Both renderers share the cached {@link Image}s: the {@link CanvasBoardView} draws them directly, and every
+ * {@link htl.steyr.javafx_minesweeper_tplatzer.model.Cell} shows them in its single
+ * {@link javafx.scene.image.ImageView}. The cache is only used on the JavaFX Application Thread.
+ */
+public class IconCache
+{
+    /**
+     * The names of all cell icons, matching the files {@code /<style>/img/<icon>.png}.
+     */
+    public static final String[] ICONS = {"flag", "question", "bomb", "false-flag"};
+
+    /**
+     * The icons loaded so far, keyed by style and then by icon name.
+     */
+    private static final Map<String, Map<String, Image>> iconsByStyle = new HashMap<>();
+
+
+    /**
+     * Prevents instantiation, as this class only has static members.
+     */
+    private IconCache()
+    {
+    }
+
+    /**
+     * Gets all cell icons of the specified style, loading them on the first call.
+     *
+     * @param style The visual style of the game (e.g., "retro", "modern").
+     * @return An unmodifiable map of the icons, keyed by name.
+     * @throws NullPointerException if an icon file of the style cannot be found.
+     */
+    public static Map<String, Image> getIcons(String style)
+    {
+        return iconsByStyle.computeIfAbsent(style, IconCache::loadIcons);
+    }
+
+    /**
+     * Gets a cell icon of the specified style, loading the icons of the style on the first call.
+     *
+     * @param style The visual style of the game (e.g., "retro", "modern").
+     * @param icon  The name of the icon (one of {@link #ICONS}).
+     * @return The decoded icon.
+     * @throws NullPointerException if the icon does not exist.
+     */
+    public static Image getIcon(String style, String icon)
+    {
+        return Objects.requireNonNull(getIcons(style).get(icon), "Unknown icon: " + icon);
+    }
+
+    /**
+     * Loads and decodes all cell icons of a style.
+     *
+     * @param style The visual style of the game.
+     * @return An unmodifiable map of the icons, keyed by name.
+     */
+    private static Map<String, Image> loadIcons(String style)
+    {
+        Map<String, Image> icons = new HashMap<>();
+        for (String icon : ICONS)
+        {
+            icons.put(icon, new Image(Objects.requireNonNull(IconCache.class.getResource("/" + style + "/img/" + icon + ".png")).toExternalForm()));
+        }
+
+        return Collections.unmodifiableMap(icons);
+    }
+}
@@ -0,0 +1,288 @@
+package htl.steyr.javafx_minesweeper_tplatzer.view;
+
+import javafx.scene.Scene;
+
+import java.util.Arrays;
+
+/**
+ * Measures how long it takes until a click on a cell shows up in the window.
+ * <p>
+ * Every sample is split into three phases:
+ * <ul>
+ *     <li>Model: from the mouse handler until the controller has updated the board and marked the changed cells.</li>
+ *     <li>Nodes: the time the {@link DirtyCellQueue} spent refreshing the changed cells in the {@link BoardView}.</li>
+ *     <li>Pulse: from the end of the refresh until CSS and layout of that pulse are done, right before the scene
+ *     is handed to the render thread.</li>
+ * </ul>
+ * The total also contains the wait for the next pulse. Rolling p50 and p99 values are kept over the last
+ * {@link #WINDOW} samples. The monitor only listens to the scene's pulses while it is enabled, and all methods
+ * must be called on the JavaFX Application Thread.
+ */
+public class LatencyMonitor
+{
+    /**
+     * The number of most recent samples the percentiles are computed from.
+     */
+    public static final int WINDOW = 200;
+
+    /**
+     * The scene whose pulses complete the samples.
+     */
+    private final Scene scene;
+
+    /**
+     * Completes the pending sample once the pulse that shows its changes has been laid out.
+     */
+    private final Runnable pulseListener = this::pulseFinished;
+
+    /**
+     * The total latencies of the recent samples, in nanoseconds.
+     */
+    private final long[] totalSamples = new long[WINDOW];
+
+    /**
+     * The model times of the recent samples, in nanoseconds.
+     */
+    private final long[] modelSamples = new long[WINDOW];
+
+    /**
+     * The node update times of the recent samples, in nanoseconds.
+     */
+    private final long[] nodeSamples = new long[WINDOW];
+
+    /**
+     * The pulse times of the recent samples, in nanoseconds.
+     */
+    private final long[] pulseSamples = new long[WINDOW];
+
+    /**
+     * The number of samples recorded so far, up to {@link #WINDOW}.
+     */
+    private int sampleCount;
+
+    /**
+     * The position in the sample arrays that is written next.
+     */
+    private int nextSample;
+
+    /**
+     * Indicates whether clicks are measured.
+     */
+    private boolean enabled;
+
+    /**
+     * When the pending click was received, or {@code 0} if no click is pending.
+     */
+    private long inputTime;
+
+    /**
+     * When the controller finished updating the board for the pending click.
+     */
+    private long modelTime;
+
+    /**
+     * When the changed cells of the pending click were refreshed, or {@code 0} if they were not refreshed yet.
+     */
+    private long flushTime;
+
+    /**
+     * How long the refresh of the changed cells of the pending click took.
+     */
+    private long nodeNanos;
+
+    /**
+     * Called after every completed sample, e.g. to update an overlay, or {@code null}.
+     */
+    private Runnable onSample;
+
+
+    /**
+     * Constructs a new, disabled {@code LatencyMonitor}.
+     *
+     * @param scene The scene showing the board.
+     */
+    public LatencyMonitor(Scene scene)
+    {
+        this.scene = scene;
+    }
+
+    /**
+     * Starts a new sample for a click that has just been received. Does nothing while the monitor is disabled.
+     */
+    public void inputReceived()
+    {
+        if (!isEnabled())
+        {
+            return;
+        }
+
+        inputTime = System.nanoTime();
+        modelTime = inputTime;
+        flushTime = 0; // A click that changed nothing is replaced by the next one.
+    }
+
+    /**
+     * Records that the controller has finished updating the board for the pending click.
+     */
+    public void modelUpdated()
+    {
+        if (inputTime != 0)
+        {
+            modelTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Records that the changed cells of the pending click were refreshed in the view.
+     *
+     * @param nanos How long the refresh took, in nanoseconds.
+     */
+    public void cellsFlushed(long nanos)
+    {
+        if (inputTime != 0 && flushTime == 0)
+        {
+            flushTime = System.nanoTime();
+            nodeNanos = nanos;
+        }
+    }
+
+    /**
+     * Completes the pending sample after CSS and layout of the pulse that refreshed its cells.
+     */
+    private void pulseFinished()
+    {
+        if (inputTime == 0 || flushTime == 0)
+        {
+            return; // No click is waiting for this pulse.
+        }
+
+        long now = System.nanoTime();
+        totalSamples[nextSample] = now - inputTime;
+        modelSamples[nextSample] = modelTime - inputTime;
+        nodeSamples[nextSample] = nodeNanos;
+        pulseSamples[nextSample] = now - flushTime;
+        nextSample = (nextSample + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+        inputTime = 0;
+
+        if (getOnSample() != null)
+        {
+            getOnSample().run();
+        }
+    }
+
+    /**
+     * Formats the rolling percentiles of all phases as a single line.
+     *
+     * @return The summary, e.g. {@code "Input to frame 4.1 / 9.8 ms | Model 0.6 / 2.0 | ..."} (p50 / p99).
+     */
+    public String summarize()
+    {
+        return String.format("Input to frame %s ms | Model %s | Nodes %s | Pulse %s (p50 / p99, %d samples)",
+                formatPercentiles(totalSamples), formatPercentiles(modelSamples),
+                formatPercentiles(nodeSamples), formatPercentiles(pulseSamples), getSampleCount());
+    }
+
+    /**
+     * Formats the p50 and p99 values of one phase in milliseconds.
+     *
+     * @param samples The samples of the phase.
+     * @return The percentiles, e.g. {@code "4.1 / 9.8"}.
+     */
+    private String formatPercentiles(long[] samples)
+    {
+        return String.format("%.1f / %.1f", percentile(samples, 0.5) / 1e6, percentile(samples, 0.99) / 1e6);
+    }
+
+    /**
+     * Computes a percentile of the recorded samples of one phase.
+     *
+     * @param samples  The samples of the phase.
+     * @param fraction The percentile as a fraction between 0 and 1.
+     * @return The sample at the percentile, or {@code 0} if nothing was recorded yet.
+     */
+    private long percentile(long[] samples, double fraction)
+    {
+        if (getSampleCount() == 0)
+        {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, getSampleCount());
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(fraction * sorted.length) - 1]; // Nearest-rank percentile.
+    }
+
+    /**
+     * Checks whether clicks are measured.
+     *
+     * @return {@code true} if the monitor is enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the measurement. The monitor only listens to the pulses of the scene while enabled.
+     *
+     * @param enabled {@code true} to measure clicks, {@code false} to stop.
+     */
+    public void setEnabled(boolean enabled)
+    {
+        if (enabled == isEnabled())
+        {
+            return;
+        }
+
+        this.enabled = enabled;
+        inputTime = 0; // Drops a sample that was started before.
+        if (enabled)
+        {
+            getScene().addPostLayoutPulseListener(pulseListener);
+        } else
+        {
+            getScene().removePostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    /**
+     * Gets the scene whose pulses complete the samples.
+     *
+     * @return The {@link Scene}.
+     */
+    public Scene getScene()
+    {
+        return scene;
+    }
+
+    /**
+     * Gets the number of samples the percentiles are computed from.
+     *
+     * @return The number of samples, up to {@link #WINDOW}.
+     */
+    public int getSampleCount()
+    {
+        return sampleCount;
+    }
+
+    /**
+     * Gets the callback run after every completed sample.
+     *
+     * @return The callback, or {@code null}.
+     */
+    public Runnable getOnSample()
+    {
+        return onSample;
+    }
+
+    /**
+     * Sets the callback run after every completed sample.
+     *
+     * @param onSample The callback, or {@code null}.
+     */
+    public void setOnSample(Runnable onSample)
+    {
+        this.onSample = onSample;
+    }
+}
@@ -20,6 +20,8 @@
  *     <li>{@link htl.steyr.javafx_minesweeper_tplatzer.controller} - Handles user interactions and UI control.</li>
  *     <li>{@link htl.steyr.javafx_minesweeper_tplatzer.model} - Manages data structures and persistence.</li>
  *     <li>{@link htl.steyr.javafx_minesweeper_tplatzer.service} - Provides auxiliary services like audio and networking.</li>
+ *     <li>{@link htl.steyr.javafx_minesweeper_tplatzer.solver} - Deduces safe cells and mines for hints and simulates games.</li>
+ *     <li>{@link htl.steyr.javafx_minesweeper_tplatzer.view} - Renders the game field.</li>
  * </ul>
  */
 module htl.steyr.javafx_minesweeper_tplatzer
@@ -34,4 +36,6 @@ module htl.steyr.javafx_minesweeper_tplatzer
     exports htl.steyr.javafx_minesweeper_tplatzer.controller; // Exports UI controllers for handling interactions.
     exports htl.steyr.javafx_minesweeper_tplatzer.model; // Exports data structures and persistence logic.
     exports htl.steyr.javafx_minesweeper_tplatzer.service; // Exports auxiliary services like audio and networking.
+    exports htl.steyr.javafx_minesweeper_tplatzer.solver; // Exports the deduction engine behind hints and simulations.
+    exports htl.steyr.javafx_minesweeper_tplatzer.view; // Exports the renderers of the game field.
 }
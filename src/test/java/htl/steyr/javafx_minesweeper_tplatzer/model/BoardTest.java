@@ -0,0 +1,458 @@
+package htl.steyr.javafx_minesweeper_tplatzer.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plays seeded games on a {@link Board} and checks the incrementally maintained counters.
+ * <p>
+ * Surefire runs the tests with assertions enabled, so every operation also cross-checks its counters against a full
+ * scan of the board; the tests compare them with a scan through the public API on top. Cells are looked up on the
+ * generated board instead of being hard-coded, so the tests do not depend on where a seed puts the mines.
+ */
+class BoardTest
+{
+    /**
+     * The number of rows of the test board.
+     */
+    private static final int ROWS = 9;
+
+    /**
+     * The number of columns of the test board.
+     */
+    private static final int COLUMNS = 9;
+
+    /**
+     * The number of mines on the test board.
+     */
+    private static final int MINES = 10;
+
+    /**
+     * The seed of the test board.
+     */
+    private static final long SEED = 42;
+
+    /**
+     * The board under test, with its mines placed.
+     */
+    private Board board;
+
+
+    /**
+     * Creates the seeded test board.
+     */
+    @BeforeEach
+    void setUp()
+    {
+        board = createBoard();
+    }
+
+    /**
+     * Makes sure the counter cross-checks inside the board actually run.
+     */
+    @Test
+    void assertionsAreEnabled()
+    {
+        assertTrue(Board.class.desiredAssertionStatus(), "Tests must run with -ea");
+    }
+
+    /**
+     * Revealing every safe cell keeps the counters in step and wins the game.
+     */
+    @Test
+    void revealingAllSafeCellsWins()
+    {
+        assertEquals(ROWS * COLUMNS - MINES, board.getUnrevealedSafeCells());
+
+        for (int row = 0; row < ROWS; row++)
+        {
+            for (int column = 0; column < COLUMNS; column++)
+            {
+                int index = board.index(row, column);
+                if (!board.isMine(index))
+                {
+                    assertFalse(board.reveal(index).isExploded());
+                    assertCountersMatch();
+                }
+            }
+        }
+
+        assertEquals(0, board.getUnrevealedSafeCells());
+        assertTrue(board.isWon());
+        assertFalse(board.isLost());
+    }
+
+    /**
+     * Revealing an empty cell cascades through its area, and the counter drops by the size of the cascade.
+     */
+    @Test
+    void cascadeUpdatesCounter()
+    {
+        int empty = findCell(index -> !board.isMine(index) && board.getAdjacentMines(index) == 0);
+
+        ChangeSet changes = board.reveal(empty);
+        assertTrue(changes.size() > 1, "An empty cell reveals its neighbours");
+        assertEquals(ROWS * COLUMNS - MINES - changes.size(), board.getUnrevealedSafeCells());
+        assertCountersMatch();
+    }
+
+    /**
+     * Revealing a mine loses the game without changing the safe cell counter.
+     */
+    @Test
+    void revealingMineLoses()
+    {
+        int unrevealed = board.getUnrevealedSafeCells();
+
+        ChangeSet changes = board.reveal(findCell(board::isMine));
+        assertTrue(changes.isExploded());
+        assertTrue(board.isLost());
+        assertFalse(board.isWon());
+        assertEquals(unrevealed, board.getUnrevealedSafeCells());
+        assertCountersMatch();
+    }
+
+    /**
+     * Marking cycles from flagged to questioned to unmarked, and only flags are counted. Flagged cells cannot be
+     * revealed.
+     */
+    @Test
+    void toggleFlagCyclesMarkersAndCountsFlags()
+    {
+        int index = board.index(0, 0);
+
+        board.toggleFlag(index);
+        assertTrue(board.isFlagged(index));
+        assertEquals(1, board.getFlaggedCount());
+        assertTrue(board.reveal(index).isEmpty(), "Flagged cells are not revealed");
+
+        board.toggleFlag(index);
+        assertTrue(board.isQuestioned(index));
+        assertEquals(0, board.getFlaggedCount());
+
+        board.toggleFlag(index);
+        assertFalse(board.isFlagged(index));
+        assertFalse(board.isQuestioned(index));
+        assertEquals(0, board.getFlaggedCount());
+        assertCountersMatch();
+    }
+
+    /**
+     * Chording a number whose mines are all flagged reveals its other neighbours; with safe cells flagged instead,
+     * it reveals a mine.
+     */
+    @Test
+    void chordRevealsNeighboursOfSatisfiedNumbers()
+    {
+        // An inner number with at most four mines around it has enough safe neighbours to flag wrongly.
+        int number = findCell(index -> board.getRow(index) > 0 && board.getRow(index) < ROWS - 1
+                && board.getColumn(index) > 0 && board.getColumn(index) < COLUMNS - 1
+                && !board.isMine(index) && board.getAdjacentMines(index) > 0 && board.getAdjacentMines(index) <= 4);
+        Board wrong = createBoard(); // The same seed places the same mines.
+        board.reveal(number);
+        wrong.reveal(number);
+
+        int wrongFlags = 0;
+        for (int neighbour : neighboursOf(number))
+        {
+            if (board.isMine(neighbour))
+            {
+                board.toggleFlag(neighbour); // Flags the real mines.
+            } else if (wrongFlags < wrong.getAdjacentMines(number))
+            {
+                wrong.toggleFlag(neighbour); // Flags safe cells instead.
+                wrongFlags++;
+            }
+        }
+
+        assertFalse(board.chord(number).isExploded());
+        for (int neighbour : neighboursOf(number))
+        {
+            assertTrue(board.isRevealed(neighbour) || board.isFlagged(neighbour));
+        }
+        assertCountersMatch();
+
+        assertTrue(wrong.chord(number).isExploded());
+        assertTrue(wrong.isLost());
+    }
+
+    /**
+     * Revealing all unflagged cells wins if exactly the mines are flagged, and loses otherwise.
+     */
+    @Test
+    void revealAllUnflaggedDecidesTheGame()
+    {
+        for (int row = 0; row < ROWS; row++)
+        {
+            for (int column = 0; column < COLUMNS; column++)
+            {
+                if (board.isMine(board.index(row, column)))
+                {
+                    board.toggleFlag(board.index(row, column));
+                }
+            }
+        }
+        assertEquals(MINES, board.getFlaggedCount());
+        assertFalse(board.revealAllUnflagged().isExploded());
+        assertTrue(board.isWon());
+        assertCountersMatch();
+
+        Board unflagged = createBoard();
+        assertTrue(unflagged.revealAllUnflagged().isExploded());
+        assertTrue(unflagged.isLost());
+    }
+
+    /**
+     * Resetting a finished board restores the counters of a new board.
+     */
+    @Test
+    void resetRestoresCounters()
+    {
+        board.toggleFlag(board.index(0, 0));
+        board.reveal(findCell(board::isMine));
+
+        board.reset();
+        assertFalse(board.isLost());
+        assertEquals(0, board.getFlaggedCount());
+        assertEquals(ROWS * COLUMNS - MINES, board.getUnrevealedSafeCells());
+    }
+
+    /**
+     * Placing the mines around a first click keeps the clicked cell and its neighbours free, wherever the click is,
+     * and still places all mines.
+     */
+    @Test
+    void placeMinesKeepsTheFirstClickedAreaFree()
+    {
+        for (int row = 0; row < ROWS; row++)
+        {
+            for (int column = 0; column < COLUMNS; column++)
+            {
+                board = new Board(ROWS, COLUMNS, MINES);
+                int safeIndex = board.index(row, column);
+                board.placeMines(new Random(SEED), safeIndex, null);
+
+                assertFalse(board.isMine(safeIndex));
+                for (int neighbour : neighboursOf(safeIndex))
+                {
+                    assertFalse(board.isMine(neighbour), "Neighbour of row " + row + ", column " + column);
+                }
+                assertEquals(MINES, findMines().length);
+                assertEquals(0, board.getAdjacentMines(safeIndex));
+            }
+        }
+    }
+
+    /**
+     * On a board too full to spare the neighbours, only the clicked cell is kept free.
+     */
+    @Test
+    void placeMinesKeepsOnlyTheCellFreeOnDenseBoards()
+    {
+        int dense = ROWS * COLUMNS - 1; // Far more mines than fit outside the 3x3 area.
+        board = new Board(ROWS, COLUMNS, dense);
+        int safeIndex = board.index(ROWS / 2, COLUMNS / 2);
+        board.placeMines(new Random(SEED), safeIndex, null);
+
+        assertFalse(board.isMine(safeIndex));
+        assertEquals(dense, findMines().length);
+        assertEquals(8, board.getAdjacentMines(safeIndex), "Every other cell is a mine");
+    }
+
+    /**
+     * Boards above {@link AdjacencyCounter#PARALLEL_THRESHOLD} cells count their adjacent mines in parallel row
+     * bands; every count must match the mines around the cell, including at the edges of the bands.
+     */
+    @Test
+    void parallelAdjacencyCountsMatchNeighbours()
+    {
+        int rows = 1100;
+        int columns = 1000;
+        assertTrue(rows * columns > AdjacencyCounter.PARALLEL_THRESHOLD);
+        board = new Board(rows, columns, rows * columns / 5);
+        board.placeMines(new Random(SEED));
+
+        for (int row = 0; row < rows; row++)
+        {
+            for (int column = 0; column < columns; column++)
+            {
+                int index = board.index(row, column);
+                if (board.isMine(index))
+                {
+                    continue; // Mines store no count.
+                }
+
+                int mines = 0;
+                for (int neighbour : neighboursOf(index))
+                {
+                    if (board.isMine(neighbour))
+                    {
+                        mines++;
+                    }
+                }
+                assertEquals(mines, board.getAdjacentMines(index), "Row " + row + ", column " + column);
+            }
+        }
+    }
+
+    /**
+     * The board stays untouched until the first cell is revealed; flags do not count.
+     */
+    @Test
+    void untouchedUntilFirstReveal()
+    {
+        assertTrue(board.isUntouched());
+        board.toggleFlag(board.index(0, 0));
+        assertTrue(board.isUntouched());
+
+        board.reveal(findCell(index -> !board.isMine(index) && !board.isFlagged(index)));
+        assertFalse(board.isUntouched());
+
+        board.reset();
+        assertTrue(board.isUntouched()); // The counter already excludes the mines that are still to be placed.
+    }
+
+    /**
+     * Moving the mines out of the first clicked area keeps the number of mines, opens the area and is reproducible,
+     * even on a board where only the moved mines fit outside the area.
+     */
+    @Test
+    void clearSafeAreaMovesMinesOutOfTheClickedArea()
+    {
+        int dense = ROWS * COLUMNS - 9; // Leaves exactly the room of the 3x3 area.
+        Board first = new Board(ROWS, COLUMNS, dense);
+        Board second = new Board(ROWS, COLUMNS, dense);
+        first.placeMines(new Random(SEED)); // Mines anywhere, like a pooled board.
+        second.placeMines(new Random(SEED));
+        int center = first.index(ROWS / 2, COLUMNS / 2);
+
+        int moved = first.clearSafeArea(center, new Random(SEED));
+        assertEquals(moved, second.clearSafeArea(center, new Random(SEED)));
+        assertTrue(moved > 0, "The dense board has mines in the area");
+        assertEquals(0, first.clearSafeArea(center, new Random(SEED)), "Nothing is left to move");
+
+        int mines = 0;
+        for (int index = 0; index < first.getIndexLimit(); index++)
+        {
+            if (!first.isSentinel(index) && first.isMine(index))
+            {
+                mines++;
+                assertTrue(second.isMine(index), "The same seed moves the mines to the same cells");
+            }
+        }
+        assertEquals(dense, mines);
+        assertEquals(0, first.getAdjacentMines(center));
+
+        ChangeSet changes = first.reveal(center);
+        assertFalse(changes.isExploded());
+        assertEquals(9, changes.size(), "The empty center reveals its neighbours");
+        assertTrue(first.isWon());
+    }
+
+    /**
+     * Creates a board with the test dimensions and places its mines from the test seed.
+     *
+     * @return The new board.
+     */
+    private static Board createBoard()
+    {
+        Board board = new Board(ROWS, COLUMNS, MINES);
+        board.placeMines(new Random(SEED));
+        return board;
+    }
+
+    /**
+     * Compares the counters of the board with a scan through its public API.
+     */
+    private void assertCountersMatch()
+    {
+        int unrevealedSafe = 0;
+        int flagged = 0;
+        for (int row = 0; row < ROWS; row++)
+        {
+            for (int column = 0; column < COLUMNS; column++)
+            {
+                int index = board.index(row, column);
+                if (!board.isMine(index) && !board.isRevealed(index))
+                {
+                    unrevealedSafe++;
+                }
+                if (board.isFlagged(index))
+                {
+                    flagged++;
+                }
+            }
+        }
+        assertEquals(unrevealedSafe, board.getUnrevealedSafeCells(), "Unrevealed safe cells");
+        assertEquals(flagged, board.getFlaggedCount(), "Flags");
+    }
+
+    /**
+     * Collects the mines of the board.
+     *
+     * @return The board indices of all mines.
+     */
+    private int[] findMines()
+    {
+        int[] mines = new int[board.getSize()];
+        int count = 0;
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (!board.isSentinel(index) && board.isMine(index))
+            {
+                mines[count++] = index;
+            }
+        }
+        return Arrays.copyOf(mines, count);
+    }
+
+    /**
+     * Finds the first cell, row by row, that matches a condition.
+     *
+     * @param condition The condition on the board index of a cell.
+     * @return The board index of the cell.
+     */
+    private int findCell(IntPredicate condition)
+    {
+        for (int row = 0; row < ROWS; row++)
+        {
+            for (int column = 0; column < COLUMNS; column++)
+            {
+                if (condition.test(board.index(row, column)))
+                {
+                    return board.index(row, column);
+                }
+            }
+        }
+        throw new AssertionError("The test board has no such cell");
+    }
+
+    /**
+     * Collects the indices of the neighbours of a cell that lie on the board.
+     *
+     * @param index The board index of the cell.
+     * @return The indices of its neighbours.
+     */
+    private int[] neighboursOf(int index)
+    {
+        int[] neighbours = new int[8];
+        int count = 0;
+        for (int row = board.getRow(index) - 1; row <= board.getRow(index) + 1; row++)
+        {
+            for (int column = board.getColumn(index) - 1; column <= board.getColumn(index) + 1; column++)
+            {
+                if (board.isInBounds(row, column) && board.index(row, column) != index)
+                {
+                    neighbours[count++] = board.index(row, column);
+                }
+            }
+        }
+        return Arrays.copyOf(neighbours, count);
+    }
+}
@@ -0,0 +1,119 @@
+package htl.steyr.javafx_minesweeper_tplatzer.service;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import htl.steyr.javafx_minesweeper_tplatzer.model.Difficulty;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the {@link BoardPool}: taking never waits, pooled boards are reproducible from their seed, and the pool
+ * stays bounded. Every test uses a pool of its own; their producer threads are daemons.
+ */
+class BoardPoolTest
+{
+    /**
+     * How long a test waits for the producer to fill a queue.
+     */
+    private static final Duration PRODUCER_TIMEOUT = Duration.ofSeconds(10);
+
+
+    /**
+     * Taking from an empty pool returns at once and counts a miss.
+     */
+    @Test
+    void takeFromEmptyPoolIsAMiss()
+    {
+        BoardPool pool = new BoardPool(1);
+
+        assertNull(assertTimeout(Duration.ofMillis(100), () -> pool.take(Difficulty.of("beginner"))));
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.getHits());
+    }
+
+    /**
+     * The seed of a pooled board places the same mines again.
+     */
+    @Test
+    void seedReproducesPooledBoard() throws InterruptedException
+    {
+        BoardPool pool = new BoardPool(1);
+        Difficulty difficulty = Difficulty.of("advanced");
+        pool.prepare(difficulty);
+        awaitFull(pool, difficulty, 1);
+
+        BoardPool.PooledBoard pooled = pool.take(difficulty);
+        assertNotNull(pooled);
+        assertEquals(1, pool.getHits());
+        assertTrue(pooled.board().isUntouched());
+
+        Board expected = new Board(difficulty.getRows(), difficulty.getColumns(), difficulty.getMines());
+        expected.placeMines(new SplittableRandom(pooled.seed()));
+        for (int index = 0; index < expected.getIndexLimit(); index++)
+        {
+            if (!expected.isSentinel(index))
+            {
+                assertEquals(expected.isMine(index), pooled.board().isMine(index), "Cell " + index);
+            }
+        }
+    }
+
+    /**
+     * Requesting more than {@link BoardPool#MAX_FIELDS} game modes drops the boards of the least recently requested
+     * one.
+     */
+    @Test
+    void keepsOnlyTheMostRecentFields() throws InterruptedException
+    {
+        BoardPool pool = new BoardPool(1);
+        Difficulty first = Difficulty.custom(Difficulty.MIN_SIZE, Difficulty.MIN_SIZE, 1);
+        pool.prepare(first);
+        awaitFull(pool, first, 1);
+
+        for (int mines = 2; mines <= BoardPool.MAX_FIELDS + 1; mines++)
+        {
+            Difficulty later = Difficulty.custom(Difficulty.MIN_SIZE, Difficulty.MIN_SIZE, mines);
+            pool.prepare(later);
+            awaitFull(pool, later, 1);
+        }
+
+        assertEquals(0, pool.getDepth(first), "The oldest mode was dropped with its board");
+    }
+
+    /**
+     * Fields above {@link BoardPool#MAX_POOLED_CELLS} cells are neither pooled nor counted as misses.
+     */
+    @Test
+    void largeFieldsAreNotPooled()
+    {
+        BoardPool pool = new BoardPool(1);
+        Difficulty large = Difficulty.custom(1100, 1000, 1000);
+        assertTrue((long) large.getRows() * large.getColumns() > BoardPool.MAX_POOLED_CELLS);
+
+        pool.prepare(large);
+        assertNull(pool.take(large));
+        assertEquals(0, pool.getMisses());
+        assertEquals(0, pool.getDepth(large));
+    }
+
+    /**
+     * Waits until the queue of a game mode holds the specified number of boards.
+     *
+     * @param pool       The pool.
+     * @param difficulty The game mode.
+     * @param depth      The number of boards to wait for.
+     * @throws InterruptedException if the test is interrupted while waiting.
+     */
+    private static void awaitFull(BoardPool pool, Difficulty difficulty, int depth) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + PRODUCER_TIMEOUT.toNanos();
+        while (pool.getDepth(difficulty) < depth)
+        {
+            assertTrue(System.nanoTime() < deadline, "The producer did not fill the pool in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the {@link NoGuessGenerator} finds the same solvable board for the same seed, however its workers are
+ * scheduled.
+ */
+class NoGuessGeneratorTest
+{
+    /**
+     * The number of rows of the searched boards.
+     */
+    private static final int ROWS = 9;
+
+    /**
+     * The number of columns of the searched boards.
+     */
+    private static final int COLUMNS = 9;
+
+    /**
+     * The number of mines of the searched boards, dense enough that most candidates are rejected.
+     */
+    private static final int MINES = 20;
+
+    /**
+     * The seed of the searches.
+     */
+    private static final long SEED = 42;
+
+
+    /**
+     * Repeated searches accept the same candidate, and its seed reproduces a board the solver wins from the first
+     * click.
+     */
+    @Test
+    void sameSeedAcceptsSameSolvableBoard()
+    {
+        Board board = new Board(ROWS, COLUMNS, MINES);
+        int firstClick = board.index(ROWS / 2, COLUMNS / 2);
+
+        OptionalLong expected = new NoGuessGenerator(ROWS, COLUMNS, MINES).generate(SEED, firstClick);
+        assertTrue(expected.isPresent(), "A no-guess board exists for the test field");
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals(expected, new NoGuessGenerator(ROWS, COLUMNS, MINES).generate(SEED, firstClick));
+        }
+
+        board.placeMines(new SplittableRandom(expected.getAsLong()), firstClick, null);
+        assertTrue(NoGuessGenerator.isSolvable(board, new Solver(board), firstClick));
+    }
+
+    /**
+     * A cancelled search returns no board.
+     */
+    @Test
+    void cancelledSearchFindsNothing()
+    {
+        NoGuessGenerator generator = new NoGuessGenerator(ROWS, COLUMNS, MINES);
+        generator.cancel();
+        assertTrue(generator.generate(SEED, 0).isEmpty());
+    }
+}
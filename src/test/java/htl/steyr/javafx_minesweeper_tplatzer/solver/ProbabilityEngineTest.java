@@ -0,0 +1,238 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the {@link ProbabilityEngine} with a brute force count over all mine placements on small seeded positions,
+ * and checks the positions it refuses to evaluate.
+ */
+class ProbabilityEngineTest
+{
+    /**
+     * The number of rows of the small test boards.
+     */
+    private static final int ROWS = 5;
+
+    /**
+     * The number of columns of the small test boards.
+     */
+    private static final int COLUMNS = 6;
+
+    /**
+     * The number of mines of the small test boards.
+     */
+    private static final int MINES = 7;
+
+    /**
+     * The largest number of unrevealed cells the brute force enumerates.
+     */
+    private static final int MAX_BRUTE_FORCE_CELLS = 22;
+
+    /**
+     * The allowed difference between the engine and the brute force.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+
+    /**
+     * Plays seeded games by always revealing the safest cell, and compares every position on the way with the brute
+     * force.
+     */
+    @Test
+    void probabilitiesMatchBruteForce()
+    {
+        int positions = 0;
+        for (long seed = 0; seed < 30; seed++)
+        {
+            Board board = new Board(ROWS, COLUMNS, MINES);
+            int firstClick = board.index(ROWS / 2, COLUMNS / 2);
+            board.placeMines(new Random(seed), firstClick, null);
+            board.reveal(firstClick);
+            ProbabilityEngine engine = new ProbabilityEngine(board);
+
+            while (!board.isWon())
+            {
+                double[] probabilities = engine.compute();
+                assertNotNull(probabilities, "Seed " + seed);
+                if (countUnrevealed(board) <= MAX_BRUTE_FORCE_CELLS)
+                {
+                    assertMatchesBruteForce(board, probabilities, "Seed " + seed);
+                    positions++;
+                }
+
+                int safest = -1;
+                for (int index = 0; index < probabilities.length; index++)
+                {
+                    if (probabilities[index] != ProbabilityEngine.REVEALED && !board.isMine(index)
+                            && (safest < 0 || probabilities[index] < probabilities[safest]))
+                    {
+                        safest = index; // Keeps the game going; the test is about the probabilities, not the guess.
+                    }
+                }
+                board.reveal(safest);
+            }
+        }
+        assertTrue(positions >= 30, "Only " + positions + " positions were compared");
+    }
+
+    /**
+     * Nothing is computed before the first click, as boards from the pool still move their mines then.
+     */
+    @Test
+    void untouchedBoardIsNotEvaluated()
+    {
+        Board board = new Board(ROWS, COLUMNS, MINES);
+        ProbabilityEngine engine = new ProbabilityEngine(board);
+        assertNull(engine.compute(), "No mines placed");
+
+        board.placeMines(new Random(0));
+        assertNull(engine.compute(), "Nothing revealed");
+    }
+
+    /**
+     * A component with too many states is given up instead of enumerated. Every other cell of every other row is
+     * revealed and half of the cells between them are mines, so the numbers overlap across the whole board and hardly
+     * decide anything.
+     */
+    @Test
+    void tooComplexPositionIsNotEvaluated()
+    {
+        int size = 41;
+        int[] between = new int[size * size - (size / 2 + 1) * (size / 2 + 1)];
+        Board board = new Board(size, size, between.length / 2);
+        int count = 0;
+        for (int row = 0; row < size; row++)
+        {
+            for (int column = 0; column < size; column++)
+            {
+                if (row % 2 != 0 || column % 2 != 0)
+                {
+                    between[count++] = board.index(row, column);
+                }
+            }
+        }
+
+        Random random = new Random(0);
+        for (int i = between.length - 1; i > 0; i--) // Shuffles the cells between the revealed ones.
+        {
+            int j = random.nextInt(i + 1);
+            int swap = between[i];
+            between[i] = between[j];
+            between[j] = swap;
+        }
+        board.placeMinesAt(Arrays.copyOf(between, board.getTotalMines()));
+
+        for (int row = 0; row < size; row += 2)
+        {
+            for (int column = 0; column < size; column += 2)
+            {
+                board.reveal(board.index(row, column));
+            }
+        }
+
+        assertNull(new ProbabilityEngine(board).compute());
+    }
+
+    /**
+     * Counts the unrevealed cells of a board.
+     *
+     * @param board The board.
+     * @return The number of unrevealed cells.
+     */
+    private static int countUnrevealed(Board board)
+    {
+        int unrevealed = 0;
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (!board.isSentinel(index) && !board.isRevealed(index))
+            {
+                unrevealed++;
+            }
+        }
+        return unrevealed;
+    }
+
+    /**
+     * Enumerates every placement of the mines on the unrevealed cells that agrees with all revealed numbers, and
+     * compares the share of placements with a mine on each cell with the computed probabilities.
+     *
+     * @param board         The board, with at most {@link #MAX_BRUTE_FORCE_CELLS} unrevealed cells.
+     * @param probabilities The probabilities computed by the engine.
+     * @param message       Identifies the position in failures.
+     */
+    private static void assertMatchesBruteForce(Board board, double[] probabilities, String message)
+    {
+        int[] unrevealed = new int[countUnrevealed(board)];
+        int count = 0;
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (!board.isSentinel(index) && !board.isRevealed(index))
+            {
+                unrevealed[count++] = index;
+            }
+        }
+
+        // Every revealed number as a bit mask of its unrevealed neighbours and the mines among them.
+        int[] masks = new int[board.getIndexLimit()];
+        int[] numbers = new int[board.getIndexLimit()];
+        int constraints = 0;
+        for (int index = 0; index < board.getIndexLimit(); index++)
+        {
+            if (board.isSentinel(index) || !board.isRevealed(index))
+            {
+                continue;
+            }
+            int mask = 0;
+            for (int bit = 0; bit < unrevealed.length; bit++)
+            {
+                if (Math.abs(board.getRow(unrevealed[bit]) - board.getRow(index)) <= 1
+                        && Math.abs(board.getColumn(unrevealed[bit]) - board.getColumn(index)) <= 1)
+                {
+                    mask |= 1 << bit;
+                }
+            }
+            masks[constraints] = mask;
+            numbers[constraints++] = board.getAdjacentMines(index);
+        }
+
+        long placements = 0;
+        long[] minePlacements = new long[unrevealed.length];
+        // Walks all masks with exactly MINES bits set in ascending order (Gosper's hack).
+        for (int placement = (1 << board.getTotalMines()) - 1; placement < 1 << unrevealed.length; )
+        {
+            boolean consistent = true;
+            for (int i = 0; i < constraints && consistent; i++)
+            {
+                consistent = Integer.bitCount(placement & masks[i]) == numbers[i];
+            }
+            if (consistent)
+            {
+                placements++;
+                for (int bit = 0; bit < unrevealed.length; bit++)
+                {
+                    if ((placement & 1 << bit) != 0)
+                    {
+                        minePlacements[bit]++;
+                    }
+                }
+            }
+
+            int lowest = placement & -placement;
+            int ripple = placement + lowest;
+            placement = (((ripple ^ placement) >>> 2) / lowest) | ripple;
+        }
+
+        assertTrue(placements > 0, message + ": the real mines are a placement");
+        for (int bit = 0; bit < unrevealed.length; bit++)
+        {
+            assertEquals((double) minePlacements[bit] / placements, probabilities[unrevealed[bit]], TOLERANCE,
+                    message + ", cell " + unrevealed[bit]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the 3BV count of the {@link Simulation} on hand-made boards and that its games are reproducible.
+ */
+class SimulationTest
+{
+    /**
+     * Openings count once together with their border, and numbers outside all openings count once each.
+     * <pre>
+     * 0 1 1 1 0
+     * 0 1 * 1 0
+     * 0 1 1 1 0
+     * </pre>
+     * The two columns of zeros open the numbers next to them; the numbers above and below the mine are left.
+     */
+    @Test
+    void threeBVCountsOpeningsAndLoneNumbers()
+    {
+        Board board = new Board(3, 5, 1);
+        board.placeMinesAt(board.index(1, 2));
+
+        assertEquals(4, Simulation.countThreeBV(board));
+    }
+
+    /**
+     * Without openings, every safe cell needs a click of its own.
+     * <pre>
+     * * 2 1
+     * 1 2 *
+     * </pre>
+     */
+    @Test
+    void threeBVCountsEveryNumberWithoutOpenings()
+    {
+        Board board = new Board(2, 3, 2);
+        board.placeMinesAt(board.index(0, 0), board.index(1, 2));
+
+        assertEquals(4, Simulation.countThreeBV(board));
+    }
+
+    /**
+     * The same seed plays the same game on the same board.
+     */
+    @Test
+    void gamesAreReproducible()
+    {
+        for (long seed = 0; seed < 20; seed++)
+        {
+            Board first = new Board(16, 16, 40);
+            Board second = new Board(16, 16, 40);
+            assertEquals(Simulation.play(first, Strategy.of("solver"), seed), Simulation.play(second, Strategy.of("solver"), seed));
+            assertEquals(first.isWon(), second.isWon());
+            for (int index = 0; index < first.getIndexLimit(); index++)
+            {
+                if (!first.isSentinel(index))
+                {
+                    assertEquals(first.isMine(index), second.isMine(index), "Seed " + seed + ", cell " + index);
+                    assertEquals(first.isRevealed(index), second.isRevealed(index), "Seed " + seed + ", cell " + index);
+                }
+            }
+        }
+    }
+}
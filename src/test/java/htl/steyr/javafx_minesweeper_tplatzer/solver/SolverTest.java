@@ -0,0 +1,198 @@
+package htl.steyr.javafx_minesweeper_tplatzer.solver;
+
+import htl.steyr.javafx_minesweeper_tplatzer.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the rules of the {@link Solver} on small hand-made positions and its soundness on seeded games.
+ * <p>
+ * The hand-made positions lie on two-row boards, so every deduction can be followed on paper. Coordinates are given
+ * as {@code {row, column}} pairs.
+ */
+class SolverTest
+{
+    /**
+     * A single point constraint with as many unrevealed cells as mines makes them mines, and the numbers it satisfies
+     * make their other cells safe.
+     * <pre>
+     * * 1 ? *
+     * 1 1 ? ?
+     * </pre>
+     */
+    @Test
+    void singlePointFindsMinesAndSafeCells()
+    {
+        Board board = createBoard(2, 4, new int[]{0, 0}, new int[]{0, 3});
+        reveal(board, new int[]{0, 1}, new int[]{1, 0}, new int[]{1, 1});
+
+        Deductions deductions = new Solver(board).solve();
+        assertEquals(cells(board, new int[]{0, 0}), mines(deductions));
+        assertEquals(cells(board, new int[]{0, 2}, new int[]{1, 2}), safeCells(deductions));
+    }
+
+    /**
+     * A constraint whose cells are a subset of another's decides the cells outside it. No single constraint decides
+     * anything here.
+     * <pre>
+     * ? ? ? ?     (mines at columns 1 and 3)
+     * 1 1 2 1
+     * </pre>
+     */
+    @Test
+    void pairRuleSolvesSubsets()
+    {
+        Board board = createBoard(2, 4, new int[]{0, 1}, new int[]{0, 3});
+        reveal(board, new int[]{1, 0}, new int[]{1, 1}, new int[]{1, 2}, new int[]{1, 3});
+
+        Deductions deductions = new Solver(board).solve();
+        assertEquals(cells(board, new int[]{0, 1}, new int[]{0, 3}), mines(deductions));
+        assertEquals(cells(board, new int[]{0, 0}, new int[]{0, 2}), safeCells(deductions));
+    }
+
+    /**
+     * Two partially overlapping constraints decide the cells outside their overlap: the 3 needs two more mines than
+     * the 1, and has exactly two cells the 1 does not see.
+     * <pre>
+     * ? ? ? ? ? ?     (mines at (0, 1), (0, 2) and (1, 1))
+     * ? ? 3 1 ? ?
+     * </pre>
+     */
+    @Test
+    void pairRuleSolvesPartialOverlaps()
+    {
+        Board board = createBoard(2, 6, new int[]{0, 1}, new int[]{0, 2}, new int[]{1, 1});
+        reveal(board, new int[]{1, 2}, new int[]{1, 3});
+
+        Deductions deductions = new Solver(board).solve();
+        assertEquals(cells(board, new int[]{0, 1}, new int[]{1, 1}), mines(deductions));
+        assertEquals(cells(board, new int[]{0, 4}, new int[]{1, 4}), safeCells(deductions), "The shared cells stay open");
+    }
+
+    /**
+     * A lone number with several candidate cells proves nothing, so the next move is a guess.
+     */
+    @Test
+    void noDeductionMeansGuessing()
+    {
+        Board board = createBoard(2, 6, new int[]{0, 1}, new int[]{0, 2}, new int[]{1, 1});
+        reveal(board, new int[]{1, 3});
+
+        assertTrue(new Solver(board).solve().isEmpty());
+    }
+
+    /**
+     * Every cell the solver proves on seeded games is right, from the first click until it is stuck.
+     */
+    @Test
+    void deductionsAreSoundOnSeededGames()
+    {
+        for (long seed = 0; seed < 20; seed++)
+        {
+            Board board = new Board(16, 16, 40);
+            int firstClick = board.index(8, 8);
+            board.placeMines(new Random(seed), firstClick, null);
+            board.reveal(firstClick);
+
+            Solver solver = new Solver(board);
+            Deductions deductions = solver.solve();
+            while (deductions.getSafeCount() > 0 && !board.isWon()) // Mines alone reveal nothing new.
+            {
+                for (int i = 0; i < deductions.getMineCount(); i++)
+                {
+                    assertTrue(board.isMine(deductions.getMine(i)), "Seed " + seed);
+                }
+                for (int i = 0; i < deductions.getSafeCount(); i++)
+                {
+                    assertFalse(board.isMine(deductions.getSafe(i)), "Seed " + seed);
+                    board.reveal(deductions.getSafe(i));
+                }
+                deductions = solver.solve();
+            }
+            assertFalse(board.isLost(), "Seed " + seed);
+        }
+    }
+
+    /**
+     * Creates a board with mines on the specified cells.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param mines   The {@code {row, column}} pairs of the mines.
+     * @return The new board.
+     */
+    private static Board createBoard(int rows, int columns, int[]... mines)
+    {
+        Board board = new Board(rows, columns, mines.length);
+        board.placeMinesAt(cells(board, mines).stream().mapToInt(Integer::intValue).toArray());
+        return board;
+    }
+
+    /**
+     * Reveals the specified cells, which must not cascade.
+     *
+     * @param board The board.
+     * @param cells The {@code {row, column}} pairs of the cells.
+     */
+    private static void reveal(Board board, int[]... cells)
+    {
+        for (int[] cell : cells)
+        {
+            assertEquals(1, board.reveal(board.index(cell[0], cell[1])).size(), "The test position reveals numbers only");
+        }
+    }
+
+    /**
+     * Converts {@code {row, column}} pairs to board indices.
+     *
+     * @param board The board.
+     * @param cells The {@code {row, column}} pairs.
+     * @return The board indices.
+     */
+    private static Set<Integer> cells(Board board, int[]... cells)
+    {
+        Set<Integer> indices = new HashSet<>();
+        for (int[] cell : cells)
+        {
+            indices.add(board.index(cell[0], cell[1]));
+        }
+        return indices;
+    }
+
+    /**
+     * Collects the cells proven to be mines.
+     *
+     * @param deductions The deductions of a solver run.
+     * @return The board indices of the mines.
+     */
+    private static Set<Integer> mines(Deductions deductions)
+    {
+        Set<Integer> mines = new HashSet<>();
+        for (int i = 0; i < deductions.getMineCount(); i++)
+        {
+            mines.add(deductions.getMine(i));
+        }
+        return mines;
+    }
+
+    /**
+     * Collects the cells proven to be safe.
+     *
+     * @param deductions The deductions of a solver run.
+     * @return The board indices of the safe cells.
+     */
+    private static Set<Integer> safeCells(Deductions deductions)
+    {
+        Set<Integer> safe = new HashSet<>();
+        for (int i = 0; i < deductions.getSafeCount(); i++)
+        {
+            safe.add(deductions.getSafe(i));
+        }
+        return safe;
+    }
+}